@@ -1,18 +1,23 @@
 package com.gaethering.gaetheringserver.config;
 
-import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.amqp.core.Binding;
-import org.springframework.amqp.core.BindingBuilder;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessageCodec;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessagePublisher.ConfirmMode;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatRoomMessageRelay;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatWireFormat;
+import com.gaethering.gaetheringserver.domain.chat.broker.Jackson2CborMessageConverter;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,54 +29,114 @@ public class RabbitConfig {
     @Value("${spring.rabbitmq.host}")
     private String host;
 
+    @Value("${spring.rabbitmq.port:5672}")
+    private int port;
+
     @Value("${spring.rabbitmq.username}")
     private String username;
 
     @Value("${spring.rabbitmq.password}")
     private String password;
 
-    private static final String CHAT_QUEUE_NAME = "chat.queue";
-    private static final String CHAT_EXCHANGE_NAME = "chat.exchange";
-    private static final String ROUTING_KEY = "room.*";
+    @Value("${spring.rabbitmq.cache.channel.size:25}")
+    private int channelCacheSize;
+
+    /**
+     * 0 보다 크면 channel.size 가 채널 수의 상한이 되고, 빈 채널을 이 시간(ms)만큼 기다린다.
+     */
+    @Value("${spring.rabbitmq.cache.channel.checkout-timeout:0}")
+    private long channelCheckoutTimeout;
+
+    @Value("${spring.rabbitmq.requested-heartbeat:30}")
+    private int requestedHeartbeat;
+
+    @Value("${spring.rabbitmq.connection-timeout:5000}")
+    private int connectionTimeout;
+
+    @Value("${chat.broker.listener.recovery-interval:5000}")
+    private long recoveryInterval;
+
+    @Value("${chat.publisher.confirm-mode:correlated}")
+    private ConfirmMode confirmMode;
+
+    @Value("${chat.codec.broker-format:json}")
+    private ChatWireFormat brokerFormat;
+
+    public static final String CHAT_EXCHANGE_NAME = "chat.exchange";
+    public static final String ROOM_ROUTING_KEY_PREFIX = "room.";
 
+    /**
+     * 클라이언트가 구독하는 채팅방 destination 접두사. 뒤에 roomKey 가 붙는다.
+     */
+    public static final String ROOM_DESTINATION_PREFIX =
+        "/exchange/" + CHAT_EXCHANGE_NAME + "/" + ROOM_ROUTING_KEY_PREFIX;
+
+    private static final String CHAT_NODE_QUEUE_PREFIX = "chat.node.";
+
+    /**
+     * 노드마다 하나씩 쓰는 exclusive, auto-delete 큐. 이 노드에 구독자가 있는 방의 routing key 만
+     * ChatRoomBindingManager 가 바인딩한다.
+     */
     @Bean
-    public Queue queue(){ return new Queue(CHAT_QUEUE_NAME, true); }
+    public Queue chatNodeQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(CHAT_NODE_QUEUE_PREFIX));
+    }
 
     @Bean
     public TopicExchange exchange(){ return new TopicExchange(CHAT_EXCHANGE_NAME); }
 
     @Bean
-    public Binding binding(Queue queue, TopicExchange exchange) {
-        return BindingBuilder.bind(queue).to(exchange).with(ROUTING_KEY);
+    public SimpleMessageListenerContainer chatNodeQueueListenerContainer(
+        ConnectionFactory connectionFactory, Queue chatNodeQueue, ChatRoomMessageRelay relay,
+        @Value("${chat.broker.listener.auto-startup:true}") boolean autoStartup) {
+        SimpleMessageListenerContainer container =
+            new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueues(chatNodeQueue);
+        container.setMessageListener(relay);
+        container.setRecoveryInterval(recoveryInterval);
+        container.setAutoStartup(autoStartup);
+        return container;
     }
 
+    /**
+     * 발행, 노드 큐 소비, 바인딩 관리가 함께 쓰는 연결. 채널은 캐시해 재사용하고, 발행은
+     * RabbitTemplate 의 publisher 전용 연결로 분리해 소비 쪽 흐름 제어에 막히지 않게 한다.
+     * 끊긴 연결은 다음 사용 시 다시 맺고, 리스너는 recovery-interval 마다 재시도한다.
+     */
     @Bean
-    public RabbitTemplate rabbitTemplate(){
-        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory());
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
-        rabbitTemplate.setRoutingKey(CHAT_QUEUE_NAME);
-        return rabbitTemplate;
-    }
-
-
-    public ConnectionFactory connectionFactory(){
-        CachingConnectionFactory factory = new CachingConnectionFactory();
-        factory.setHost(host);
+    public CachingConnectionFactory connectionFactory() {
+        CachingConnectionFactory factory = new CachingConnectionFactory(host, port);
         factory.setUsername(username);
         factory.setPassword(password);
+        factory.setChannelCacheSize(channelCacheSize);
+        factory.setChannelCheckoutTimeout(channelCheckoutTimeout);
+        factory.setRequestedHeartBeat(requestedHeartbeat);
+        factory.setConnectionTimeout(connectionTimeout);
+        factory.setPublisherConfirmType(
+            confirmMode == ConfirmMode.BATCH ? ConfirmType.SIMPLE : ConfirmType.CORRELATED);
+        factory.setPublisherReturns(true);
         return factory;
     }
 
     @Bean
-    public Jackson2JsonMessageConverter jsonMessageConverter(){
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
-        objectMapper.registerModule(dateTimeModule());
-        return new Jackson2JsonMessageConverter(objectMapper);
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory,
+        MessageConverter chatMessageConverter) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMessageConverter(chatMessageConverter);
+        rabbitTemplate.setExchange(CHAT_EXCHANGE_NAME);
+        rabbitTemplate.setUsePublisherConnection(true);
+        rabbitTemplate.setMandatory(true);
+        return rabbitTemplate;
     }
 
+    /**
+     * 브로커 구간의 본문 형식. 받는 쪽은 content-type 을 보고 형식을 고르므로 노드마다 달라도 된다.
+     */
     @Bean
-    public Module dateTimeModule(){
-        return new JavaTimeModule();
+    public MessageConverter chatMessageConverter(ChatMessageCodec chatMessageCodec) {
+        ObjectMapper objectMapper = chatMessageCodec.getObjectMapper(brokerFormat);
+        return brokerFormat == ChatWireFormat.CBOR
+            ? new Jackson2CborMessageConverter(objectMapper)
+            : new Jackson2JsonMessageConverter(objectMapper);
     }
 }
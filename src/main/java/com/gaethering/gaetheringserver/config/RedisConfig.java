@@ -1,11 +1,15 @@
 package com.gaethering.gaetheringserver.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gaethering.gaetheringserver.domain.board.cache.CachedPostDetail;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -17,19 +21,53 @@ public class RedisConfig {
     @Value("${spring.redis.port}")
     private int redisPort;
 
+    @Value("${spring.redis.listener.auto-startup:true}")
+    private boolean listenerAutoStartup;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(redisHost, redisPort);
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
-        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+    public RedisTemplate<String, CachedPostDetail> postDetailRedisTemplate(
+        ObjectMapper objectMapper) {
+        RedisTemplate<String, CachedPostDetail> redisTemplate = new RedisTemplate<>();
+        Jackson2JsonRedisSerializer<CachedPostDetail> serializer
+            = new Jackson2JsonRedisSerializer<>(CachedPostDetail.class);
+        serializer.setObjectMapper(objectMapper);
 
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(serializer);
 
         return redisTemplate;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        ConfigurableListenerContainer container = new ConfigurableListenerContainer();
+
+        container.setConnectionFactory(redisConnectionFactory());
+        container.setAutoStartup(listenerAutoStartup);
+
+        return container;
+    }
+
+    /**
+     * 2.7 의 RedisMessageListenerContainer 에는 autoStartup 설정이 없어 setter 를 더한다.
+     */
+    static class ConfigurableListenerContainer extends RedisMessageListenerContainer {
+
+        private boolean autoStartup = true;
+
+        public void setAutoStartup(boolean autoStartup) {
+            this.autoStartup = autoStartup;
+        }
+
+        @Override
+        public boolean isAutoStartup() {
+            return autoStartup;
+        }
+    }
 }
\ No newline at end of file
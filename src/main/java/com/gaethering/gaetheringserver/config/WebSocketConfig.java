@@ -1,7 +1,15 @@
 package com.gaethering.gaetheringserver.config;
 
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessageCodec;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatWireFormat;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatWireFormatNegotiator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.security.config.annotation.web.socket.AbstractSecurityWebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -9,8 +17,12 @@ import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig extends AbstractSecurityWebSocketMessageBrokerConfigurer {
 
+    private final ChatWireFormatNegotiator chatWireFormatNegotiator;
+    private final ChatMessageCodec chatMessageCodec;
+
     @Value("${spring.rabbitmq.host}")
     private String host;
 
@@ -23,7 +35,9 @@ public class WebSocketConfig extends AbstractSecurityWebSocketMessageBrokerConfi
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");
-        registry.enableStompBrokerRelay("/queue", "/topic", "/exchange", "/amq/queue")
+        // 채팅방 메시지는 노드 큐에서 받아 이 노드의 구독자에게만 전달한다.
+        registry.enableSimpleBroker(RabbitConfig.ROOM_DESTINATION_PREFIX);
+        registry.enableStompBrokerRelay("/queue", "/topic", "/amq/queue")
             .setAutoStartup(true)
             .setRelayHost(host)
             .setRelayPort(61613)
@@ -36,7 +50,26 @@ public class WebSocketConfig extends AbstractSecurityWebSocketMessageBrokerConfi
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws-connect").setAllowedOriginPatterns("*").withSockJS();
-        registry.addEndpoint("/ws-connect").setAllowedOrigins("*");
+        registry.addEndpoint("/ws-connect").setAllowedOrigins("*")
+            .addInterceptors(chatWireFormatNegotiator.binaryFramesHandshakeInterceptor());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatWireFormatNegotiator);
+    }
+
+    /**
+     * content-type 이 application/cbor 인 SEND 만 CBOR 로 읽고, 나머지는 기본 변환기가 처리한다.
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        MappingJackson2MessageConverter cborConverter =
+            new MappingJackson2MessageConverter(ChatWireFormat.CBOR.getContentType());
+        cborConverter.setObjectMapper(chatMessageCodec.getObjectMapper(ChatWireFormat.CBOR));
+        cborConverter.setStrictContentTypeMatch(true);
+        messageConverters.add(cborConverter);
+        return true;
     }
 
     @Override
@@ -0,0 +1,15 @@
+package com.gaethering.gaetheringserver.core.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CommonErrorCode implements ErrorCode {
+
+    INVALID_CURSOR("E501", "페이지 커서가 올바르지 않습니다.");
+
+    private final String code;
+    private final String message;
+
+}
@@ -0,0 +1,8 @@
+package com.gaethering.gaetheringserver.core.exception;
+
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException() {
+        super(CommonErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,73 @@
+package com.gaethering.gaetheringserver.core.repository.support;
+
+import com.gaethering.gaetheringserver.core.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 키셋 페이지네이션에서 마지막으로 읽은 행의 정렬 키. id 만 쓰거나 (createdAt, id) 를 함께 쓴다.
+ * <p>
+ * 클라이언트에는 encode() 한 토큰으로 내보내므로 정렬 키 구성이 바뀌어도 API 형식은 그대로 둘 수 있다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    private static final String VERSION = "1";
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public static KeysetCursor of(long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor of(LocalDateTime createdAt, long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    public boolean hasCreatedAt() {
+        return createdAt != null;
+    }
+
+    public String encode() {
+        String raw = VERSION + DELIMITER + id;
+        if (hasCreatedAt()) {
+            raw += DELIMITER + createdAt;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰이 비어 있으면 첫 페이지를 뜻하므로 null 을 돌려준다.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, -1);
+            if (!VERSION.equals(parts[0]) || parts.length < 2 || parts.length > 3) {
+                throw new InvalidCursorException();
+            }
+
+            long id = Long.parseLong(parts[1]);
+            return parts.length == 2 ? of(id) : of(LocalDateTime.parse(parts[2]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
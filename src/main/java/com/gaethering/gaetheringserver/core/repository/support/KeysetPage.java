@@ -0,0 +1,70 @@
+package com.gaethering.gaetheringserver.core.repository.support;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 키셋 페이지네이션 결과. 다음 페이지가 있는지 알 수 있게 size + 1 개를 읽어 만든다.
+ * <p>
+ * 전체 개수는 필요한 화면에서만 withTotalCount 로 채우며, 채우지 않으면 null 이다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetPage<T> {
+
+    public static final long LAST_CURSOR = -1L;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final KeysetCursor nextCursor;
+    private final Long totalCount;
+
+    /**
+     * 요청한 페이지 크기를 [1, MAX_SIZE] 로 맞춘다. size + 1 개를 읽기 전에 이 값으로 바꿔 둔다.
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size 는 clampSize 로 맞춘 값이어야 한다.
+     */
+    public static <T> KeysetPage<T> of(List<T> contentWithNext, int size,
+        Function<T, KeysetCursor> cursorOf) {
+
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (contentWithNext.size() <= size) {
+            return new KeysetPage<>(contentWithNext, null, null);
+        }
+        List<T> content = contentWithNext.subList(0, size);
+        return new KeysetPage<>(content, cursorOf.apply(content.get(size - 1)), null);
+    }
+
+    public KeysetPage<T> withTotalCount(LongSupplier totalCount) {
+        return new KeysetPage<>(content, nextCursor, totalCount.getAsLong());
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * id 하나로 페이지를 넘기는 API 용. 마지막 페이지면 LAST_CURSOR 다.
+     */
+    public long getNextCursorId() {
+        return hasNext() ? nextCursor.getId() : LAST_CURSOR;
+    }
+
+    /**
+     * 마지막 페이지면 null 이다.
+     */
+    public String getNextCursorToken() {
+        return hasNext() ? nextCursor.encode() : null;
+    }
+}
@@ -1,11 +1,19 @@
 package com.gaethering.gaetheringserver.core.repository.support;
 
 import com.querydsl.core.types.EntityPath;
+import com.gaethering.gaetheringserver.core.exception.InvalidCursorException;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.core.types.dsl.PathBuilderFactory;
+import com.querydsl.core.types.dsl.Wildcard;
+import com.querydsl.jpa.JPAQueryMixin;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.PostConstruct;
@@ -69,23 +77,80 @@ public abstract class Querydsl4RepositorySupport {
         return getQueryFactory().selectFrom(from);
     }
 
+    /**
+     * 전체 개수는 contentQuery 에서 정렬을 뺀 COUNT 쿼리로 센다.
+     * <p>
+     * group by, distinct, fetch join 이 있는 쿼리는 이렇게 세면 틀리거나 실패하므로 받지 않는다.
+     * 그런 쿼리는 countQuery 를 따로 넘기는 메서드를 쓴다.
+     */
     protected <T> Page<T> applyPagination(Pageable pageable,
         Function<JPAQueryFactory, JPAQuery<T>> contentQuery) {
         JPAQuery<T> jpaQuery = contentQuery.apply(getQueryFactory());
+        if (!isCountable(jpaQuery.getMetadata())) {
+            throw new IllegalArgumentException(
+                "grouped, distinct or fetch join queries need an explicit count query");
+        }
+        JPAQuery<Long> countQuery = jpaQuery.clone().select(Wildcard.count);
+        countQuery.getMetadata().clearOrderBy();
         List<T> content = getQuerydsl().applyPagination(pageable,
             jpaQuery).fetch();
-        return PageableExecutionUtils.getPage(content, pageable,
-            () -> (long) jpaQuery.fetch().size());
+        return PageableExecutionUtils.getPage(content, pageable, () -> fetchCount(countQuery));
     }
 
     protected <T> Page<T> applyPagination(Pageable pageable,
         Function<JPAQueryFactory, JPAQuery<T>> contentQuery, Function<JPAQueryFactory,
-        JPAQuery<T>> countQuery) {
+        JPAQuery<Long>> countQuery) {
         JPAQuery<T> jpaContentQuery = contentQuery.apply(getQueryFactory());
         List<T> content = getQuerydsl().applyPagination(pageable,
             jpaContentQuery).fetch();
-        JPAQuery<T> countResult = countQuery.apply(getQueryFactory());
-        return PageableExecutionUtils.getPage(content, pageable,
-            () -> (long) countResult.fetch().size());
+        JPAQuery<Long> countResult = countQuery.apply(getQueryFactory());
+        return PageableExecutionUtils.getPage(content, pageable, () -> fetchCount(countResult));
+    }
+
+    /**
+     * contentQuery 에는 keysetBefore 조건과 그에 맞는 정렬이 들어 있어야 한다.
+     * size 는 KeysetPage.clampSize 로 맞춰 읽는다.
+     */
+    protected <T> KeysetPage<T> applyKeysetPagination(int size,
+        Function<T, KeysetCursor> cursorOf, Function<JPAQueryFactory, JPAQuery<T>> contentQuery) {
+        int pageSize = KeysetPage.clampSize(size);
+        List<T> contentWithNext = contentQuery.apply(getQueryFactory())
+            .limit(pageSize + 1L)
+            .fetch();
+        return KeysetPage.of(contentWithNext, pageSize, cursorOf);
+    }
+
+    /**
+     * id 내림차순에서 커서 다음 행들. 커서가 없으면 null 이라 where 에서 빠진다.
+     */
+    protected static BooleanExpression keysetBefore(NumberPath<Long> id, KeysetCursor cursor) {
+        return cursor == null ? null : id.lt(cursor.getId());
+    }
+
+    /**
+     * (createdAt, id) 내림차순에서 커서 다음 행들. createdAt 이 같은 행은 id 로 가른다.
+     */
+    protected static BooleanExpression keysetBefore(DateTimePath<LocalDateTime> createdAt,
+        NumberPath<Long> id, KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (!cursor.hasCreatedAt()) {
+            throw new InvalidCursorException();
+        }
+        return createdAt.lt(cursor.getCreatedAt())
+            .or(createdAt.eq(cursor.getCreatedAt()).and(id.lt(cursor.getId())));
+    }
+
+    private static boolean isCountable(QueryMetadata metadata) {
+        return metadata.getGroupBy().isEmpty()
+            && !metadata.isDistinct()
+            && metadata.getJoins().stream()
+            .noneMatch(join -> join.getFlags().contains(JPAQueryMixin.FETCH));
+    }
+
+    private static long fetchCount(JPAQuery<Long> countQuery) {
+        Long count = countQuery.fetchOne();
+        return count == null ? 0L : count;
     }
 }
@@ -0,0 +1,50 @@
+package com.gaethering.gaetheringserver.core.repository.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 목록 화면의 전체 개수를 짧게 캐싱해 스크롤할 때마다 COUNT 쿼리를 다시 날리지 않게 한다.
+ * 개수는 ttl 동안 조금 어긋날 수 있으므로 정확해야 하는 곳에는 카운터 컬럼을 쓴다.
+ */
+@Component
+public class TotalCountCache {
+
+    private final Cache<String, Long> counts;
+
+    public TotalCountCache(
+        @Value("${pagination.total-count-cache.max-size:10000}") long maxSize,
+        @Value("${pagination.total-count-cache.ttl:30s}") Duration ttl) {
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    public long get(String key, LongSupplier counter) {
+        return counts.get(key, k -> counter.getAsLong());
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지워서, 커밋 전 다른 요청이 이전 개수를 다시 채우지 못하게 한다.
+     */
+    public void evict(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        counts.invalidate(key);
+                    }
+                });
+            return;
+        }
+        counts.invalidate(key);
+    }
+}
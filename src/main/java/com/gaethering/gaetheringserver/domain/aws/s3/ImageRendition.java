@@ -0,0 +1,37 @@
+package com.gaethering.gaetheringserver.domain.aws.s3;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드한 원본 옆에 함께 저장하는 축소본. 원본이 post/{uuid}.png 면 post/{uuid}_thumb.jpg 처럼
+ * 같은 디렉터리에 접미사와 jpg 확장자를 붙여 저장한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageRendition {
+
+    THUMB("_thumb", 320),
+    MEDIUM("_medium", 1080);
+
+    public static final String EXTENSION = ".jpg";
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final String suffix;
+
+    /**
+     * 긴 변의 최대 픽셀 수. 원본이 이보다 작으면 크기는 그대로 두고 다시 인코딩만 한다.
+     */
+    private final int maxLength;
+
+    /**
+     * 원본 URL 또는 key 에 대응하는 축소본 URL 또는 key.
+     */
+    public String of(String original) {
+        int extension = original.lastIndexOf('.');
+        if (extension < original.lastIndexOf('/') + 1) {
+            extension = original.length();
+        }
+        return original.substring(0, extension) + suffix + EXTENSION;
+    }
+}
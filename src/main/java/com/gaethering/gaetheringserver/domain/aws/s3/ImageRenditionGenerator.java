@@ -0,0 +1,176 @@
+package com.gaethering.gaetheringserver.domain.aws.s3;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 이미지로 ImageRendition 축소본을 jpg 로 만든다.
+ * <p>
+ * 디코딩과 리샘플링은 CPU 와 메모리를 많이 쓰므로 rendition.threads 개의 스레드에서만 돌린다.
+ * 원본은 가장 큰 축소본의 두 배 정도가 되도록 subsampling 해서 읽으므로 큰 원본도 전체 해상도로 펼치지 않는다.
+ */
+@Slf4j
+@Component
+public class ImageRenditionGenerator {
+
+    private static final ImageRendition[] LARGEST_FIRST = Stream.of(ImageRendition.values())
+        .sorted(Comparator.comparingInt(ImageRendition::getMaxLength).reversed())
+        .toArray(ImageRendition[]::new);
+
+    private final float quality;
+    private final ThreadPoolExecutor renditionExecutor;
+
+    public ImageRenditionGenerator(
+        @Value("${cloud.aws.s3.rendition.threads:2}") int threads,
+        @Value("${cloud.aws.s3.rendition.queue-capacity:16}") int queueCapacity,
+        @Value("${cloud.aws.s3.rendition.quality:0.8}") float quality) {
+        this.quality = quality;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.renditionExecutor = new ThreadPoolExecutor(threads, threads,
+            60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> new Thread(runnable, "image-rendition-" + threadNumber.incrementAndGet()),
+            new CallerRunsPolicy());
+        this.renditionExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 이미지로 읽을 수 없는 원본이면 빈 Map 으로 완료된다.
+     */
+    public CompletableFuture<Map<ImageRendition, byte[]>> render(Callable<InputStream> source) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream inputStream = source.call()) {
+                return render(inputStream);
+            } catch (Exception e) {
+                log.warn("Failed to render image renditions", e);
+                return Map.of();
+            }
+        }, renditionExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        renditionExecutor.shutdown();
+        renditionExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private Map<ImageRendition, byte[]> render(InputStream inputStream) throws IOException {
+        BufferedImage image = read(inputStream, LARGEST_FIRST[0].getMaxLength() * 2);
+        if (image == null) {
+            return Map.of();
+        }
+
+        Map<ImageRendition, byte[]> renditions = new EnumMap<>(ImageRendition.class);
+        // 작은 축소본은 바로 앞에서 만든 큰 축소본을 줄여 만든다.
+        for (ImageRendition rendition : LARGEST_FIRST) {
+            image = resize(image, rendition.getMaxLength());
+            renditions.put(rendition, writeJpeg(image));
+        }
+        return renditions;
+    }
+
+    private static BufferedImage read(InputStream inputStream, int maxLength) throws IOException {
+        try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longest / maxLength);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 한 번에 절반 넘게 줄이면 bilinear 보간에서 계단 현상이 생기므로 목표 크기까지 절반씩 줄인다.
+     * 투명 영역은 흰색으로 채운다.
+     */
+    static BufferedImage resize(BufferedImage source, int maxLength) {
+        double scale = Math.min(1.0,
+            (double) maxLength / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
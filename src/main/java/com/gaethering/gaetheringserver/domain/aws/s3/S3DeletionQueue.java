@@ -0,0 +1,38 @@
+package com.gaethering.gaetheringserver.domain.aws.s3;
+
+import com.gaethering.gaetheringserver.domain.aws.s3.entity.S3ObjectDeletion;
+import com.gaethering.gaetheringserver.domain.aws.s3.repository.S3ObjectDeletionRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이미지를 바로 지우지 않고 호출한 트랜잭션 안에서 삭제 대상으로 기록한다. 트랜잭션이 롤백되면 기록도 사라지므로
+ * DB 에 남아 있는 이미지가 S3 에서 먼저 지워지는 일이 없다. 실제 삭제는 S3DeletionScheduler 가 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class S3DeletionQueue {
+
+    private final S3ObjectDeletionRepository deletionRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String filename, String dir) {
+        enqueue(List.of(filename), dir);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(List<String> filenames, String dir) {
+        LocalDateTime now = LocalDateTime.now();
+        deletionRepository.saveAll(filenames.stream()
+            .map(filename -> S3ObjectDeletion.builder()
+                .objectKey(dir + "/" + filename.substring(filename.lastIndexOf("/") + 1))
+                .nextAttemptAt(now)
+                .build())
+            .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.gaethering.gaetheringserver.domain.aws.s3;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 스트리밍 업로드의 part 버퍼를 재사용한다. 버퍼는 필요할 때 만들고 최대 buffers 개까지만 동시에 빌려주므로
+ * 업로드 수와 상관없이 part 버퍼가 차지하는 메모리는 part-size * buffers 를 넘지 않는다.
+ */
+@Component
+public class S3PartBufferPool {
+
+    private final int partSize;
+    private final long waitMillis;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<byte[]> idle = new ConcurrentLinkedQueue<>();
+
+    public S3PartBufferPool(
+        @Value("${cloud.aws.s3.upload.part-size:5MB}") DataSize partSize,
+        @Value("${cloud.aws.s3.upload.buffers:16}") int buffers,
+        @Value("${cloud.aws.s3.upload.buffer-wait:10000}") long waitMillis) {
+        this.partSize = Math.toIntExact(partSize.toBytes());
+        this.waitMillis = waitMillis;
+        this.permits = new Semaphore(buffers, true);
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * 빌려줄 버퍼가 없으면 buffer-wait 만큼 기다리고, 그래도 없으면 null 을 돌려준다.
+     */
+    public byte[] acquire() throws InterruptedException {
+        if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+            return null;
+        }
+        byte[] buffer = idle.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    public void release(byte[] buffer) {
+        idle.offer(buffer);
+        permits.release();
+    }
+
+    public int getAvailableBuffers() {
+        return permits.availablePermits();
+    }
+}
@@ -1,11 +1,30 @@
 package com.gaethering.gaetheringserver.domain.aws.s3;
 
+import java.io.InputStream;
+import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface S3Service {
 
     String uploadImage(MultipartFile multipartFile, String dir);
 
+    /**
+     * 여러 이미지를 동시에 올리고 요청 순서대로 URL 을 돌려준다. 하나라도 실패하면 올라간 것을 지우고 예외를 던진다.
+     */
+    List<String> uploadImages(List<MultipartFile> multipartFiles, String dir);
+
+    /**
+     * 본문을 part 단위로 읽는 대로 올린다. 확장자는 content-type 으로 정한다.
+     */
+    String uploadImageStream(InputStream inputStream, String contentType, String dir);
+
     void removeImage(String filename, String dir);
 
+    void removeImages(List<String> filenames, String dir);
+
+    /**
+     * 객체 key 와 그 축소본을 DeleteObjects 한 번에 최대 1000 개씩 지우고, 지우지 못한 key 를 돌려준다.
+     */
+    List<String> removeObjects(List<String> keys);
+
 }
@@ -1,36 +1,100 @@
 package com.gaethering.gaetheringserver.domain.aws.s3;
 
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.gaethering.gaetheringserver.core.type.FileExtension;
 import com.gaethering.gaetheringserver.domain.pet.exception.FailedUploadImageException;
 import com.gaethering.gaetheringserver.domain.pet.exception.ImageNotFoundException;
+import com.gaethering.gaetheringserver.domain.pet.exception.ImageSizeExceededException;
 import com.gaethering.gaetheringserver.domain.pet.exception.InvalidImageTypeException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * 여러 이미지는 upload.threads 개의 스레드로 동시에 올린다. 대기열이 차면 호출한 스레드가 직접 올려
+ * 스레드와 대기 중인 파일 수가 늘어나지 않는다.
+ * <p>
+ * 스트리밍 업로드는 요청 본문을 S3PartBufferPool 의 버퍼에 part 크기만큼 읽는 대로 multipart upload 의
+ * part 로 보내므로, 파일 전체를 메모리나 디스크에 담지 않고 첫 part 는 본문을 다 받기 전에 올라간다.
+ * <p>
+ * 원본을 올릴 때 ImageRendition 축소본도 같은 디렉터리에 올리고, 지울 때도 함께 지운다. 축소본을 만들 수 없는
+ * 원본은 원본을 축소본 key 로 복사해 두어 축소본 URL 이 항상 유효하다.
+ */
+@Slf4j
 @Component
 public class S3ServiceImpl implements S3Service {
 
+    private static final int MAX_DELETE_KEYS = 1000;
+
     private final AmazonS3 amazonS3;
     private final String bucket;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final S3PartBufferPool bufferPool;
+    private final ImageRenditionGenerator renditionGenerator;
+    private final long maxFileSize;
 
     @Autowired
     public S3ServiceImpl(AmazonS3 amazonS3,
-                         @Value("${cloud.aws.s3.bucket}") String bucket) {
+                         @Value("${cloud.aws.s3.bucket}") String bucket,
+                         @Value("${cloud.aws.s3.upload.threads:8}") int uploadThreads,
+                         @Value("${cloud.aws.s3.upload.queue-capacity:64}") int queueCapacity,
+                         S3PartBufferPool bufferPool,
+                         ImageRenditionGenerator renditionGenerator,
+                         @Value("${spring.servlet.multipart.max-file-size:50MB}") DataSize maxFileSize) {
         this.amazonS3 = amazonS3;
         this.bucket = bucket;
+        this.bufferPool = bufferPool;
+        this.renditionGenerator = renditionGenerator;
+        this.maxFileSize = maxFileSize.toBytes();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet()),
+                new CallerRunsPolicy());
+        this.uploadExecutor.allowCoreThreadTimeOut(true);
     }
 
     @Override
@@ -38,6 +102,175 @@ public class S3ServiceImpl implements S3Service {
 
         String fileName = createFileName(multipartFile.getOriginalFilename());
 
+        try {
+            return putImage(multipartFile, dir, fileName);
+        } catch (UncheckedIOException e) {
+            throw new FailedUploadImageException();
+        }
+    }
+
+    @Override
+    public List<String> uploadImages(List<MultipartFile> multipartFiles, String dir) {
+        // 파일 형식은 올리기 전에 모두 확인한다.
+        List<String> fileNames = multipartFiles.stream()
+                .map(file -> createFileName(file.getOriginalFilename()))
+                .collect(Collectors.toList());
+
+        List<CompletableFuture<String>> uploads = new ArrayList<>(multipartFiles.size());
+        for (int i = 0; i < multipartFiles.size(); i++) {
+            MultipartFile file = multipartFiles.get(i);
+            String fileName = fileNames.get(i);
+            uploads.add(CompletableFuture.supplyAsync(
+                    () -> putImage(file, dir, fileName), uploadExecutor));
+        }
+
+        try {
+            // allOf 는 실패가 있어도 모든 업로드가 끝난 뒤에 완료된다.
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            List<String> uploaded = uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+            removeImages(uploaded, dir);
+            log.warn("Failed to upload {} of {} images",
+                    uploads.size() - uploaded.size(), uploads.size(), e.getCause());
+            throw new FailedUploadImageException();
+        }
+
+        return uploads.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    @Override
+    public String uploadImageStream(InputStream inputStream, String contentType, String dir) {
+        String key = dir + "/" + UUID.randomUUID() + getExtension(contentType);
+
+        byte[] buffer = acquireBuffer();
+        int length;
+        try {
+            length = readPart(inputStream, buffer);
+        } catch (RuntimeException e) {
+            bufferPool.release(buffer);
+            throw e;
+        }
+
+        CompletableFuture<Map<ImageRendition, byte[]>> renditions;
+        if (length < buffer.length) {
+            // 한 part 안에 끝나면 multipart upload 없이 바로 올리고, 축소본도 버퍼에서 바로 만든다.
+            byte[] image = buffer;
+            int imageLength = length;
+            renditions = renditionGenerator.render(
+                    () -> new ByteArrayInputStream(image, 0, imageLength));
+            try {
+                putPart(key, contentType, buffer, length);
+            } finally {
+                // 축소본을 다 만든 뒤에 버퍼를 돌려준다.
+                renditions.join();
+                bufferPool.release(buffer);
+            }
+        } else {
+            multipartUpload(key, contentType, inputStream, buffer);
+            renditions = renditionGenerator.render(
+                    () -> amazonS3.getObject(bucket, key).getObjectContent());
+        }
+
+        try {
+            putRenditions(key, renditions.join());
+        } catch (RuntimeException e) {
+            removeImages(List.of(key), dir);
+            throw e;
+        }
+
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public void removeImage(String filename, String dir) {
+        amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                .withKeys(imageKeys(filename, dir).collect(Collectors.toList()))
+                .withQuiet(true));
+    }
+
+    @Override
+    public void removeImages(List<String> filenames, String dir) {
+        if (filenames.isEmpty()) {
+            return;
+        }
+        List<KeyVersion> keys = filenames.stream()
+                .flatMap(filename -> imageKeys(filename, dir))
+                .collect(Collectors.toList());
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+        } catch (SdkClientException e) {
+            log.error("Failed to remove images {}", filenames, e);
+        }
+    }
+
+    @Override
+    public List<String> removeObjects(List<String> keys) {
+        // 축소본 key 로 실패가 돌아와도 원본 key 를 다시 시도하도록 원본 key 를 기억한다.
+        Map<String, String> originalKeys = new LinkedHashMap<>();
+        for (String key : keys) {
+            originalKeys.put(key, key);
+            for (ImageRendition rendition : ImageRendition.values()) {
+                originalKeys.put(rendition.of(key), key);
+            }
+        }
+
+        List<String> objectKeys = new ArrayList<>(originalKeys.keySet());
+        Set<String> failed = new LinkedHashSet<>();
+        for (int from = 0; from < objectKeys.size(); from += MAX_DELETE_KEYS) {
+            List<String> batch = objectKeys.subList(from,
+                    Math.min(from + MAX_DELETE_KEYS, objectKeys.size()));
+            try {
+                amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                        .withKeys(batch.toArray(new String[0]))
+                        .withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failed.add(originalKeys.get(error.getKey())));
+            } catch (SdkClientException e) {
+                log.warn("Failed to remove {} objects", batch.size(), e);
+                batch.forEach(key -> failed.add(originalKeys.get(key)));
+            }
+        }
+        return new ArrayList<>(failed);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        uploadExecutor.shutdown();
+        uploadExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 원본을 올리는 동안 축소본을 만든다. 축소본을 올리지 못하면 원본도 지운다.
+     */
+    private String putImage(MultipartFile multipartFile, String dir, String fileName) {
+        CompletableFuture<Map<ImageRendition, byte[]>> renditions =
+                renditionGenerator.render(multipartFile::getInputStream);
+        String url = putObject(multipartFile, dir, fileName);
+        try {
+            putRenditions(dir + "/" + fileName, renditions.join());
+        } catch (RuntimeException e) {
+            removeImages(List.of(fileName), dir);
+            throw e;
+        }
+        return url;
+    }
+
+    private void putRenditions(String key, Map<ImageRendition, byte[]> renditions) {
+        for (ImageRendition rendition : ImageRendition.values()) {
+            byte[] image = renditions.get(rendition);
+            if (image != null) {
+                putPart(rendition.of(key), ImageRendition.CONTENT_TYPE, image, image.length);
+            } else {
+                amazonS3.copyObject(new CopyObjectRequest(bucket, key, bucket, rendition.of(key))
+                        .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+            }
+        }
+    }
+
+    private String putObject(MultipartFile multipartFile, String dir, String fileName) {
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentLength(multipartFile.getSize());
         objectMetadata.setContentType(multipartFile.getContentType());
@@ -48,16 +281,158 @@ public class S3ServiceImpl implements S3Service {
                     .withCannedAcl(CannedAccessControlList.PublicRead));
 
         } catch (IOException e) {
-            throw new FailedUploadImageException();
+            throw new UncheckedIOException(e);
         }
 
         return amazonS3.getUrl(bucket, dir + "/" + fileName).toString();
     }
 
-    @Override
-    public void removeImage(String filename, String dir) {
-        amazonS3.deleteObject(bucket,
-                dir + "/" + filename.substring(filename.lastIndexOf("/") + 1));
+    /**
+     * 앞 part 를 올리는 동안 다음 part 를 읽는다. 업로드 하나가 동시에 쥐는 버퍼는 두 개를 넘지 않는다.
+     */
+    private void multipartUpload(String key, String contentType, InputStream inputStream,
+            byte[] firstPart) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+
+        String uploadId;
+        try {
+            uploadId = amazonS3.initiateMultipartUpload(
+                    new InitiateMultipartUploadRequest(bucket, key, objectMetadata)
+                            .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+        } catch (SdkClientException e) {
+            bufferPool.release(firstPart);
+            throw e;
+        }
+
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        byte[] buffer = firstPart;
+        int length = firstPart.length;
+        long total = length;
+        try {
+            while (length > 0) {
+                parts.add(uploadPart(key, uploadId, parts.size() + 1, buffer, length));
+                buffer = null;
+                if (length < bufferPool.getPartSize()) {
+                    break;
+                }
+                if (parts.size() > 1) {
+                    parts.get(parts.size() - 2).join();
+                }
+
+                buffer = acquireBuffer();
+                length = readPart(inputStream, buffer);
+                total += length;
+                if (total > maxFileSize) {
+                    throw new ImageSizeExceededException();
+                }
+            }
+
+            List<PartETag> partETags = parts.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+            amazonS3.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (RuntimeException e) {
+            abortMultipartUpload(key, uploadId, parts);
+            if (e instanceof ImageSizeExceededException || e instanceof FailedUploadImageException) {
+                throw e;
+            }
+            log.warn("Failed to upload {} in {} parts", key, parts.size(), e);
+            throw new FailedUploadImageException();
+        } finally {
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
+        }
+    }
+
+    private CompletableFuture<PartETag> uploadPart(String key, String uploadId, int partNumber,
+            byte[] buffer, int length) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length)).getPartETag();
+            } finally {
+                bufferPool.release(buffer);
+            }
+        }, uploadExecutor);
+    }
+
+    private void abortMultipartUpload(String key, String uploadId,
+            List<CompletableFuture<PartETag>> parts) {
+        // 올라가는 중인 part 가 버퍼를 돌려준 뒤에 취소한다.
+        parts.forEach(part -> part.handle((etag, e) -> null).join());
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (SdkClientException e) {
+            log.warn("Failed to abort multipart upload of {}", key, e);
+        }
+    }
+
+    private void putPart(String key, String contentType, byte[] buffer, int length) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(length);
+        objectMetadata.setContentType(contentType);
+
+        amazonS3.putObject(new PutObjectRequest(bucket, key,
+                new ByteArrayInputStream(buffer, 0, length), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    private byte[] acquireBuffer() {
+        try {
+            byte[] buffer = bufferPool.acquire();
+            if (buffer == null) {
+                log.warn("No upload buffer was released in time");
+                throw new FailedUploadImageException();
+            }
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FailedUploadImageException();
+        }
+    }
+
+    /**
+     * 버퍼가 찰 때까지 읽는다. 버퍼보다 적게 읽었으면 스트림이 끝난 것이다.
+     */
+    private int readPart(InputStream inputStream, byte[] buffer) {
+        try {
+            return inputStream.readNBytes(buffer, 0, buffer.length);
+        } catch (IOException e) {
+            throw new FailedUploadImageException();
+        }
+    }
+
+    private String getExtension(String contentType) {
+        MimeType mimeType;
+        try {
+            mimeType = MimeTypeUtils.parseMimeType(contentType);
+        } catch (InvalidMimeTypeException e) {
+            throw new InvalidImageTypeException();
+        }
+        boolean supported = Stream.of(FileExtension.values())
+                .anyMatch(extension -> extension.name().equalsIgnoreCase(mimeType.getSubtype()));
+        if (!"image".equals(mimeType.getType()) || !supported) {
+            throw new InvalidImageTypeException();
+        }
+        return "." + mimeType.getSubtype();
+    }
+
+    private String objectKey(String filename, String dir) {
+        return dir + "/" + filename.substring(filename.lastIndexOf("/") + 1);
+    }
+
+    private Stream<KeyVersion> imageKeys(String filename, String dir) {
+        String key = objectKey(filename, dir);
+        return Stream.concat(Stream.of(key), Stream.of(ImageRendition.values()).map(r -> r.of(key)))
+                .map(KeyVersion::new);
     }
 
     private String createFileName(String filename) {
@@ -0,0 +1,42 @@
+package com.gaethering.gaetheringserver.domain.aws.s3.entity;
+
+import com.gaethering.gaetheringserver.core.entity.BaseCreatedTimeEntity;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지워야 할 S3 객체. 원본 key 만 저장하고 축소본은 지울 때 함께 지운다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "s3_object_deletion",
+    indexes = @Index(name = "idx_s3_object_deletion_next_attempt_at", columnList = "next_attempt_at"))
+public class S3ObjectDeletion extends BaseCreatedTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "s3_object_deletion_id")
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String objectKey;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+}
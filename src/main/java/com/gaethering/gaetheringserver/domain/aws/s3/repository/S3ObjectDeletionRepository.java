@@ -0,0 +1,23 @@
+package com.gaethering.gaetheringserver.domain.aws.s3.repository;
+
+import com.gaethering.gaetheringserver.domain.aws.s3.entity.S3ObjectDeletion;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface S3ObjectDeletionRepository extends JpaRepository<S3ObjectDeletion, Long> {
+
+    List<S3ObjectDeletion> findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+        LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update S3ObjectDeletion d set d.attempts = d.attempts + 1,"
+        + " d.nextAttemptAt = :nextAttemptAt where d.id in :ids")
+    int retryAt(@Param("ids") Collection<Long> ids,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -0,0 +1,124 @@
+package com.gaethering.gaetheringserver.domain.aws.s3.scheduler;
+
+import com.gaethering.gaetheringserver.domain.aws.s3.S3Service;
+import com.gaethering.gaetheringserver.domain.aws.s3.entity.S3ObjectDeletion;
+import com.gaethering.gaetheringserver.domain.aws.s3.repository.S3ObjectDeletionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * S3DeletionQueue 에 쌓인 객체를 batch-size 개씩 꺼내 DeleteObjects 로 지운다.
+ * <p>
+ * 지우지 못한 객체는 시도 횟수에 따라 retry-backoff 의 두 배씩, 최대 max-backoff 까지 미뤄 다시 시도한다.
+ * 같은 객체를 두 번 지워도 결과가 같으므로 여러 서버가 같은 행을 가져가도 문제없다.
+ */
+@Slf4j
+@Component
+public class S3DeletionScheduler {
+
+    private final S3ObjectDeletionRepository deletionRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long retryBackoff;
+    private final long maxBackoff;
+    private final Counter removedCounter;
+    private final Counter failedCounter;
+
+    public S3DeletionScheduler(S3ObjectDeletionRepository deletionRepository,
+        S3Service s3Service, TransactionTemplate transactionTemplate,
+        @Value("${cloud.aws.s3.deletion.batch-size:300}") int batchSize,
+        @Value("${cloud.aws.s3.deletion.retry-backoff:10000}") long retryBackoff,
+        @Value("${cloud.aws.s3.deletion.max-backoff:3600000}") long maxBackoff,
+        MeterRegistry meterRegistry) {
+        this.deletionRepository = deletionRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.removedCounter = meterRegistry.counter("s3.deletion.removed");
+        this.failedCounter = meterRegistry.counter("s3.deletion.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.deletion.interval:5000}")
+    public void drain() {
+        List<S3ObjectDeletion> deletions;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            deletions = deletionRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                now, PageRequest.of(0, batchSize));
+
+            if (!deletions.isEmpty() && !remove(deletions, now)) {
+                return;
+            }
+        } while (deletions.size() == batchSize);
+    }
+
+    /**
+     * S3 호출은 트랜잭션 밖에서 하고, 결과만 짧은 트랜잭션으로 반영한다.
+     */
+    private boolean remove(List<S3ObjectDeletion> deletions, LocalDateTime now) {
+        Set<String> failedKeys = new HashSet<>(s3Service.removeObjects(deletions.stream()
+            .map(S3ObjectDeletion::getObjectKey)
+            .distinct()
+            .collect(Collectors.toList())));
+
+        Map<Boolean, List<S3ObjectDeletion>> results = deletions.stream()
+            .collect(Collectors.partitioningBy(
+                deletion -> failedKeys.contains(deletion.getObjectKey())));
+        List<S3ObjectDeletion> removed = results.get(false);
+        List<S3ObjectDeletion> failed = results.get(true);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!removed.isEmpty()) {
+                    deletionRepository.deleteAllByIdInBatch(removed.stream()
+                        .map(S3ObjectDeletion::getId)
+                        .collect(Collectors.toList()));
+                }
+                retryLater(failed, now);
+            });
+        } catch (RuntimeException e) {
+            // 행이 남아 있으면 다음에 다시 지운다.
+            log.warn("Failed to record {} s3 object deletions", deletions.size(), e);
+            return false;
+        }
+
+        removedCounter.increment(removed.size());
+        if (!failed.isEmpty()) {
+            failedCounter.increment(failed.size());
+            log.warn("Failed to remove {} of {} s3 objects", failed.size(), deletions.size());
+        }
+        // 실패한 행은 뒤로 미뤄졌으므로 남은 행을 계속 꺼내도 같은 행을 다시 가져오지 않는다.
+        return true;
+    }
+
+    private void retryLater(List<S3ObjectDeletion> failed, LocalDateTime now) {
+        Map<Integer, List<Long>> idsByAttempts = failed.stream()
+            .collect(Collectors.groupingBy(S3ObjectDeletion::getAttempts,
+                Collectors.mapping(S3ObjectDeletion::getId, Collectors.toList())));
+
+        idsByAttempts.forEach((attempts, ids) -> deletionRepository.retryAt(ids,
+            now.plusNanos(backoff(attempts) * 1_000_000)));
+    }
+
+    private long backoff(int attempts) {
+        if (attempts >= Long.numberOfLeadingZeros(retryBackoff) - 1) {
+            return maxBackoff;
+        }
+        return Math.min(maxBackoff, retryBackoff << attempts);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gaethering.gaetheringserver.domain.board.cache;
+
+import com.gaethering.gaetheringserver.domain.board.dto.PostGetImageUrlResponse;
+import com.gaethering.gaetheringserver.domain.board.entity.Post;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CachedPostDetail {
+
+    private Long postId;
+
+    private String title;
+
+    private String content;
+
+    private String nickname;
+
+    private String writerEmail;
+
+    private LocalDateTime createdAt;
+
+    private List<PostGetImageUrlResponse> images;
+
+    public static CachedPostDetail of(Post post, List<PostGetImageUrlResponse> images) {
+        return CachedPostDetail.builder()
+            .postId(post.getId())
+            .title(post.getTitle())
+            .content(post.getContent())
+            .nickname(post.getMember().getNickname())
+            .writerEmail(post.getMember().getEmail())
+            .createdAt(post.getCreatedAt())
+            .images(images)
+            .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.gaethering.gaetheringserver.domain.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 상세의 변하지 않는 부분(제목, 본문, 작성자, 이미지, 작성일)을 로컬 캐시 → Redis 2단으로 캐싱한다.
+ * Redis 장애 시에는 캐시가 없는 것처럼 동작해 DB 에서 다시 읽는다.
+ * <p>
+ * 수정/삭제로 지울 때는 다른 서버의 로컬 캐시도 pub/sub 로 지운다.
+ * 구독이 끊겨 메시지를 놓친 서버는 local-ttl 이 지날 때까지 이전 값을 보여 줄 수 있다.
+ */
+@Slf4j
+@Component
+public class PostDetailCache implements MessageListener {
+
+    public static final String CHANNEL = "post-detail-evict";
+    private static final String KEY_PREFIX = "post:detail:";
+
+    private final RedisTemplate<String, CachedPostDetail> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, CachedPostDetail> localCache;
+    private final Duration redisTtl;
+
+    public PostDetailCache(RedisTemplate<String, CachedPostDetail> postDetailRedisTemplate,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        @Value("${board.post-cache.local-max-size:1000}") long localMaxSize,
+        @Value("${board.post-cache.local-ttl:10s}") Duration localTtl,
+        @Value("${board.post-cache.redis-ttl:10m}") Duration redisTtl) {
+
+        this.redisTemplate = postDetailRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localTtl)
+            .build();
+        this.redisTtl = redisTtl;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Optional<CachedPostDetail> get(Long postId) {
+        CachedPostDetail detail = localCache.getIfPresent(postId);
+        if (detail != null) {
+            return Optional.of(detail);
+        }
+
+        try {
+            detail = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read post detail cache. postId: {}", postId, e);
+            return Optional.empty();
+        }
+
+        if (detail != null) {
+            localCache.put(postId, detail);
+        }
+        return Optional.ofNullable(detail);
+    }
+
+    public void put(CachedPostDetail detail) {
+        localCache.put(detail.getPostId(), detail);
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + detail.getPostId(), detail, redisTtl);
+        } catch (DataAccessException e) {
+            log.warn("Failed to write post detail cache. postId: {}", detail.getPostId(), e);
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지워서, 커밋 전 다른 요청이 이전 값을 다시 채우지 못하게 한다.
+     */
+    public void evict(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictNow(postId);
+                    }
+                });
+            return;
+        }
+        evictNow(postId);
+    }
+
+    private void evictNow(Long postId) {
+        localCache.invalidate(postId);
+
+        try {
+            redisTemplate.delete(KEY_PREFIX + postId);
+            stringRedisTemplate.convertAndSend(CHANNEL, postId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict post detail cache. postId: {}", postId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid post detail evict message: {}", body);
+        }
+    }
+}
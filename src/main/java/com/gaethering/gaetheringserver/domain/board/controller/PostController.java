@@ -2,8 +2,10 @@ package com.gaethering.gaetheringserver.domain.board.controller;
 
 import com.gaethering.gaetheringserver.domain.board.dto.*;
 import com.gaethering.gaetheringserver.domain.board.service.PostService;
+import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -58,6 +60,18 @@ public class PostController {
 			postService.uploadPostImage(principal.getName(), postId, file));
 	}
 
+	/**
+	 * multipart 대신 이미지 바이트를 본문으로 받아 servlet 이 파일로 모으지 않고 바로 S3 로 흘려보낸다.
+	 */
+	@PostMapping(value = "/boards/{postId}/images",
+		consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
+	public ResponseEntity<PostImageUploadResponse> uploadPostImageStream(@PathVariable Long postId,
+		HttpServletRequest request, Principal principal) throws IOException {
+
+		return ResponseEntity.ok(postService.uploadPostImageStream(principal.getName(), postId,
+			request.getInputStream(), request.getContentType()));
+	}
+
 	@DeleteMapping("/boards/{postId}/images/{imageId}")
 	public ResponseEntity<Void> deletePostImage(@PathVariable Long postId,
 		@PathVariable Long imageId,
@@ -83,6 +97,14 @@ public class PostController {
 		return ResponseEntity.status(HttpStatus.OK).body(response);
 	}
 
+	@GetMapping("/boards/timeline")
+	public ResponseEntity<TimelineGetResponse> getTimeline (@RequestParam int size,
+									   @RequestParam Long lastPostId, Principal principal) {
+
+		TimelineGetResponse response = postService.getTimeline(principal.getName(), size, lastPostId);
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
 	@GetMapping("/boards/{categoryId}/{postId}")
 	public ResponseEntity<PostGetOneResponse> getOnePost (@PathVariable Long categoryId,
 														  @PathVariable Long postId, Principal principal) {
@@ -0,0 +1,72 @@
+package com.gaethering.gaetheringserver.domain.board.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 증가분을 메모리에 모아 두었다가 스케줄러가 주기적으로 DB 에 반영한다.
+ * dedup-window 가 0 보다 크면 같은 회원의 같은 게시글 재조회는 그 시간 동안 한 번만 센다.
+ */
+@Component
+public class PostViewCountBuffer {
+
+    private final ConcurrentMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> recentViews = new ConcurrentHashMap<>();
+    private final long dedupWindowMillis;
+
+    public PostViewCountBuffer(
+        @Value("${board.view-count.dedup-window:0}") long dedupWindowMillis) {
+        this.dedupWindowMillis = dedupWindowMillis;
+    }
+
+    public boolean increase(Long postId, Long memberId) {
+        if (isDuplicatedView(postId, memberId, System.currentTimeMillis())) {
+            return false;
+        }
+        pendingCounts.merge(postId, 1L, Long::sum);
+        return true;
+    }
+
+    public long getPendingCount(Long postId) {
+        return pendingCounts.getOrDefault(postId, 0L);
+    }
+
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+
+        for (Long postId : pendingCounts.keySet()) {
+            Long count = pendingCounts.remove(postId);
+            if (count != null) {
+                drained.put(postId, count);
+            }
+        }
+        return drained;
+    }
+
+    public void restore(Map<Long, Long> counts) {
+        counts.forEach((postId, count) -> pendingCounts.merge(postId, count, Long::sum));
+    }
+
+    public void evictExpiredViews() {
+        evictExpiredViews(System.currentTimeMillis());
+    }
+
+    void evictExpiredViews(long now) {
+        recentViews.values().removeIf(expiredAt -> expiredAt <= now);
+    }
+
+    boolean isDuplicatedView(Long postId, Long memberId, long now) {
+        if (dedupWindowMillis <= 0 || memberId == null) {
+            return false;
+        }
+        long expiredAt = now + dedupWindowMillis;
+        Long stored = recentViews.merge(postId + ":" + memberId, expiredAt,
+            (previous, current) -> previous > now ? previous : current);
+
+        return stored != expiredAt;
+    }
+}
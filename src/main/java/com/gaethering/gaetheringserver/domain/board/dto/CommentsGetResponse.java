@@ -1,6 +1,6 @@
 package com.gaethering.gaetheringserver.domain.board.dto;
 
-import com.gaethering.gaetheringserver.domain.board.util.ScrollPagingUtil;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -21,11 +21,11 @@ public class CommentsGetResponse {
     private long nextCursor;
 
 
-    public static CommentsGetResponse of (ScrollPagingUtil<CommentDetailResponse> commentsScroll, long totalCommentsCnt) {
-        if (commentsScroll.isLastScroll()) {
-            return CommentsGetResponse.newLastScroll(commentsScroll.getCurrentScrollItems(), totalCommentsCnt);
+    public static CommentsGetResponse of (KeysetPage<CommentDetailResponse> commentsPage, long totalCommentsCnt) {
+        if (!commentsPage.hasNext()) {
+            return CommentsGetResponse.newLastScroll(commentsPage.getContent(), totalCommentsCnt);
         }
-        return CommentsGetResponse.newScrollHasNext(commentsScroll.getCurrentScrollItems(), totalCommentsCnt, commentsScroll.getNextCursor().getCommentId());
+        return CommentsGetResponse.newScrollHasNext(commentsPage.getContent(), totalCommentsCnt, commentsPage.getNextCursorId());
 
     }
     private static CommentsGetResponse newLastScroll(List<CommentDetailResponse> commentsScroll, long totalCommentsCnt) {
@@ -15,5 +15,5 @@ public class HeartResponse {
 
     private Long postId;
 
-    private int heartCnt;
+    private long heartCnt;
 }
@@ -0,0 +1,15 @@
+package com.gaethering.gaetheringserver.domain.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostCountResponse {
+
+    private long viewCnt;
+
+    private long heartCnt;
+}
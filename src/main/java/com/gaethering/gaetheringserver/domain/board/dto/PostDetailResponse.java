@@ -1,7 +1,6 @@
 package com.gaethering.gaetheringserver.domain.board.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.gaethering.gaetheringserver.domain.board.entity.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,23 +28,4 @@ public class PostDetailResponse {
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
-
-    public void setImageUrl(String imageUrl) {
-        this.imageUrl = imageUrl;
-    }
-
-    public void setHasHeart(boolean hasHeart) {
-        this.hasHeart = hasHeart;
-    }
-
-    public static PostDetailResponse fromEntity(Post post) {
-        return PostDetailResponse.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .heartCnt(post.getHearts().size())
-                .commentCnt(post.getComments().size())
-                .createdAt(post.getCreatedAt())
-                .build();
-    }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.gaethering.gaetheringserver.domain.board.dto;
 
 import com.gaethering.gaetheringserver.domain.board.entity.PostImage;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class PostGetImageUrlResponse {
 
@@ -22,7 +22,7 @@ public class PostGetOneResponse {
 
     private String nickname;
 
-    private int heartCnt;
+    private long heartCnt;
 
     private long viewCnt;
 
@@ -20,20 +20,20 @@ public class PostUpdateResponse {
 	private String content;
 	private String categoryName;
 	private long viewCnt;
-	private int heartCnt;
+	private long heartCnt;
 	private String nickname;
 	private List<PostImageUrlResponse> imageUrls;
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 
-	public static PostUpdateResponse from(Post post, Member member, int heartCnt) {
+	public static PostUpdateResponse from(Post post, Member member) {
 		List<PostImageUrlResponse> imageUrls = post.getPostImages().stream().map(PostImageUrlResponse::of)
 			.collect(Collectors.toList());
 		return PostUpdateResponse.builder()
 			.title(post.getTitle())
 			.content(post.getContent())
 			.viewCnt(post.getViewCnt())
-			.heartCnt(heartCnt)
+			.heartCnt(post.getHeartCnt())
 			.categoryName(post.getCategory().getCategoryName())
 			.nickname(member.getNickname())
 			.imageUrls(imageUrls)
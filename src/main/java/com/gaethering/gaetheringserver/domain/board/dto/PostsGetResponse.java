@@ -1,6 +1,6 @@
 package com.gaethering.gaetheringserver.domain.board.dto;
 
-import com.gaethering.gaetheringserver.domain.board.util.ScrollPagingUtil;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -20,11 +20,11 @@ public class PostsGetResponse {
 
     private long nextCursor;
 
-    public static PostsGetResponse of (ScrollPagingUtil<PostDetailResponse> postsScroll, long totalPostsCnt) {
-        if (postsScroll.isLastScroll()) {
-            return PostsGetResponse.newLastScroll(postsScroll.getCurrentScrollItems(), totalPostsCnt);
+    public static PostsGetResponse of (KeysetPage<PostDetailResponse> postsPage, long totalPostsCnt) {
+        if (!postsPage.hasNext()) {
+            return PostsGetResponse.newLastScroll(postsPage.getContent(), totalPostsCnt);
         }
-        return PostsGetResponse.newScrollHasNext(postsScroll.getCurrentScrollItems(), totalPostsCnt, postsScroll.getNextCursor().getPostId());
+        return PostsGetResponse.newScrollHasNext(postsPage.getContent(), totalPostsCnt, postsPage.getNextCursorId());
 
     }
     private static PostsGetResponse newLastScroll(List<PostDetailResponse> postsScroll, long totalPostsCnt) {
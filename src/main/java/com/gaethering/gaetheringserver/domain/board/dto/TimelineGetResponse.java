@@ -0,0 +1,26 @@
+package com.gaethering.gaetheringserver.domain.board.dto;
+
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TimelineGetResponse {
+
+    private List<PostDetailResponse> posts = new ArrayList<>();
+
+    private long nextCursor;
+
+    /**
+     * 조회 사이에 지워진 게시물은 posts 에서 빠지므로 커서는 타임라인의 게시물 id 로 정한다.
+     */
+    public static TimelineGetResponse of(List<PostDetailResponse> posts,
+        KeysetPage<Long> postIdsPage) {
+        return new TimelineGetResponse(posts, postIdsPage.getNextCursorId());
+    }
+}
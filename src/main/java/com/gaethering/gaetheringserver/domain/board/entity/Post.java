@@ -11,15 +11,20 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@Table(name = "post", indexes = @Index(name = "idx_post_member", columnList = "member_id, post_id"))
 @Getter
+@DynamicUpdate
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -39,6 +44,12 @@ public class Post extends BaseTimeEntity {
     @ColumnDefault("0")
     private long viewCnt;
 
+    @ColumnDefault("0")
+    private long heartCnt;
+
+    @ColumnDefault("0")
+    private long commentCnt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -78,15 +89,7 @@ public class Post extends BaseTimeEntity {
         this.comments.add(comment);
     }
 
-    public void deleteComment (Comment comment) {
-        this.comments.remove(comment);
-    }
-
     public void pushPostHeart (Heart heart) {
         this.hearts.add(heart);
     }
-
-    public void cancelPostHeart (Heart heart) {
-        this.hearts.remove(heart);
-    }
 }
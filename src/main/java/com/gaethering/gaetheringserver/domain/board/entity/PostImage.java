@@ -26,6 +26,8 @@ public class PostImage extends BaseTimeEntity {
 
     private String imageUrl;
 
+    private String thumbnailUrl;
+
     private boolean isRepresentative;
 
     @ManyToOne(fetch = FetchType.LAZY)
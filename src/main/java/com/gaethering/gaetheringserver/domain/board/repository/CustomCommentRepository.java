@@ -1,6 +1,13 @@
 package com.gaethering.gaetheringserver.domain.board.repository;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetCursor;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import com.gaethering.gaetheringserver.domain.board.dto.CommentDetailResponse;
+
 public interface CustomCommentRepository {
 
 	long deleteCommentsAllByPostId(Long id);
+
+	KeysetPage<CommentDetailResponse> findCommentsByPostId(Long postId, String email,
+		KeysetCursor cursor, int size);
 }
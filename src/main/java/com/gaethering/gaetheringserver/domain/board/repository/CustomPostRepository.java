@@ -1,6 +1,41 @@
 package com.gaethering.gaetheringserver.domain.board.repository;
 
+import com.gaethering.gaetheringserver.domain.board.dto.PostCountResponse;
+import com.gaethering.gaetheringserver.domain.board.dto.PostDetailResponse;
+import com.gaethering.gaetheringserver.domain.member.dto.mypage.PostInfo;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface CustomPostRepository {
 
-    long updateViewCountByPostId(Long postId);
-}
\ No newline at end of file
+    long increaseViewCounts(Collection<Long> postIds, long count);
+
+    long increaseHeartCount(Long postId);
+
+    long decreaseHeartCount(Long postId);
+
+    long increaseCommentCount(Long postId);
+
+    long decreaseCommentCount(Long postId);
+
+    long findHeartCountByPostId(Long postId);
+
+    Optional<PostCountResponse> findPostCountById(Long postId);
+
+    List<Long> findPostIdsWithCountDrift(long lastPostId, int limit);
+
+    long reconcileCountsByPostId(Long postId);
+
+    List<PostDetailResponse> findPostsByCategory(Long categoryId, Long memberId, long lastPostId,
+        int limit);
+
+    List<Long> findFolloweePostIds(Long memberId, long lastPostId, long followerCntBelow,
+        int limit);
+
+    List<Long> findPostIdsByMemberIds(Collection<Long> memberIds, long lastPostId, int limit);
+
+    List<PostDetailResponse> findPostsByIds(Collection<Long> postIds, Long memberId);
+
+    List<PostInfo> findPostInfosByMemberId(Long memberId, long lastPostId, int limit);
+}
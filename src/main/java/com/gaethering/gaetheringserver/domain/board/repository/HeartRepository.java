@@ -12,11 +12,9 @@ import java.util.Optional;
 
 public interface HeartRepository extends JpaRepository<Heart, Long>, CustomHeartRepository {
 
-	Long countByPost(Post post);
-
 	Optional<Heart> findByPostAndMember (Post post, Member member);
 
-	boolean existsByPostAndMember (Post post, Member member);
+	boolean existsByPostIdAndMemberId(Long postId, Long memberId);
 
 	long deleteHeartAllByPostId(Long id);
 }
\ No newline at end of file
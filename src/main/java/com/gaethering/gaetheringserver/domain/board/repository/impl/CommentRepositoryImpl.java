@@ -1,10 +1,16 @@
 package com.gaethering.gaetheringserver.domain.board.repository.impl;
 
 import static com.gaethering.gaetheringserver.domain.board.entity.QComment.comment;
+import static com.gaethering.gaetheringserver.domain.member.entity.QMember.member;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetCursor;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
 import com.gaethering.gaetheringserver.core.repository.support.Querydsl4RepositorySupport;
+import com.gaethering.gaetheringserver.domain.board.dto.CommentDetailResponse;
 import com.gaethering.gaetheringserver.domain.board.entity.Comment;
 import com.gaethering.gaetheringserver.domain.board.repository.CustomCommentRepository;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
 
 public class CommentRepositoryImpl extends Querydsl4RepositorySupport implements
 	CustomCommentRepository {
@@ -20,4 +26,26 @@ public class CommentRepositoryImpl extends Querydsl4RepositorySupport implements
 			.where(comment.post.id.eq(id))
 			.execute();
 	}
+
+	/**
+	 * 작성자를 함께 조인해 댓글마다 작성자를 따로 읽지 않는다.
+	 */
+	@Override
+	public KeysetPage<CommentDetailResponse> findCommentsByPostId(Long postId, String email,
+		KeysetCursor cursor, int size) {
+
+		return applyKeysetPagination(size, response -> KeysetCursor.of(response.getCommentId()),
+			queryFactory -> queryFactory
+				.select(Projections.constructor(CommentDetailResponse.class,
+					comment.id,
+					member.id,
+					comment.content,
+					member.nickname,
+					new CaseBuilder().when(member.email.eq(email)).then(true).otherwise(false),
+					comment.createdAt))
+				.from(comment)
+				.join(comment.member, member)
+				.where(comment.post.id.eq(postId), keysetBefore(comment.id, cursor))
+				.orderBy(comment.id.desc()));
+	}
 }
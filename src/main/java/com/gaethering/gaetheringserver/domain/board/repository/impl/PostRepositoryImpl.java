@@ -1,13 +1,29 @@
 package com.gaethering.gaetheringserver.domain.board.repository.impl;
 
 import com.gaethering.gaetheringserver.core.repository.support.Querydsl4RepositorySupport;
+import com.gaethering.gaetheringserver.domain.board.dto.PostCountResponse;
+import com.gaethering.gaetheringserver.domain.board.dto.PostDetailResponse;
 import com.gaethering.gaetheringserver.domain.board.entity.Post;
 import com.gaethering.gaetheringserver.domain.board.repository.CustomPostRepository;
+import com.gaethering.gaetheringserver.domain.member.dto.mypage.PostInfo;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.gaethering.gaetheringserver.domain.board.entity.QComment.comment;
+import static com.gaethering.gaetheringserver.domain.board.entity.QHeart.heart;
 import static com.gaethering.gaetheringserver.domain.board.entity.QPost.post;
+import static com.gaethering.gaetheringserver.domain.board.entity.QPostImage.postImage;
+import static com.gaethering.gaetheringserver.domain.member.entity.QFollow.follow;
+import static com.gaethering.gaetheringserver.domain.member.entity.QMember.member;
 
 
 @Repository
@@ -19,15 +35,211 @@ public class PostRepositoryImpl extends Querydsl4RepositorySupport implements Cu
     }
 
     @Override
-    public long updateViewCountByPostId(Long postId) {
+    public long increaseViewCounts(Collection<Long> postIds, long count) {
 
         return getQueryFactory().update(post)
-                .set(post.viewCnt, post.viewCnt.add(1))
+                .set(post.viewCnt, post.viewCnt.add(count))
+                .where(post.id.in(postIds))
+                .execute();
+    }
+
+    @Override
+    public long increaseHeartCount(Long postId) {
+
+        return getQueryFactory().update(post)
+                .set(post.heartCnt, post.heartCnt.add(1))
+                .where(postIdEqual(postId))
+                .execute();
+    }
+
+    @Override
+    public long decreaseHeartCount(Long postId) {
+
+        return getQueryFactory().update(post)
+                .set(post.heartCnt, post.heartCnt.subtract(1))
+                .where(postIdEqual(postId), post.heartCnt.gt(0))
+                .execute();
+    }
+
+    @Override
+    public long increaseCommentCount(Long postId) {
+
+        return getQueryFactory().update(post)
+                .set(post.commentCnt, post.commentCnt.add(1))
                 .where(postIdEqual(postId))
                 .execute();
     }
 
+    @Override
+    public long decreaseCommentCount(Long postId) {
+
+        return getQueryFactory().update(post)
+                .set(post.commentCnt, post.commentCnt.subtract(1))
+                .where(postIdEqual(postId), post.commentCnt.gt(0))
+                .execute();
+    }
+
+    @Override
+    public long findHeartCountByPostId(Long postId) {
+
+        Long heartCnt = select(post.heartCnt)
+                .from(post)
+                .where(postIdEqual(postId))
+                .fetchOne();
+
+        return heartCnt == null ? 0 : heartCnt;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PostCountResponse> findPostCountById(Long postId) {
+
+        return Optional.ofNullable(select(Projections.constructor(PostCountResponse.class,
+                post.viewCnt,
+                post.heartCnt))
+                .from(post)
+                .where(postIdEqual(postId))
+                .fetchOne());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findPostIdsWithCountDrift(long lastPostId, int limit) {
+
+        return select(post.id)
+                .from(post)
+                .where(post.id.gt(lastPostId),
+                        post.heartCnt.ne(heartCount())
+                                .or(post.commentCnt.ne(commentCount())))
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long reconcileCountsByPostId(Long postId) {
+
+        return getQueryFactory().update(post)
+                .set(post.heartCnt, JPAExpressions.select(heart.count())
+                        .from(heart)
+                        .where(heart.post.id.eq(postId)))
+                .set(post.commentCnt, JPAExpressions.select(comment.count())
+                        .from(comment)
+                        .where(comment.post.id.eq(postId)))
+                .where(postIdEqual(postId))
+                .execute();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostDetailResponse> findPostsByCategory(Long categoryId, Long memberId,
+        long lastPostId, int limit) {
+
+        return select(postDetailResponse(memberId))
+                .from(post)
+                .leftJoin(post.postImages, postImage).on(postImage.isRepresentative.isTrue())
+                .where(post.category.id.eq(categoryId), post.id.lt(lastPostId))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findFolloweePostIds(Long memberId, long lastPostId, long followerCntBelow,
+        int limit) {
+
+        return select(post.id)
+                .from(post)
+                .join(post.member, member)
+                .where(member.id.in(JPAExpressions.select(follow.followee.id)
+                                .from(follow)
+                                .where(follow.follower.id.eq(memberId))),
+                        member.followerCnt.lt(followerCntBelow),
+                        post.id.lt(lastPostId))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findPostIdsByMemberIds(Collection<Long> memberIds, long lastPostId,
+        int limit) {
+
+        return select(post.id)
+                .from(post)
+                .where(post.member.id.in(memberIds), post.id.lt(lastPostId))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostDetailResponse> findPostsByIds(Collection<Long> postIds, Long memberId) {
+
+        return select(postDetailResponse(memberId))
+                .from(post)
+                .leftJoin(post.postImages, postImage).on(postImage.isRepresentative.isTrue())
+                .where(post.id.in(postIds))
+                .orderBy(post.id.desc())
+                .fetch();
+    }
+
+    /**
+     * 본문(TEXT) 없이 (member_id, post_id) 인덱스를 따라 필요한 세 컬럼만 읽는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostInfo> findPostInfosByMemberId(Long memberId, long lastPostId, int limit) {
+
+        return select(Projections.constructor(PostInfo.class,
+                post.id,
+                post.title,
+                post.createdAt))
+                .from(post)
+                .where(post.member.id.eq(memberId), post.id.lt(lastPostId))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private static Expression<PostDetailResponse> postDetailResponse(Long memberId) {
+        return Projections.constructor(PostDetailResponse.class,
+                post.id,
+                post.title,
+                post.content,
+                postImage.thumbnailUrl.coalesce(postImage.imageUrl),
+                post.heartCnt,
+                post.commentCnt,
+                hasHeart(memberId),
+                post.createdAt);
+    }
+
+    private static JPQLQuery<Long> heartCount() {
+        return JPAExpressions.select(heart.count())
+                .from(heart)
+                .where(heart.post.eq(post));
+    }
+
+    private static JPQLQuery<Long> commentCount() {
+        return JPAExpressions.select(comment.count())
+                .from(comment)
+                .where(comment.post.eq(post));
+    }
+
+    private static Expression<Boolean> hasHeart(Long memberId) {
+        return new CaseBuilder()
+                .when(JPAExpressions.selectOne()
+                        .from(heart)
+                        .where(heart.post.eq(post), heart.member.id.eq(memberId))
+                        .exists())
+                .then(true)
+                .otherwise(false);
+    }
+
     private static BooleanExpression postIdEqual(Long postId) {
         return post.id.eq(postId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.gaethering.gaetheringserver.domain.board.scheduler;
+
+import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글의 좋아요/댓글 카운터 컬럼을 실제 heart/comment 행 수와 주기적으로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountReconcileScheduler {
+
+    private final PostRepository postRepository;
+
+    @Value("${board.counter.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${board.counter.reconcile-initial-delay:60000}",
+        fixedDelayString = "${board.counter.reconcile-interval:3600000}")
+    public void reconcile() {
+        long reconciled = reconcileAll();
+
+        if (reconciled > 0) {
+            log.warn("Reconciled heart/comment counts of {} posts", reconciled);
+        }
+    }
+
+    public long reconcileAll() {
+        long reconciled = 0;
+        long lastPostId = 0;
+
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findPostIdsWithCountDrift(lastPostId, batchSize);
+
+            for (Long postId : postIds) {
+                reconciled += postRepository.reconcileCountsByPostId(postId);
+                lastPostId = postId;
+            }
+        } while (postIds.size() == batchSize);
+
+        return reconciled;
+    }
+}
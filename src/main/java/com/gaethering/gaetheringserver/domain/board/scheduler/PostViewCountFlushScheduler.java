@@ -0,0 +1,56 @@
+package com.gaethering.gaetheringserver.domain.board.scheduler;
+
+import com.gaethering.gaetheringserver.domain.board.counter.PostViewCountBuffer;
+import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 버퍼에 쌓인 조회수를 증가량별로 묶어 UPDATE ... WHERE post_id IN (...) 으로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountFlushScheduler {
+
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:3000}")
+    public void flush() {
+        Map<Long, Long> counts = viewCountBuffer.drain();
+
+        if (!counts.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(counts));
+            } catch (RuntimeException e) {
+                viewCountBuffer.restore(counts);
+                log.warn("Failed to flush view counts of {} posts", counts.size(), e);
+            }
+        }
+        viewCountBuffer.evictExpiredViews();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(Map<Long, Long> counts) {
+        Map<Long, List<Long>> postIdsByCount = counts.entrySet().stream()
+            .collect(Collectors.groupingBy(Entry::getValue,
+                Collectors.mapping(Entry::getKey, Collectors.toList())));
+
+        postIdsByCount.forEach(
+            (count, postIds) -> postRepository.increaseViewCounts(postIds, count));
+    }
+}
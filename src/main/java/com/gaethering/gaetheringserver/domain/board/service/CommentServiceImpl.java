@@ -1,5 +1,7 @@
 package com.gaethering.gaetheringserver.domain.board.service;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetCursor;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
 import com.gaethering.gaetheringserver.domain.board.dto.CommentDetailResponse;
 import com.gaethering.gaetheringserver.domain.board.dto.CommentRequest;
 import com.gaethering.gaetheringserver.domain.board.dto.CommentResponse;
@@ -12,17 +14,13 @@ import com.gaethering.gaetheringserver.domain.board.exception.NoPermissionUpdate
 import com.gaethering.gaetheringserver.domain.board.exception.PostNotFoundException;
 import com.gaethering.gaetheringserver.domain.board.repository.CommentRepository;
 import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
-import com.gaethering.gaetheringserver.domain.board.util.ScrollPagingUtil;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -52,6 +50,7 @@ public class CommentServiceImpl implements CommentService {
         commentRepository.save(comment);
 
         post.writeComment(comment);
+        postRepository.increaseCommentCount(post.getId());
 
         return CommentResponse.builder()
                 .memberId(comment.getMember().getId())
@@ -109,7 +108,7 @@ public class CommentServiceImpl implements CommentService {
             throw new NoPermissionDeleteCommentException();
         }
         commentRepository.delete(comment);
-        post.deleteComment(comment);
+        postRepository.decreaseCommentCount(post.getId());
 
         return true;
     }
@@ -121,21 +120,9 @@ public class CommentServiceImpl implements CommentService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException());
 
-        PageRequest pageRequest = PageRequest.of(0, size + 1);
-        List<Comment> comments
-                = commentRepository.findAllByPostAndIdIsLessThanOrderByIdDesc(post, lastCommentId, pageRequest);
+        KeysetPage<CommentDetailResponse> comments = commentRepository.findCommentsByPostId(
+                post.getId(), email, KeysetCursor.of(lastCommentId), size);
 
-        List<CommentDetailResponse> commentResponses = new ArrayList<>();
-
-        for(Comment comment : comments) {
-            CommentDetailResponse response = CommentDetailResponse.fromEntity(comment);
-            response.setOwner(email.equals(comment.getMember().getEmail()));
-            commentResponses.add(response);
-        }
-
-        ScrollPagingUtil<CommentDetailResponse> commentsCursor
-                = ScrollPagingUtil.of(commentResponses, size);
-
-        return CommentsGetResponse.of(commentsCursor, commentRepository.countByPost(post));
+        return CommentsGetResponse.of(comments, post.getCommentCnt());
     }
 }
@@ -39,12 +39,12 @@ public class HeartServiceImpl implements HeartService {
             Heart heart = optionalHeart.get();
 
             heartRepository.delete(heart);
-            post.cancelPostHeart(heart);
+            postRepository.decreaseHeartCount(post.getId());
 
             return HeartResponse.builder()
                     .memberId(member.getId())
                     .postId(post.getId())
-                    .heartCnt(heartRepository.countByPost(post).intValue())
+                    .heartCnt(postRepository.findHeartCountByPostId(post.getId()))
                     .build();
         }
 
@@ -56,11 +56,12 @@ public class HeartServiceImpl implements HeartService {
         heartRepository.save(newHeart);
 
         newHeart.mappingPost(post);
+        postRepository.increaseHeartCount(post.getId());
 
         return HeartResponse.builder()
                 .memberId(member.getId())
                 .postId(post.getId())
-                .heartCnt(heartRepository.countByPost(post).intValue())
+                .heartCnt(postRepository.findHeartCountByPostId(post.getId()))
                 .build();
     }
 }
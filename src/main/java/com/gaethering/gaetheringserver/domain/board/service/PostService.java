@@ -2,6 +2,7 @@ package com.gaethering.gaetheringserver.domain.board.service;
 
 import com.gaethering.gaetheringserver.domain.board.dto.*;
 
+import java.io.InputStream;
 import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -13,6 +14,9 @@ public interface PostService {
 
 	PostImageUploadResponse uploadPostImage(String email, Long postId, MultipartFile file);
 
+	PostImageUploadResponse uploadPostImageStream(String email, Long postId,
+		InputStream inputStream, String contentType);
+
 	boolean deletePostImage(String email, Long postId, Long imageId);
 
 	boolean deletePost(String email, Long postId);
@@ -20,4 +24,6 @@ public interface PostService {
 	PostsGetResponse getPosts (String email, Long categoryId, int size, long lastCommentId);
 
 	PostGetOneResponse getOnePost (Long categoryId, String email, Long postId);
+
+	TimelineGetResponse getTimeline (String email, int size, long lastPostId);
 }
\ No newline at end of file
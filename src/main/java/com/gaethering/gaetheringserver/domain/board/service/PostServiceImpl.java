@@ -1,6 +1,14 @@
 package com.gaethering.gaetheringserver.domain.board.service;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetCursor;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import com.gaethering.gaetheringserver.core.repository.support.TotalCountCache;
+import com.gaethering.gaetheringserver.domain.aws.s3.ImageRendition;
+import com.gaethering.gaetheringserver.domain.aws.s3.S3DeletionQueue;
 import com.gaethering.gaetheringserver.domain.aws.s3.S3Service;
+import com.gaethering.gaetheringserver.domain.board.cache.CachedPostDetail;
+import com.gaethering.gaetheringserver.domain.board.cache.PostDetailCache;
+import com.gaethering.gaetheringserver.domain.board.counter.PostViewCountBuffer;
 import com.gaethering.gaetheringserver.domain.board.dto.*;
 import com.gaethering.gaetheringserver.domain.board.entity.Category;
 import com.gaethering.gaetheringserver.domain.board.entity.Post;
@@ -15,19 +23,19 @@ import com.gaethering.gaetheringserver.domain.board.repository.CommentRepository
 import com.gaethering.gaetheringserver.domain.board.repository.HeartRepository;
 import com.gaethering.gaetheringserver.domain.board.repository.PostImageRepository;
 import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
-import com.gaethering.gaetheringserver.domain.board.util.ScrollPagingUtil;
+import com.gaethering.gaetheringserver.domain.board.timeline.HomeTimeline;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -35,20 +43,44 @@ import org.springframework.web.multipart.MultipartFile;
 public class PostServiceImpl implements PostService {
 
     private static final String DIR = "post";
+    private static final String CATEGORY_COUNT_KEY_PREFIX = "post:category:";
 
     private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
     private final MemberRepository memberRepository;
     private final PostImageRepository postImageRepository;
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
     private final HeartRepository heartRepository;
     private final CommentRepository commentRepository;
-
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostDetailCache postDetailCache;
+    private final HomeTimeline homeTimeline;
+    private final TotalCountCache totalCountCache;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 이미지는 트랜잭션 밖에서 먼저 올려 업로드하는 동안 DB 커넥션을 잡지 않는다.
+     * 게시물 저장이 실패하면 올린 이미지를 지운다.
+     */
     @Override
-    @Transactional
     public PostWriteResponse writePost(String email, Long categoryId,
         List<MultipartFile> files, PostWriteRequest request) {
 
+        List<String> imgUrls = getImageUrlsInRequest(files);
+
+        try {
+            return transactionTemplate.execute(
+                status -> savePost(email, categoryId, imgUrls, request));
+        } catch (RuntimeException e) {
+            s3Service.removeImages(imgUrls, DIR);
+            throw e;
+        }
+    }
+
+    private PostWriteResponse savePost(String email, Long categoryId, List<String> imgUrls,
+        PostWriteRequest request) {
+
         Member member = memberRepository.findByEmail(email)
             .orElseThrow(MemberNotFoundException::new);
 
@@ -64,8 +96,10 @@ public class PostServiceImpl implements PostService {
             .build();
 
         postRepository.save(post);
+        memberRepository.increasePostCount(member.getId());
+        totalCountCache.evict(categoryCountKey(category.getId()));
+        homeTimeline.fanOut(member, post.getId());
 
-        List<String> imgUrls = getImageUrlsInRequest(files);
         List<PostWriteImageUrlResponse> imageUrlResponses = new ArrayList<>();
 
         if (!imgUrls.isEmpty()) {
@@ -73,6 +107,7 @@ public class PostServiceImpl implements PostService {
             for (String imgUrl : imgUrls) {
                 PostImage image = PostImage.builder()
                     .imageUrl(imgUrl)
+                    .thumbnailUrl(ImageRendition.THUMB.of(imgUrl))
                     .isRepresentative(representative)
                     .post(post)
                     .build();
@@ -113,11 +148,10 @@ public class PostServiceImpl implements PostService {
             throw new NoPermissionUpdatePostException();
         }
 
-        Long heartCount = heartRepository.countByPost(post);
-
         post.updatePost(request.getTitle(), request.getContent());
+        postDetailCache.evict(postId);
 
-        return PostUpdateResponse.from(post, member, heartCount.intValue());
+        return PostUpdateResponse.from(post, member);
     }
 
     @Override
@@ -134,13 +168,48 @@ public class PostServiceImpl implements PostService {
 
         String imageUrl = s3Service.uploadImage(file, DIR);
 
+        return savePostImage(post, imageUrl);
+    }
+
+    /**
+     * 요청 본문을 받는 대로 올린 뒤 트랜잭션 안에서 작성자를 확인하고 저장한다.
+     * writePost 와 같이 저장이 실패하면 올린 이미지를 지운다.
+     */
+    @Override
+    public PostImageUploadResponse uploadPostImageStream(String email, Long postId,
+        InputStream inputStream, String contentType) {
+
+        String imageUrl = s3Service.uploadImageStream(inputStream, contentType, DIR);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                Member member = memberRepository.findByEmail(email)
+                    .orElseThrow(MemberNotFoundException::new);
+
+                Post post = postRepository.findById(postId)
+                    .orElseThrow(PostNotFoundException::new);
+
+                if (!member.getId().equals(post.getMember().getId())) {
+                    throw new NoPermissionUpdatePostException();
+                }
+                return savePostImage(post, imageUrl);
+            });
+        } catch (RuntimeException e) {
+            s3Service.removeImage(imageUrl, DIR);
+            throw e;
+        }
+    }
+
+    private PostImageUploadResponse savePostImage(Post post, String imageUrl) {
         PostImage postImage = PostImage.builder()
                 .imageUrl(imageUrl)
+                .thumbnailUrl(ImageRendition.THUMB.of(imageUrl))
                 .isRepresentative(false)
                 .post(post)
                 .build();
 
         PostImage savedPostImage = postImageRepository.save(postImage);
+        postDetailCache.evict(post.getId());
 
         return PostImageUploadResponse.builder()
                 .imageId(savedPostImage.getId())
@@ -166,8 +235,9 @@ public class PostServiceImpl implements PostService {
         PostImage postImage = postImageRepository.findById(imageId)
                 .orElseThrow(PostImageNotFoundException::new);
 
-        s3Service.removeImage(postImage.getImageUrl(), DIR);
+        s3DeletionQueue.enqueue(postImage.getImageUrl(), DIR);
         postImageRepository.delete(postImage);
+        postDetailCache.evict(postId);
 
         return true;
     }
@@ -192,31 +262,33 @@ public class PostServiceImpl implements PostService {
             deletePostImages(postImages);
         }
         postRepository.delete(post);
+        memberRepository.decreasePostCount(member.getId());
+        totalCountCache.evict(categoryCountKey(post.getCategory().getId()));
+        postDetailCache.evict(postId);
 
         return true;
     }
 
     private void deletePostImages(List<PostImage> postImages) {
-        for (PostImage postImage : postImages) {
-            s3Service.removeImage(postImage.getImageUrl(), DIR);
-        }
+        s3DeletionQueue.enqueue(postImages.stream()
+            .map(PostImage::getImageUrl)
+            .collect(Collectors.toList()), DIR);
     }
 
     public List<String> getImageUrlsInRequest(List<MultipartFile> files) {
-        List<String> imgUrls = new ArrayList<>();
-
-        for (MultipartFile file : files) {
-            if (!file.isEmpty()) {
-                String imgUrl = s3Service.uploadImage(file, DIR);
-                imgUrls.add(imgUrl);
-            }
+        if (files == null || files.isEmpty()) {
+            return List.of();
         }
 
-        return imgUrls;
+        List<MultipartFile> images = files.stream()
+            .filter(file -> !file.isEmpty())
+            .collect(Collectors.toList());
+
+        return images.isEmpty() ? List.of() : s3Service.uploadImages(images, DIR);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PostsGetResponse getPosts(String email, Long categoryId, int size, long lastPostId) {
 
         Category category = categoryRepository.findById(categoryId)
@@ -225,49 +297,74 @@ public class PostServiceImpl implements PostService {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new MemberNotFoundException());
 
-        PageRequest pageRequest = PageRequest.of(0, size + 1);
+        int pageSize = KeysetPage.clampSize(size);
+        List<PostDetailResponse> postResponses = postRepository.findPostsByCategory(
+                category.getId(), member.getId(), lastPostId, pageSize + 1);
 
-        List<Post> posts
-                = postRepository.findAllByCategoryAndIdIsLessThanOrderByIdDesc(category, lastPostId, pageRequest);
-
-        List<PostDetailResponse> postResponses = new ArrayList<>();
+        KeysetPage<PostDetailResponse> postsPage = KeysetPage.of(postResponses, pageSize,
+                response -> KeysetCursor.of(response.getPostId()));
+        long totalPostsCnt = totalCountCache.get(categoryCountKey(category.getId()),
+                () -> postRepository.countByCategory(category));
+        return PostsGetResponse.of(postsPage, totalPostsCnt);
+    }
 
-        for(Post post : posts) {
+    @Override
+    @Transactional(readOnly = true)
+    public PostGetOneResponse getOnePost(Long categoryId, String email, Long postId) {
 
-            PostDetailResponse response = PostDetailResponse.fromEntity(post);
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new MemberNotFoundException());
 
-            response.setHasHeart(heartRepository.existsByPostAndMember(post, member));
+        if(!categoryRepository.existsById(categoryId)) {
+            throw new CategoryNotFoundException();
+        }
 
-            Optional<PostImage> optionalPostImage
-                    = postImageRepository.findByPostAndIsRepresentativeIsTrue(post);
+        CachedPostDetail detail = postDetailCache.get(postId)
+                .orElseGet(() -> loadPostDetail(postId));
 
-            if(optionalPostImage.isPresent()) {
-                PostImage representativeImg = optionalPostImage.get();
+        PostCountResponse count = postRepository.findPostCountById(postId)
+                .orElseThrow(() -> new PostNotFoundException());
 
-                String imgUrl = representativeImg.getImageUrl();
-                response.setImageUrl(imgUrl);
-            }
+        viewCountBuffer.increase(postId, member.getId());
 
-            postResponses.add(response);
-        }
+        PostGetOneResponse response = PostGetOneResponse.builder()
+                .postId(detail.getPostId())
+                .title(detail.getTitle())
+                .content(detail.getContent())
+                .heartCnt(count.getHeartCnt())
+                .viewCnt(count.getViewCnt() + viewCountBuffer.getPendingCount(postId))
+                .createdAt(detail.getCreatedAt())
+                .nickname(detail.getNickname())
+                .images(detail.getImages())
+                .build();
 
-        ScrollPagingUtil<PostDetailResponse> postsCursor = ScrollPagingUtil.of(postResponses, size);
-        return PostsGetResponse.of(postsCursor, postRepository.countByCategory(category));
+        response.setOwner(email.equals(detail.getWriterEmail()));
+        response.setHasHeart(heartRepository.existsByPostIdAndMemberId(postId, member.getId()));
+        return response;
     }
 
+    /**
+     * 타임라인에서 게시물 id 한 페이지를 읽고, 게시물은 한 번의 쿼리로 채운다.
+     */
     @Override
-    @Transactional
-    public PostGetOneResponse getOnePost(Long categoryId, String email, Long postId) {
+    @Transactional(readOnly = true)
+    public TimelineGetResponse getTimeline(String email, int size, long lastPostId) {
 
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new MemberNotFoundException());
 
-        if(!categoryRepository.existsById(categoryId)) {
-            throw new CategoryNotFoundException();
-        }
+        int pageSize = KeysetPage.clampSize(size);
+        List<Long> postIds = homeTimeline.getPostIds(member.getId(), lastPostId, pageSize + 1);
+        KeysetPage<Long> postIdsPage = KeysetPage.of(postIds, pageSize, KeysetCursor::of);
 
-        postRepository.updateViewCountByPostId(postId);
+        List<Long> pagePostIds = postIdsPage.getContent();
+        List<PostDetailResponse> posts = pagePostIds.isEmpty() ? List.of()
+                : postRepository.findPostsByIds(pagePostIds, member.getId());
 
+        return TimelineGetResponse.of(posts, postIdsPage);
+    }
+
+    private CachedPostDetail loadPostDetail(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException());
 
@@ -275,19 +372,12 @@ public class PostServiceImpl implements PostService {
                 = postImageRepository.findAllByPost(post)
                 .stream().map(PostGetImageUrlResponse:: fromEntity).collect(Collectors.toList());
 
-        PostGetOneResponse response = PostGetOneResponse.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .heartCnt(post.getHearts().size())
-                .viewCnt(post.getViewCnt())
-                .createdAt(post.getCreatedAt())
-                .nickname(post.getMember().getNickname())
-                .images(imgUrls)
-                .build();
+        CachedPostDetail detail = CachedPostDetail.of(post, imgUrls);
+        postDetailCache.put(detail);
+        return detail;
+    }
 
-        response.setOwner(email.equals(post.getMember().getEmail()));
-        response.setHasHeart(heartRepository.existsByPostAndMember(post, member));
-        return response;
+    private static String categoryCountKey(Long categoryId) {
+        return CATEGORY_COUNT_KEY_PREFIX + categoryId;
     }
-}
\ No newline at end of file
+}
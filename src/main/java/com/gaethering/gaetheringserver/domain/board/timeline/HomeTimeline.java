@@ -0,0 +1,249 @@
+package com.gaethering.gaetheringserver.domain.board.timeline;
+
+import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
+import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import com.gaethering.gaetheringserver.domain.member.repository.follow.FollowRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 팔로우한 회원들의 게시물을 모은 홈 타임라인.
+ * <p>
+ * 회원별로 게시물 id 를 최근 max-size 개까지 Redis sorted set 에 쌓아 두고(fan-out-on-write),
+ * 팔로워가 fan-out-threshold 명 이상인 회원의 게시물은 쌓지 않고 읽을 때 DB 에서 가져와 합친다(fan-out-on-read).
+ * 타임라인은 읽을 때만 ttl 을 늘리므로 한동안 읽지 않은 회원의 타임라인은 사라지고, 다음에 읽을 때 DB 에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class HomeTimeline {
+
+    private static final String KEY_PREFIX = "timeline:home:";
+
+    /**
+     * 타임라인이 잘리지 않았다는 표시. 점수가 0 이라 max-size 를 넘으면 가장 먼저 잘려 나간다.
+     */
+    private static final String COMPLETE_MARKER = "0";
+
+    /**
+     * 이미 만들어진 타임라인에만 게시물을 넣는다. 없는 타임라인에 넣으면 이전 게시물이 빠진 채로 만들어진다.
+     */
+    private static final RedisScript<Long> FAN_OUT_SCRIPT = new DefaultRedisScript<>(
+        "local added = 0\n"
+            + "for _, key in ipairs(KEYS) do\n"
+            + "  if redis.call('EXISTS', key) == 1 then\n"
+            + "    redis.call('ZADD', key, ARGV[1], ARGV[1])\n"
+            + "    redis.call('ZREMRANGEBYRANK', key, 0, -tonumber(ARGV[2]) - 1)\n"
+            + "    added = added + 1\n"
+            + "  end\n"
+            + "end\n"
+            + "return added", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final int maxSize;
+    private final long fanOutThreshold;
+    private final int batchSize;
+    private final Duration ttl;
+    private final ThreadPoolExecutor fanOutExecutor;
+
+    public HomeTimeline(StringRedisTemplate redisTemplate,
+        FollowRepository followRepository,
+        PostRepository postRepository,
+        @Value("${board.timeline.max-size:800}") int maxSize,
+        @Value("${board.timeline.fan-out-threshold:10000}") long fanOutThreshold,
+        @Value("${board.timeline.fan-out-batch-size:1000}") int batchSize,
+        @Value("${board.timeline.ttl:7d}") Duration ttl,
+        @Value("${board.timeline.fan-out-threads:2}") int threads,
+        @Value("${board.timeline.fan-out-queue-capacity:1000}") int queueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+        this.maxSize = maxSize;
+        this.fanOutThreshold = fanOutThreshold;
+        this.batchSize = batchSize;
+        this.ttl = ttl;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fanOutExecutor = new ThreadPoolExecutor(threads, threads,
+            60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> new Thread(runnable, "timeline-fan-out-" + threadNumber.incrementAndGet()),
+            (task, executor) -> log.warn("Dropped home timeline fan-out. queued: {}",
+                executor.getQueue().size()));
+        this.fanOutExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 팔로워들의 타임라인에 넣는다.
+     * 큐가 가득 차면 버리고, 빠진 게시물은 타임라인을 다시 만들 때 채워진다.
+     */
+    public void fanOut(Member author, Long postId) {
+        if (author.getFollowerCnt() >= fanOutThreshold) {
+            return;
+        }
+
+        Runnable task = () -> fanOutNow(author.getId(), postId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        fanOutExecutor.execute(task);
+                    }
+                });
+            return;
+        }
+        fanOutExecutor.execute(task);
+    }
+
+    void fanOutNow(Long authorId, Long postId) {
+        String maxSizeArg = String.valueOf(maxSize);
+        long lastFollowId = Long.MAX_VALUE;
+
+        List<FollowResponse> followers;
+        do {
+            followers = followRepository.findFollowers(authorId, lastFollowId, batchSize);
+            if (followers.isEmpty()) {
+                return;
+            }
+
+            List<String> keys = followers.stream()
+                .map(follower -> key(follower.getId()))
+                .collect(Collectors.toList());
+            try {
+                redisTemplate.execute(FAN_OUT_SCRIPT, keys, postId.toString(), maxSizeArg);
+            } catch (DataAccessException e) {
+                log.warn("Failed to fan out post {} to {} followers", postId, keys.size(), e);
+            }
+            lastFollowId = followers.get(followers.size() - 1).getFollowId();
+        } while (followers.size() == batchSize);
+    }
+
+    /**
+     * lastPostId 보다 오래된 게시물 id 를 최신순으로 최대 limit 개 돌려준다.
+     * Redis 를 쓸 수 없으면 DB 에서 바로 읽는다.
+     */
+    public List<Long> getPostIds(Long memberId, long lastPostId, int limit) {
+        List<Long> postIds;
+        try {
+            postIds = readMaterialized(memberId, lastPostId, limit);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read home timeline. memberId: {}", memberId, e);
+            postIds = postRepository.findFolloweePostIds(memberId, lastPostId, fanOutThreshold,
+                limit);
+        }
+
+        List<Long> largeFolloweeIds = followRepository.findFolloweeIds(memberId,
+            fanOutThreshold);
+        if (largeFolloweeIds.isEmpty()) {
+            return postIds;
+        }
+        return merge(postIds,
+            postRepository.findPostIdsByMemberIds(largeFolloweeIds, lastPostId, limit), limit);
+    }
+
+    /**
+     * 팔로우 관계가 바뀌면 다음에 읽을 때 다시 만들도록 지운다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지워서, 커밋 전 다른 요청이 이전 관계로 다시 만들지 못하게 한다.
+     */
+    public void invalidate(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        invalidateNow(memberId);
+                    }
+                });
+            return;
+        }
+        invalidateNow(memberId);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        fanOutExecutor.shutdown();
+        fanOutExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private List<Long> readMaterialized(Long memberId, long lastPostId, int limit) {
+        String key = key(memberId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            rebuild(memberId, key);
+        }
+        redisTemplate.expire(key, ttl);
+
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        Set<String> members = zSet.reverseRangeByScore(key, 1, lastPostId - 1, 0, limit);
+        List<Long> postIds = new ArrayList<>();
+        if (members != null) {
+            members.forEach(member -> postIds.add(Long.valueOf(member)));
+        }
+
+        // 잘려 나간 타임라인의 끝을 넘어가면 나머지는 DB 에서 이어 읽는다.
+        if (postIds.size() < limit && zSet.score(key, COMPLETE_MARKER) == null) {
+            long oldestPostId = postIds.isEmpty() ? lastPostId : postIds.get(postIds.size() - 1);
+            postIds.addAll(postRepository.findFolloweePostIds(memberId, oldestPostId,
+                fanOutThreshold, limit - postIds.size()));
+        }
+        return postIds;
+    }
+
+    private void rebuild(Long memberId, String key) {
+        List<Long> postIds = postRepository.findFolloweePostIds(memberId, Long.MAX_VALUE,
+            fanOutThreshold, maxSize);
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        postIds.forEach(postId -> tuples.add(
+            new DefaultTypedTuple<>(postId.toString(), postId.doubleValue())));
+        if (postIds.size() < maxSize) {
+            tuples.add(new DefaultTypedTuple<>(COMPLETE_MARKER, 0d));
+        }
+        redisTemplate.opsForZSet().add(key, tuples);
+    }
+
+    private void invalidateNow(Long memberId) {
+        try {
+            redisTemplate.delete(key(memberId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to invalidate home timeline. memberId: {}", memberId, e);
+        }
+    }
+
+    private static List<Long> merge(List<Long> postIds, List<Long> otherPostIds, int limit) {
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        merged.addAll(postIds);
+        merged.addAll(otherPostIds);
+        return merged.stream()
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
@@ -0,0 +1,63 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 형식별 ObjectMapper 를 한 번만 만들어 AMQP 변환기, STOMP 변환기, 형식 변환이 함께 쓴다.
+ * 애플리케이션 ObjectMapper 와 같은 builder 설정을 따르고, 날짜는 기존 메시지처럼 epoch millis 로 쓴다.
+ */
+@Component
+public class ChatMessageCodec {
+
+    private final Map<ChatWireFormat, ObjectMapper> objectMappers =
+        new EnumMap<>(ChatWireFormat.class);
+
+    public ChatMessageCodec(Jackson2ObjectMapperBuilder builder) {
+        builder.featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMappers.put(ChatWireFormat.JSON, builder.build());
+        objectMappers.put(ChatWireFormat.CBOR, builder.factory(new CBORFactory()).build());
+    }
+
+    public ObjectMapper getObjectMapper(ChatWireFormat format) {
+        return objectMappers.get(format);
+    }
+
+    public byte[] encode(Object payload, ChatWireFormat format) {
+        try {
+            return getObjectMapper(format).writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to encode chat message as " + format, e);
+        }
+    }
+
+    public <T> T decode(byte[] body, ChatWireFormat format, Class<T> type) {
+        try {
+            return getObjectMapper(format).readValue(body, type);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to decode chat message from " + format, e);
+        }
+    }
+
+    /**
+     * 타입을 거치지 않고 트리로 읽어 다른 형식으로 다시 쓴다.
+     */
+    public byte[] transcode(byte[] body, ChatWireFormat from, ChatWireFormat to) {
+        if (from == to) {
+            return body;
+        }
+        try {
+            return getObjectMapper(to).writeValueAsBytes(getObjectMapper(from).readTree(body));
+        } catch (IOException e) {
+            throw new MessageConversionException(
+                "Failed to transcode chat message from " + from + " to " + to, e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static com.gaethering.gaetheringserver.config.RabbitConfig.CHAT_EXCHANGE_NAME;
+import static com.gaethering.gaetheringserver.config.RabbitConfig.ROOM_ROUTING_KEY_PREFIX;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지를 chat.exchange 의 room.{roomKey} 로 발행한다.
+ * <ul>
+ *     <li>NONE: 확인 없이 바로 발행한다.</li>
+ *     <li>CORRELATED: 메시지마다 CorrelationData 를 붙여 발행하고 confirm 은 비동기로 받는다.</li>
+ *     <li>BATCH: 발행 스레드가 쌓인 메시지를 batch-size 만큼 한 채널로 보낸 뒤 publisher confirm 을
+ *     한 번만 기다린다. 부하가 적으면 한 건씩, 많으면 여러 건이 한 번의 확인을 나눠 쓴다.
+ *     확인받지 못한 배치는 몇 번 다시 보낸다.</li>
+ * </ul>
+ * 발행부터 confirm 까지의 시간(chat.publisher.latency)과 아직 confirm 받지 못한 수
+ * (chat.publisher.unconfirmed)를 기록한다.
+ */
+@Slf4j
+@Component
+public class ChatMessagePublisher {
+
+    public enum ConfirmMode {
+        NONE, CORRELATED, BATCH
+    }
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ConfirmMode confirmMode;
+    private final int batchSize;
+    private final long confirmTimeout;
+    private final BlockingQueue<PendingPublish> pending;
+    private final ExecutorService executor;
+    private final Counter confirmedCounter;
+    private final Counter failedCounter;
+    private final Counter returnedCounter;
+    private final Timer latencyTimer;
+    private final AtomicInteger unconfirmed = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    public ChatMessagePublisher(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+        @Value("${chat.publisher.confirm-mode:correlated}") ConfirmMode confirmMode,
+        @Value("${chat.publisher.batch-size:100}") int batchSize,
+        @Value("${chat.publisher.capacity:10000}") int capacity,
+        @Value("${chat.publisher.confirm-timeout:5000}") long confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmMode = confirmMode;
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.pending = new ArrayBlockingQueue<>(capacity);
+        this.confirmedCounter = meterRegistry.counter("chat.publisher.confirmed");
+        this.failedCounter = meterRegistry.counter("chat.publisher.failed");
+        this.returnedCounter = meterRegistry.counter("chat.publisher.returned");
+        this.latencyTimer = meterRegistry.timer("chat.publisher.latency");
+        meterRegistry.gauge("chat.publisher.pending", pending, BlockingQueue::size);
+        meterRegistry.gauge("chat.publisher.unconfirmed", unconfirmed);
+
+        // 구독자가 있는 노드가 없는 방의 메시지는 라우팅되지 않고 돌아온다.
+        rabbitTemplate.setReturnsCallback(returned -> returnedCounter.increment());
+
+        if (confirmMode == ConfirmMode.BATCH) {
+            this.executor = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(runnable, "chat-publisher"));
+            this.executor.execute(this::publishLoop);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public void publish(String roomKey, Object payload) {
+        String routingKey = ROOM_ROUTING_KEY_PREFIX + roomKey;
+        if (confirmMode == ConfirmMode.NONE) {
+            rabbitTemplate.convertAndSend(CHAT_EXCHANGE_NAME, routingKey, payload);
+            return;
+        }
+        if (confirmMode == ConfirmMode.CORRELATED) {
+            publishCorrelated(routingKey, payload);
+            return;
+        }
+
+        PendingPublish message = new PendingPublish(routingKey, payload);
+        unconfirmed.incrementAndGet();
+        if (!pending.offer(message)) {
+            publishBatch(List.of(message));
+        }
+    }
+
+    private void publishCorrelated(String routingKey, Object payload) {
+        CorrelationData correlation = new CorrelationData();
+        long start = System.nanoTime();
+        unconfirmed.incrementAndGet();
+        correlation.getFuture().addCallback(
+            confirm -> {
+                complete(start, 1);
+                if (confirm != null && confirm.isAck()) {
+                    confirmedCounter.increment();
+                } else {
+                    failedCounter.increment();
+                    log.warn("Chat message to {} was not confirmed: {}", routingKey,
+                        confirm == null ? null : confirm.getReason());
+                }
+            },
+            e -> {
+                complete(start, 1);
+                failedCounter.increment();
+            });
+
+        try {
+            rabbitTemplate.convertAndSend(CHAT_EXCHANGE_NAME, routingKey, payload, correlation);
+        } catch (AmqpException e) {
+            // 이미 confirm 이 왔다면 무시되므로 한 번만 집계된다.
+            correlation.getFuture().set(new Confirm(false, e.getMessage()));
+            throw e;
+        }
+    }
+
+    private void complete(long start, int count) {
+        unconfirmed.addAndGet(-count);
+        long elapsed = System.nanoTime() - start;
+        for (int i = 0; i < count; i++) {
+            latencyTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(confirmTimeout, TimeUnit.MILLISECONDS)) {
+            log.error("{} chat messages were not published on shutdown", pending.size());
+        }
+    }
+
+    private void publishLoop() {
+        List<PendingPublish> batch = new ArrayList<>(batchSize);
+        while (running || !pending.isEmpty()) {
+            try {
+                PendingPublish first = pending.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch, batchSize - 1);
+                publishBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * confirm 을 받지 못한 배치는 MAX_BATCH_ATTEMPTS 번까지 다시 보내므로 같은 메시지가 두 번 전달될 수 있다.
+     * 그래도 실패하면 메시지를 로그로 남기고 버린다.
+     */
+    void publishBatch(List<PendingPublish> batch) {
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    rabbitTemplate.invoke(operations -> {
+                        batch.forEach(message -> operations.convertAndSend(CHAT_EXCHANGE_NAME,
+                            message.routingKey, message.payload));
+                        operations.waitForConfirmsOrDie(confirmTimeout);
+                        return null;
+                    });
+                    confirmedCounter.increment(batch.size());
+                    return;
+                } catch (AmqpException e) {
+                    if (attempt >= MAX_BATCH_ATTEMPTS) {
+                        failedCounter.increment(batch.size());
+                        log.error("Dropped {} chat messages after {} attempts: {}", batch.size(),
+                            attempt, batch, e);
+                        return;
+                    }
+                    log.warn("Failed to confirm {} chat messages (attempt {})", batch.size(),
+                        attempt, e);
+                }
+            }
+        } finally {
+            complete(start, batch.size());
+        }
+    }
+
+    static class PendingPublish {
+
+        private final String routingKey;
+        private final Object payload;
+
+        PendingPublish(String routingKey, Object payload) {
+            this.routingKey = routingKey;
+            this.payload = payload;
+        }
+
+        @Override
+        public String toString() {
+            return routingKey + "=" + payload;
+        }
+    }
+}
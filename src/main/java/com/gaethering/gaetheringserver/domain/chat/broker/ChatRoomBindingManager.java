@@ -0,0 +1,228 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static com.gaethering.gaetheringserver.config.RabbitConfig.ROOM_DESTINATION_PREFIX;
+import static com.gaethering.gaetheringserver.config.RabbitConfig.ROOM_ROUTING_KEY_PREFIX;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.DiscardPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * STOMP 구독을 방 단위로 세어 노드 큐의 바인딩을 관리한다. 방의 첫 구독자가 들어오면 room.{roomKey} 를
+ * 바인딩하고 마지막 구독자가 나가면 해제하므로, 노드는 구독자가 있는 방의 메시지만 받는다.
+ * <p>
+ * 구독 수는 하나의 락으로 관리하고, 브로커 호출은 그 락 밖에서 방별 락으로 순서를 맞춘다. 바인딩 호출은 그 시점의
+ * 구독 여부를 다시 읽어 수행하므로 구독과 해제가 엇갈려도 마지막 상태로 맞춰진다.
+ * 연결이 다시 맺어지면 exclusive 큐가 새로 만들어지므로 현재 방들을 다시 바인딩한다. 연결 리스너는
+ * 연결 팩토리의 락을 잡은 채 불리므로 다시 바인딩하는 일은 별도 스레드에 넘긴다.
+ */
+@Slf4j
+@Component
+public class ChatRoomBindingManager {
+
+    private static final Pattern ROOM_KEY_PATTERN = Pattern.compile("[A-Za-z0-9-]+");
+    private static final int BINDING_LOCK_STRIPES = 64;
+
+    private final AmqpAdmin amqpAdmin;
+    private final Queue chatNodeQueue;
+    private final TopicExchange exchange;
+    private final ThreadPoolExecutor rebindExecutor;
+    private final Object[] bindingLocks = new Object[BINDING_LOCK_STRIPES];
+
+    private final Map<String, Integer> subscriberCounts = new HashMap<>();
+    private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+
+    public ChatRoomBindingManager(AmqpAdmin amqpAdmin, Queue chatNodeQueue,
+        TopicExchange exchange, ConnectionFactory connectionFactory) {
+        this.amqpAdmin = amqpAdmin;
+        this.chatNodeQueue = chatNodeQueue;
+        this.exchange = exchange;
+        for (int i = 0; i < BINDING_LOCK_STRIPES; i++) {
+            bindingLocks[i] = new Object();
+        }
+        // 연결이 여러 번 다시 맺어져도 대기 중인 rebind 하나면 충분하다.
+        this.rebindExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), runnable -> {
+            Thread thread = new Thread(runnable, "chat-room-rebind");
+            thread.setDaemon(true);
+            return thread;
+        }, new DiscardPolicy());
+        connectionFactory.addConnectionListener(
+            connection -> rebindExecutor.execute(this::rebind));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomKey = roomKeyOf(accessor.getDestination());
+        if (roomKey != null) {
+            subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomKey);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, String roomKey) {
+        List<String> changed = new ArrayList<>(2);
+        synchronized (this) {
+            String previous = sessionSubscriptions
+                .computeIfAbsent(sessionId, id -> new HashMap<>())
+                .put(subscriptionId, roomKey);
+            if (previous != null && release(previous)) {
+                changed.add(previous);
+            }
+            if (subscriberCounts.merge(roomKey, 1, Integer::sum) == 1) {
+                changed.add(roomKey);
+            }
+        }
+        changed.forEach(this::syncBinding);
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        String released = null;
+        synchronized (this) {
+            Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            String roomKey = subscriptions.remove(subscriptionId);
+            if (subscriptions.isEmpty()) {
+                sessionSubscriptions.remove(sessionId);
+            }
+            if (roomKey != null && release(roomKey)) {
+                released = roomKey;
+            }
+        }
+        if (released != null) {
+            syncBinding(released);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        List<String> released = new ArrayList<>();
+        synchronized (this) {
+            Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            subscriptions.values().stream()
+                .filter(this::release)
+                .forEach(released::add);
+        }
+        released.forEach(this::syncBinding);
+    }
+
+    public synchronized Set<String> getBoundRoomKeys() {
+        return Collections.unmodifiableSet(new HashSet<>(subscriberCounts.keySet()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebindExecutor.shutdownNow();
+    }
+
+    void rebind() {
+        Set<String> roomKeys = getBoundRoomKeys();
+        if (roomKeys.isEmpty()) {
+            return;
+        }
+        try {
+            amqpAdmin.declareQueue(chatNodeQueue);
+        } catch (AmqpException e) {
+            log.warn("Failed to rebind {} chat rooms", roomKeys.size(), e);
+            return;
+        }
+        roomKeys.forEach(this::syncBinding);
+    }
+
+    /**
+     * 마지막 구독자가 나갔으면 true 를 반환한다.
+     */
+    private boolean release(String roomKey) {
+        if (subscriberCounts.merge(roomKey, -1, Integer::sum) <= 0) {
+            subscriberCounts.remove(roomKey);
+            return true;
+        }
+        return false;
+    }
+
+    private void syncBinding(String roomKey) {
+        synchronized (bindingLocks[Math.floorMod(roomKey.hashCode(), BINDING_LOCK_STRIPES)]) {
+            boolean subscribed;
+            synchronized (this) {
+                subscribed = subscriberCounts.containsKey(roomKey);
+            }
+            if (subscribed) {
+                bind(roomKey);
+            } else {
+                unbind(roomKey);
+            }
+        }
+    }
+
+    private void bind(String roomKey) {
+        try {
+            amqpAdmin.declareBinding(binding(roomKey));
+        } catch (AmqpException e) {
+            // 연결이 돌아오면 rebind 에서 다시 바인딩한다.
+            log.warn("Failed to bind chat room {}", roomKey, e);
+        }
+    }
+
+    private void unbind(String roomKey) {
+        try {
+            amqpAdmin.removeBinding(binding(roomKey));
+        } catch (AmqpException e) {
+            log.warn("Failed to unbind chat room {}", roomKey, e);
+        }
+    }
+
+    private Binding binding(String roomKey) {
+        return BindingBuilder.bind(chatNodeQueue).to(exchange)
+            .with(ROOM_ROUTING_KEY_PREFIX + roomKey);
+    }
+
+    /**
+     * 채팅방 destination 이 아니거나 와일드카드가 섞인 roomKey 는 바인딩하지 않는다.
+     */
+    static String roomKeyOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        String roomKey = destination.substring(ROOM_DESTINATION_PREFIX.length());
+        return ROOM_KEY_PATTERN.matcher(roomKey).matches() ? roomKey : null;
+    }
+}
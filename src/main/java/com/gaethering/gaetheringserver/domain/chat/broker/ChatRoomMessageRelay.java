@@ -0,0 +1,37 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static com.gaethering.gaetheringserver.config.RabbitConfig.CHAT_EXCHANGE_NAME;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 큐로 들어온 채팅 메시지를 이 노드의 STOMP 구독자에게 전달한다. 본문은 브로커에서 받은 형식 그대로
+ * 넘기고, 세션이 협상한 형식과 다르면 ChatWireFormatNegotiator 가 나가는 길에 변환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMessageRelay implements MessageListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void onMessage(Message message) {
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+            SimpMessageType.MESSAGE);
+        accessor.setContentType(
+            ChatWireFormat.of(message.getMessageProperties().getContentType()).getContentType());
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send("/exchange/" + CHAT_EXCHANGE_NAME + "/" + routingKey,
+            MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 채팅 메시지 본문 형식. 브로커 구간은 chat.codec.broker-format 으로, STOMP 구간은 세션마다 협상해 정한다.
+ */
+public enum ChatWireFormat {
+
+    JSON(MimeTypeUtils.APPLICATION_JSON),
+    CBOR(new MimeType("application", "cbor"));
+
+    private final MimeType contentType;
+
+    ChatWireFormat(MimeType contentType) {
+        this.contentType = contentType;
+    }
+
+    public MimeType getContentType() {
+        return contentType;
+    }
+
+    /**
+     * content-type 이 없거나 모르는 형식이면 JSON 으로 본다.
+     */
+    public static ChatWireFormat of(MimeType contentType) {
+        return contentType != null && CBOR.contentType.isCompatibleWith(contentType) ? CBOR : JSON;
+    }
+
+    public static ChatWireFormat of(String contentType) {
+        return contentType == null ? JSON : of(MimeTypeUtils.parseMimeType(contentType));
+    }
+}
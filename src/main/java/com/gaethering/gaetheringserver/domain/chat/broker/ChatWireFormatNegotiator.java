@@ -0,0 +1,146 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static com.gaethering.gaetheringserver.config.RabbitConfig.ROOM_DESTINATION_PREFIX;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * STOMP 세션마다 채팅방 메시지 형식을 협상한다. CONNECT 의 accept-content 헤더에 application/cbor 가
+ * 있으면 그 세션에는 CBOR 로, 아니면 JSON 으로 보낸다. 클라이언트 outbound 채널에서 브로커 형식과 다른
+ * 세션의 본문만 변환하고, 같은 메시지를 여러 세션에 보낼 때는 마지막 변환 결과를 재사용한다.
+ * <p>
+ * 바이너리 프레임은 SockJS 로 보낼 수 없고 Spring 은 application/octet-stream 일 때만 바이너리 프레임을
+ * 쓰므로, CBOR 는 순수 WebSocket 세션에만 허용하고 content-type 은 octet-stream 으로,
+ * 실제 형식은 wire-format 헤더로 알린다.
+ */
+@Component
+public class ChatWireFormatNegotiator implements ChannelInterceptor {
+
+    public static final String ACCEPT_CONTENT_HEADER = "accept-content";
+    public static final String WIRE_FORMAT_HEADER = "wire-format";
+
+    static final String BINARY_FRAMES_ATTRIBUTE =
+        ChatWireFormatNegotiator.class.getName() + ".BINARY_FRAMES";
+
+    private final ChatMessageCodec codec;
+    private final Map<String, ChatWireFormat> sessionFormats = new ConcurrentHashMap<>();
+
+    private volatile Transcoded lastTranscoded;
+
+    public ChatWireFormatNegotiator(ChatMessageCodec codec) {
+        this.codec = codec;
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        String accept = accessor.getFirstNativeHeader(ACCEPT_CONTENT_HEADER);
+        if (accept == null || attributes == null
+            || !Boolean.TRUE.equals(attributes.get(BINARY_FRAMES_ATTRIBUTE))) {
+            return;
+        }
+        boolean acceptsCbor = MimeTypeUtils.parseMimeTypes(accept).stream()
+            .anyMatch(ChatWireFormat.CBOR.getContentType()::isCompatibleWith);
+        if (acceptsCbor) {
+            sessionFormats.put(accessor.getSessionId(), ChatWireFormat.CBOR);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionFormats.remove(event.getSessionId());
+    }
+
+    public ChatWireFormat getFormat(String sessionId) {
+        return sessionId == null ? ChatWireFormat.JSON
+            : sessionFormats.getOrDefault(sessionId, ChatWireFormat.JSON);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+            || destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)
+            || !(message.getPayload() instanceof byte[])) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        ChatWireFormat source = ChatWireFormat.of(accessor.getContentType());
+        ChatWireFormat target = getFormat(accessor.getSessionId());
+        if (source == ChatWireFormat.JSON && target == ChatWireFormat.JSON) {
+            return message;
+        }
+
+        byte[] payload = transcode((byte[]) message.getPayload(), source, target);
+        if (target == ChatWireFormat.CBOR) {
+            accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+            accessor.setNativeHeader(WIRE_FORMAT_HEADER, "cbor");
+        } else {
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        }
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private byte[] transcode(byte[] body, ChatWireFormat source, ChatWireFormat target) {
+        Transcoded last = lastTranscoded;
+        if (last != null && last.source == body && last.target == target) {
+            return last.payload;
+        }
+        byte[] payload = codec.transcode(body, source, target);
+        lastTranscoded = new Transcoded(body, target, payload);
+        return payload;
+    }
+
+    /**
+     * 순수 WebSocket 엔드포인트에만 등록해 바이너리 프레임을 받을 수 있는 세션을 표시한다.
+     */
+    public HandshakeInterceptor binaryFramesHandshakeInterceptor() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                attributes.put(BINARY_FRAMES_ATTRIBUTE, Boolean.TRUE);
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
+    }
+
+    private static class Transcoded {
+
+        private final byte[] source;
+        private final ChatWireFormat target;
+        private final byte[] payload;
+
+        Transcoded(byte[] source, ChatWireFormat target, byte[] payload) {
+            this.source = source;
+            this.target = target;
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+/**
+ * application/cbor 로 주고받는 AMQP 메시지 변환기. 타입 헤더는 Jackson2JsonMessageConverter 와 같다.
+ * <p>
+ * 상위 클래스는 content-type 에 charset 이 없으면 본문을 문자열로 읽으므로, CBOR 본문은 여기서 바이트로 읽는다.
+ */
+public class Jackson2CborMessageConverter extends AbstractJackson2MessageConverter {
+
+    public Jackson2CborMessageConverter(ObjectMapper cborMapper) {
+        super(cborMapper, ChatWireFormat.CBOR.getContentType(), "*");
+    }
+
+    @Override
+    public Object fromMessage(Message message, Object conversionHint) {
+        MessageProperties properties = message.getMessageProperties();
+        if (ChatWireFormat.of(properties.getContentType()) != ChatWireFormat.CBOR) {
+            return super.fromMessage(message, conversionHint);
+        }
+        try {
+            return objectMapper.readValue(message.getBody(),
+                getJavaTypeMapper().toJavaType(properties));
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to convert CBOR message content", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.gaethering.gaetheringserver.domain.chat.buffer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발행이 끝난 채팅 메시지를 모아 두었다가 스케줄러가 배치 INSERT 로 저장한다.
+ * 버퍼가 가득 차면 offer 가 false 를 반환하고, 호출한 쪽이 직접 저장하는 것으로 속도를 늦춘다.
+ */
+@Component
+public class ChatMessageWriteBuffer {
+
+    private final BlockingQueue<PendingChatMessage> queue;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    public ChatMessageWriteBuffer(
+        @Value("${chat.message.buffer.capacity:10000}") int capacity,
+        MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        Gauge.builder("chat.message.buffer.size", queue, BlockingQueue::size)
+            .register(meterRegistry);
+        Gauge.builder("chat.message.buffer.remaining", queue, BlockingQueue::remainingCapacity)
+            .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("chat.message.buffer.rejected");
+        this.droppedCounter = meterRegistry.counter("chat.message.buffer.dropped");
+    }
+
+    public boolean offer(PendingChatMessage message) {
+        if (queue.offer(message)) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public List<PendingChatMessage> drain(int maxSize) {
+        List<PendingChatMessage> drained = new ArrayList<>(Math.min(maxSize, queue.size()));
+        queue.drainTo(drained, maxSize);
+        return drained;
+    }
+
+    /**
+     * 저장에 실패한 메시지를 다시 넣는다. 그 사이 버퍼가 찼다면 넣지 못한 개수를 반환한다.
+     */
+    public int restore(List<PendingChatMessage> messages) {
+        int dropped = 0;
+        for (PendingChatMessage message : messages) {
+            if (!queue.offer(message)) {
+                dropped++;
+            }
+        }
+        droppedCounter.increment(dropped);
+        return dropped;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package com.gaethering.gaetheringserver.domain.chat.buffer;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PendingChatMessage {
+
+    private Long id;
+
+    private Long chatRoomId;
+
+    private Long memberId;
+
+    private String content;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,50 @@
+package com.gaethering.gaetheringserver.domain.chat.cache;
+
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomParticipant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * STOMP 전송 경로에서 필요한 채팅방 정보(id, 정원, 참여자 id 와 닉네임)의 스냅샷.
+ */
+@Getter
+public class ChatRoomEntry {
+
+    private final Long roomId;
+
+    private final String roomKey;
+
+    private final int maxParticipantCount;
+
+    private final Map<Long, String> nicknames;
+
+    public ChatRoomEntry(Long roomId, String roomKey, int maxParticipantCount,
+        List<ChatRoomParticipant> participants) {
+        this.roomId = roomId;
+        this.roomKey = roomKey;
+        this.maxParticipantCount = maxParticipantCount;
+        this.nicknames = Collections.unmodifiableMap(participants.stream()
+            .collect(Collectors.toMap(ChatRoomParticipant::getMemberId,
+                participant -> String.valueOf(participant.getNickname()),
+                (first, second) -> first)));
+    }
+
+    public boolean isParticipant(Long memberId) {
+        return nicknames.containsKey(memberId);
+    }
+
+    public String getNickname(Long memberId) {
+        return nicknames.get(memberId);
+    }
+
+    public int getParticipantCount() {
+        return nicknames.size();
+    }
+
+    public boolean isFull() {
+        return getParticipantCount() >= maxParticipantCount;
+    }
+}
@@ -0,0 +1,102 @@
+package com.gaethering.gaetheringserver.domain.chat.cache;
+
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomMemberRepository;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * roomKey 별 채팅방 스냅샷을 로컬에 보관해 메시지 전송 시 DB 를 조회하지 않게 한다.
+ * 방 생성/삭제, 참여자 추가 시 무효화하고, 다른 서버에는 pub/sub 로 무효화를 전파한다.
+ * 전파가 유실되더라도 ttl 이 지나면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class ChatRoomRegistry implements MessageListener {
+
+    public static final String CHANNEL = "chat-room-registry";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, ChatRoomEntry> rooms;
+
+    public ChatRoomRegistry(ChatRoomRepository chatRoomRepository,
+        ChatRoomMemberRepository chatRoomMemberRepository,
+        StringRedisTemplate redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        @Value("${chat.room-registry.max-size:10000}") long maxSize,
+        @Value("${chat.room-registry.ttl:5m}") Duration ttl) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.redisTemplate = redisTemplate;
+        this.rooms = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Optional<ChatRoomEntry> get(String roomKey) {
+        return Optional.ofNullable(rooms.get(roomKey, this::load));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화해서, 커밋 전 다른 요청이 이전 값을 다시 채우지 못하게 한다.
+     */
+    public void invalidate(String roomKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        invalidateNow(roomKey);
+                    }
+                });
+            return;
+        }
+        invalidateNow(roomKey);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        rooms.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void invalidateNow(String roomKey) {
+        rooms.invalidate(roomKey);
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, roomKey);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish chat room invalidation. roomKey: {}", roomKey, e);
+        }
+    }
+
+    private ChatRoomEntry load(String roomKey) {
+        return chatRoomRepository.findByRoomKey(roomKey)
+            .map(this::toEntry)
+            .orElse(null);
+    }
+
+    private ChatRoomEntry toEntry(ChatRoom chatRoom) {
+        return new ChatRoomEntry(chatRoom.getId(), chatRoom.getRoomKey(),
+            chatRoom.getMaxParticipantCount(),
+            chatRoomMemberRepository.findParticipantsByChatRoomId(chatRoom.getId()));
+    }
+}
@@ -1,13 +1,14 @@
 package com.gaethering.gaetheringserver.domain.chat.controller;
 
-import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatHistoryResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomInfo;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomSearchCondition;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomRequest;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomResponse;
 import com.gaethering.gaetheringserver.domain.chat.service.ChatService;
 import java.security.Principal;
-import java.util.List;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -49,14 +51,18 @@ public class ChatController {
     }
 
     @GetMapping("/chat/room/{roomKey}/history")
-    public ResponseEntity<List<ChatMessageResponse>> getChatHistory(@PathVariable String roomKey) {
-        List<ChatMessageResponse> chatHistory = chatService.getChatHistory(roomKey);
+    public ResponseEntity<ChatHistoryResponse> getChatHistory(@PathVariable String roomKey,
+        @RequestParam int size, @RequestParam Long lastMessageId) {
+        ChatHistoryResponse chatHistory = chatService.getChatHistory(roomKey, size, lastMessageId);
         return ResponseEntity.ok(chatHistory);
     }
 
     @GetMapping("/chat/room/local/list")
-    public ResponseEntity<ChatRoomListResponse> getLocalChatRooms(Principal principal) {
-        ChatRoomListResponse localChatRooms = chatService.getLocalChatRooms(principal.getName());
+    public ResponseEntity<LocalChatRoomListResponse> getLocalChatRooms(Principal principal,
+        @RequestParam int size, @RequestParam Long lastChatRoomId,
+        LocalChatRoomSearchCondition condition) {
+        LocalChatRoomListResponse localChatRooms = chatService.getLocalChatRooms(
+            principal.getName(), size, lastChatRoomId, condition);
         return ResponseEntity.ok(localChatRooms);
     }
 
@@ -0,0 +1,26 @@
+package com.gaethering.gaetheringserver.domain.chat.dto;
+
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatHistoryResponse {
+
+    private List<ChatMessageResponse> messages = new ArrayList<>();
+
+    private long nextCursor;
+
+    public static ChatHistoryResponse of(KeysetPage<ChatMessageResponse> messagesPage) {
+        return new ChatHistoryResponse(messagesPage.getContent(),
+            messagesPage.getNextCursorId());
+    }
+}
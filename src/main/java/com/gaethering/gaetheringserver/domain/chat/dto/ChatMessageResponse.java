@@ -14,10 +14,19 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ChatMessageResponse {
 
+    private Long messageId;
     private Long memberId;
     private String content;
     private Timestamp createdAt;
 
+    public ChatMessageResponse(Long messageId, Long memberId, String content,
+        LocalDateTime createdAt) {
+        this.messageId = messageId;
+        this.memberId = memberId;
+        this.content = content;
+        this.createdAt = Timestamp.valueOf(createdAt);
+    }
+
     public void setContent(String content) {
         this.content = content;
     }
@@ -32,6 +41,7 @@ public class ChatMessageResponse {
 
     public static ChatMessageResponse of(ChatMessage chatMessage) {
         return ChatMessageResponse.builder()
+            .messageId(chatMessage.getId())
             .memberId(chatMessage.getMember().getId())
             .content(chatMessage.getContent())
             .createdAt(Timestamp.valueOf(chatMessage.getCreatedAt())).build();
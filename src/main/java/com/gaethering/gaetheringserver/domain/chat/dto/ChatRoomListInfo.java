@@ -1,8 +1,7 @@
 package com.gaethering.gaetheringserver.domain.chat.dto;
 
-import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,24 +13,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ChatRoomListInfo {
 
+    @JsonIgnore
+    private Long chatRoomId;
     private String name;
     private String roomKey;
     private String description;
     private Integer maxParticipant;
     private List<WalkingTimeInfo> walkingTimeInfos;
     private Integer nowParticipant;
-
-    public static ChatRoomListInfo of(ChatRoom chatRoom) {
-        List<WalkingTimeInfo> walkingTimeInfos = chatRoom.getWalkingTimes().stream()
-            .map(WalkingTimeInfo::of)
-            .collect(Collectors.toList());
-        Integer nowParticipant = chatRoom.getChatroomMembers().size();
-        return ChatRoomListInfo.builder()
-            .name(chatRoom.getName())
-            .roomKey(chatRoom.getRoomKey())
-            .description(chatRoom.getDescription())
-            .maxParticipant(chatRoom.getMaxParticipantCount())
-            .walkingTimeInfos(walkingTimeInfos)
-            .nowParticipant(nowParticipant).build();
-    }
 }
@@ -0,0 +1,13 @@
+package com.gaethering.gaetheringserver.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChatRoomParticipant {
+
+    private Long memberId;
+
+    private String nickname;
+}
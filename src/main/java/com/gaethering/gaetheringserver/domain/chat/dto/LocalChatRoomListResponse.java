@@ -0,0 +1,26 @@
+package com.gaethering.gaetheringserver.domain.chat.dto;
+
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LocalChatRoomListResponse {
+
+    private List<ChatRoomListInfo> chatRooms = new ArrayList<>();
+
+    private long nextCursor;
+
+    public static LocalChatRoomListResponse of(KeysetPage<ChatRoomListInfo> chatRoomsPage) {
+        return new LocalChatRoomListResponse(chatRoomsPage.getContent(),
+            chatRoomsPage.getNextCursorId());
+    }
+}
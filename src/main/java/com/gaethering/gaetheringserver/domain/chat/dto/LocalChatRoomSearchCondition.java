@@ -0,0 +1,24 @@
+package com.gaethering.gaetheringserver.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocalChatRoomSearchCondition {
+
+    private String dayOfWeek;
+    private String time;
+    private Double latitude;
+    private Double longitude;
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
@@ -16,4 +16,6 @@ public class MakeChatRoomRequest {
     private int maxParticipantCount;
     private String description;
     private List<WalkingTimeInfo> walkingTimes;
+    private Double latitude;
+    private Double longitude;
 }
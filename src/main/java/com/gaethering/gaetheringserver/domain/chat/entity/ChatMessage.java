@@ -6,11 +6,11 @@ import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,11 +18,14 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, chat_message_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage extends BaseCreatedTimeEntity {
 
+    /**
+     * 배치 INSERT 를 위해 IDENTITY 대신 ChatMessageIdGenerator 가 발급한 값을 사용한다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "chat_message_id", nullable = false)
     private Long id;
 
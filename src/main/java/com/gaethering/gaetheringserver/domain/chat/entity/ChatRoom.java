@@ -8,7 +8,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,8 +22,11 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_chat_room_geohash", columnList = "geohash, chat_room_id"))
 public class ChatRoom extends BaseTimeEntity {
 
+    public static final int GEOHASH_PRECISION = 9;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "chat_room_id", nullable = false)
@@ -33,6 +38,21 @@ public class ChatRoom extends BaseTimeEntity {
     private String description;
     private Integer maxParticipantCount;
 
+    /**
+     * 현재 참여자 수. 입장은 ChatRoomRepository.reserveSeat 의 조건부 UPDATE 로만 늘린다.
+     */
+    @Column(nullable = false)
+    private int currentParticipantCount;
+
+    private Double latitude;
+    private Double longitude;
+
+    /**
+     * 위치로 근처 채팅방을 찾기 위한 geohash (GEOHASH_PRECISION 자리). 위치가 없으면 null.
+     */
+    @Column(length = GEOHASH_PRECISION)
+    private String geohash;
+
     @OneToMany(mappedBy = "chatRoom")
     private List<WalkingTime> walkingTimes = new ArrayList<>();
 
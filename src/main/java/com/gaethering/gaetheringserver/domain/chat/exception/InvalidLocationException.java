@@ -0,0 +1,10 @@
+package com.gaethering.gaetheringserver.domain.chat.exception;
+
+import com.gaethering.gaetheringserver.domain.chat.exception.errorcode.ChatErrorCode;
+
+public class InvalidLocationException extends ChatException {
+
+    public InvalidLocationException() {
+        super(ChatErrorCode.INVALID_LOCATION);
+    }
+}
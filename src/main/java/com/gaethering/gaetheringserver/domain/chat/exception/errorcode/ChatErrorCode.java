@@ -9,7 +9,8 @@ import lombok.RequiredArgsConstructor;
 public enum ChatErrorCode implements ErrorCode {
 
     CHAT_ROOM_NOT_FOUND("E401", "해당 채팅방은 존재하지 않습니다."),
-    OVER_CROWD("E402", "채팅방 인원을 초과하였습니다.");
+    OVER_CROWD("E402", "채팅방 인원을 초과하였습니다."),
+    INVALID_LOCATION("E403", "위치 정보가 올바르지 않습니다.");
 
     private final String code;
     private final String message;
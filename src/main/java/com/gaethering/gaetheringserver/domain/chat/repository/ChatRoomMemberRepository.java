@@ -1,12 +1,20 @@
 package com.gaethering.gaetheringserver.domain.chat.repository;
 
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomParticipant;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatroomMember;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatRoomMemberRepository extends JpaRepository<ChatroomMember, Long> {
 
     Optional<ChatroomMember> findByChatRoomAndMember(ChatRoom chatRoom, Member member);
+
+    @Query("select new com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomParticipant(m.id, m.nickname)"
+        + " from ChatroomMember cm join cm.member m where cm.chatRoom.id = :chatRoomId")
+    List<ChatRoomParticipant> findParticipantsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
 }
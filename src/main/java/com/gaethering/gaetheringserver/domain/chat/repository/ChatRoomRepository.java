@@ -3,9 +3,20 @@ package com.gaethering.gaetheringserver.domain.chat.repository;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>,
     CustomChatRoomRepository {
 
     Optional<ChatRoom> findByRoomKey(String roomKey);
+
+    /**
+     * 정원이 남아 있을 때만 참여자 수를 1 늘린다. 0 이 반환되면 방이 가득 찬 것이다.
+     */
+    @Modifying
+    @Query("update ChatRoom c set c.currentParticipantCount = c.currentParticipantCount + 1"
+        + " where c.id = :chatRoomId and c.currentParticipantCount < c.maxParticipantCount")
+    int reserveSeat(@Param("chatRoomId") Long chatRoomId);
 }
@@ -0,0 +1,12 @@
+package com.gaethering.gaetheringserver.domain.chat.repository;
+
+import com.gaethering.gaetheringserver.domain.chat.buffer.PendingChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import java.util.List;
+
+public interface CustomChatMessageRepository {
+
+    List<ChatMessageResponse> findChatHistory(Long chatRoomId, long lastMessageId, int limit);
+
+    void saveAllInBatch(List<PendingChatMessage> messages);
+}
@@ -1,10 +1,21 @@
 package com.gaethering.gaetheringserver.domain.chat.repository;
 
 
-import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListInfo;
 import java.util.List;
+import java.util.Optional;
 
 public interface CustomChatRoomRepository {
 
-    List<ChatRoom> findChatRoomsByMemberId(Long memberId);
+    List<ChatRoomListInfo> findChatRoomsByMemberId(Long memberId);
+
+    List<ChatRoomListInfo> findLocalChatRooms(List<String> geohashPrefixes, String dayOfWeek,
+        String time, long lastChatRoomId, int limit);
+
+    Optional<ChatRoomInfo> findChatRoomInfo(String roomKey);
+
+    List<Long> findChatRoomIdsWithCountDrift(long lastChatRoomId, int limit);
+
+    long reconcileParticipantCountByChatRoomId(Long chatRoomId);
 }
@@ -0,0 +1,58 @@
+package com.gaethering.gaetheringserver.domain.chat.repository.impl;
+
+import static com.gaethering.gaetheringserver.domain.chat.entity.QChatMessage.chatMessage;
+
+import com.gaethering.gaetheringserver.core.repository.support.Querydsl4RepositorySupport;
+import com.gaethering.gaetheringserver.domain.chat.buffer.PendingChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.repository.CustomChatMessageRepository;
+import com.querydsl.core.types.Projections;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ChatMessageRepositoryImpl extends Querydsl4RepositorySupport implements
+    CustomChatMessageRepository {
+
+    private static final String INSERT_SQL =
+        "insert into chat_message (chat_message_id, chat_room_id, member_id, content, created_at)"
+            + " values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChatMessageRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        super(ChatMessage.class);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * (chat_room_id, chat_message_id) 인덱스를 타도록 id 역순으로 조회하고,
+     * member 는 조인 없이 FK 값만 가져온다.
+     */
+    @Override
+    public List<ChatMessageResponse> findChatHistory(Long chatRoomId, long lastMessageId,
+        int limit) {
+        return select(Projections.constructor(ChatMessageResponse.class,
+            chatMessage.id,
+            chatMessage.member.id,
+            chatMessage.content,
+            chatMessage.createdAt))
+            .from(chatMessage)
+            .where(chatMessage.chatRoom.id.eq(chatRoomId), chatMessage.id.lt(lastMessageId))
+            .orderBy(chatMessage.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public void saveAllInBatch(List<PendingChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            ps.setLong(2, message.getChatRoomId());
+            ps.setLong(3, message.getMemberId());
+            ps.setString(4, message.getContent());
+            ps.setTimestamp(5, Timestamp.valueOf(message.getCreatedAt()));
+        });
+    }
+}
@@ -2,11 +2,32 @@ package com.gaethering.gaetheringserver.domain.chat.repository.impl;
 
 import static com.gaethering.gaetheringserver.domain.chat.entity.QChatRoom.chatRoom;
 import static com.gaethering.gaetheringserver.domain.chat.entity.QChatroomMember.chatroomMember;
+import static com.gaethering.gaetheringserver.domain.chat.entity.QWalkingTime.walkingTime;
+import static com.gaethering.gaetheringserver.domain.member.entity.QMember.member;
+import static com.gaethering.gaetheringserver.domain.pet.entity.QPet.pet;
 
 import com.gaethering.gaetheringserver.core.repository.support.Querydsl4RepositorySupport;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomMemberInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.WalkingTimeInfo;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
 import com.gaethering.gaetheringserver.domain.chat.repository.CustomChatRoomRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.transaction.annotation.Transactional;
 
 public class ChatRoomRepositoryImpl extends Querydsl4RepositorySupport implements
     CustomChatRoomRepository {
@@ -15,12 +36,161 @@ public class ChatRoomRepositoryImpl extends Querydsl4RepositorySupport implement
         super(ChatRoom.class);
     }
 
+    /**
+     * 참여 중인 방 목록(참여자 수 포함) 1번, 산책 시간 1번으로 방 개수와 상관없이 2번만 조회한다.
+     */
     @Override
-    public List<ChatRoom> findChatRoomsByMemberId(Long memberId) {
-        return selectFrom(chatRoom)
-            .join(chatRoom.chatroomMembers, chatroomMember).fetchJoin()
-            .where(chatroomMember.member.id.eq(memberId))
-            .orderBy(chatRoom.createdAt.desc())
+    public List<ChatRoomListInfo> findChatRoomsByMemberId(Long memberId) {
+        List<Tuple> rows = getQueryFactory().select(chatRoom.id, chatRoom.name, chatRoom.roomKey,
+            chatRoom.description, chatRoom.maxParticipantCount, chatRoom.currentParticipantCount)
+            .from(chatRoom)
+            .where(JPAExpressions.selectOne()
+                .from(chatroomMember)
+                .where(chatroomMember.chatRoom.id.eq(chatRoom.id),
+                    chatroomMember.member.id.eq(memberId))
+                .exists())
+            .orderBy(chatRoom.createdAt.desc(), chatRoom.id.desc())
             .fetch();
+
+        return toChatRoomListInfos(rows);
+    }
+
+    /**
+     * 방 목록(참여자 수 포함) 1번, 해당 페이지 방들의 산책 시간 1번으로 방 개수와 상관없이 2번만 조회한다.
+     */
+    @Override
+    public List<ChatRoomListInfo> findLocalChatRooms(List<String> geohashPrefixes,
+        String dayOfWeek, String time, long lastChatRoomId, int limit) {
+
+        List<Tuple> rows = getQueryFactory().select(chatRoom.id, chatRoom.name, chatRoom.roomKey,
+            chatRoom.description, chatRoom.maxParticipantCount, chatRoom.currentParticipantCount)
+            .from(chatRoom)
+            .where(chatRoom.id.lt(lastChatRoomId),
+                geohashStartsWithAny(geohashPrefixes),
+                hasWalkingTime(dayOfWeek, time))
+            .orderBy(chatRoom.id.desc())
+            .limit(limit)
+            .fetch();
+
+        return toChatRoomListInfos(rows);
+    }
+
+    /**
+     * 방 1번, 산책 시간 1번, 참여자(닉네임, 대표 반려견 사진) 1번으로 참여자 수와 상관없이 3번만 조회한다.
+     */
+    @Override
+    public Optional<ChatRoomInfo> findChatRoomInfo(String roomKey) {
+        Tuple room = getQueryFactory().select(chatRoom.id, chatRoom.name, chatRoom.roomKey,
+                chatRoom.description, chatRoom.maxParticipantCount)
+            .from(chatRoom)
+            .where(chatRoom.roomKey.eq(roomKey))
+            .fetchOne();
+
+        if (room == null) {
+            return Optional.empty();
+        }
+
+        Long chatRoomId = room.get(chatRoom.id);
+        List<ChatRoomMemberInfo> memberInfos = getQueryFactory()
+            .select(Projections.constructor(ChatRoomMemberInfo.class,
+                member.id, member.nickname, pet.thumbnailUrl.coalesce(pet.imageUrl)))
+            .from(chatroomMember)
+            .join(chatroomMember.member, member)
+            .leftJoin(pet).on(pet.member.id.eq(member.id), pet.isRepresentative.isTrue())
+            .where(chatroomMember.chatRoom.id.eq(chatRoomId))
+            .orderBy(chatroomMember.id.asc())
+            .fetch();
+
+        return Optional.of(ChatRoomInfo.builder()
+            .name(room.get(chatRoom.name))
+            .roomKey(room.get(chatRoom.roomKey))
+            .description(room.get(chatRoom.description))
+            .maxParticipant(room.get(chatRoom.maxParticipantCount))
+            .walkingTimeInfos(findWalkingTimes(List.of(chatRoomId))
+                .getOrDefault(chatRoomId, Collections.emptyList()))
+            .chatRoomMemberInfos(memberInfos)
+            .build());
+    }
+
+    private List<ChatRoomListInfo> toChatRoomListInfos(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, List<WalkingTimeInfo>> walkingTimes = findWalkingTimes(
+            rows.stream().map(row -> row.get(chatRoom.id)).collect(Collectors.toList()));
+
+        return rows.stream()
+            .map(row -> ChatRoomListInfo.builder()
+                .chatRoomId(row.get(chatRoom.id))
+                .name(row.get(chatRoom.name))
+                .roomKey(row.get(chatRoom.roomKey))
+                .description(row.get(chatRoom.description))
+                .maxParticipant(row.get(chatRoom.maxParticipantCount))
+                .nowParticipant(row.get(chatRoom.currentParticipantCount))
+                .walkingTimeInfos(walkingTimes.getOrDefault(row.get(chatRoom.id),
+                    Collections.emptyList()))
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<WalkingTimeInfo>> findWalkingTimes(List<Long> chatRoomIds) {
+        return getQueryFactory().select(walkingTime.chatRoom.id, walkingTime.dayOfWeek, walkingTime.time)
+            .from(walkingTime)
+            .where(walkingTime.chatRoom.id.in(chatRoomIds))
+            .orderBy(walkingTime.id.asc())
+            .fetch().stream()
+            .collect(Collectors.groupingBy(row -> row.get(walkingTime.chatRoom.id),
+                Collectors.mapping(row -> WalkingTimeInfo.builder()
+                    .dayOfWeek(row.get(walkingTime.dayOfWeek))
+                    .time(row.get(walkingTime.time))
+                    .build(), Collectors.toList())));
+    }
+
+    @Override
+    public List<Long> findChatRoomIdsWithCountDrift(long lastChatRoomId, int limit) {
+        return select(chatRoom.id)
+            .from(chatRoom)
+            .where(chatRoom.id.gt(lastChatRoomId),
+                chatRoom.currentParticipantCount.ne(participantCount(chatRoom.id)))
+            .orderBy(chatRoom.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    @Transactional
+    public long reconcileParticipantCountByChatRoomId(Long chatRoomId) {
+        return getQueryFactory().update(chatRoom)
+            .set(chatRoom.currentParticipantCount, participantCount(Expressions.constant(chatRoomId)))
+            .where(chatRoom.id.eq(chatRoomId))
+            .execute();
+    }
+
+    private static JPQLQuery<Integer> participantCount(Expression<Long> chatRoomId) {
+        return JPAExpressions.select(chatroomMember.count().intValue())
+            .from(chatroomMember)
+            .where(chatroomMember.chatRoom.id.eq(chatRoomId));
+    }
+
+    private static Predicate geohashStartsWithAny(List<String> geohashPrefixes) {
+        if (geohashPrefixes == null || geohashPrefixes.isEmpty()) {
+            return null;
+        }
+        BooleanBuilder builder = new BooleanBuilder();
+        geohashPrefixes.forEach(prefix -> builder.or(chatRoom.geohash.startsWith(prefix)));
+        return builder;
+    }
+
+    private static BooleanExpression hasWalkingTime(String dayOfWeek, String time) {
+        if (dayOfWeek == null && time == null) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+            .from(walkingTime)
+            .where(walkingTime.chatRoom.id.eq(chatRoom.id),
+                dayOfWeek == null ? null : walkingTime.dayOfWeek.eq(dayOfWeek),
+                time == null ? null : walkingTime.time.eq(time))
+            .exists();
     }
 }
@@ -0,0 +1,112 @@
+package com.gaethering.gaetheringserver.domain.chat.scheduler;
+
+import com.gaethering.gaetheringserver.domain.chat.buffer.ChatMessageWriteBuffer;
+import com.gaethering.gaetheringserver.domain.chat.buffer.PendingChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 버퍼에 쌓인 채팅 메시지를 batch-size 단위로 꺼내 JDBC 배치 INSERT 로 저장한다.
+ * <p>
+ * 무결성 위반으로 배치가 실패하면 반씩 나눠 다시 저장해 문제 행만 골라내고, 그 행은 로그로 남긴 뒤 버린다.
+ * DB 장애처럼 다시 시도하면 될 실패만 버퍼에 되돌린다.
+ */
+@Slf4j
+@Component
+public class ChatMessageFlushScheduler {
+
+    private final ChatMessageWriteBuffer writeBuffer;
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Timer flushTimer;
+    private final Counter persistedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetterCounter;
+
+    public ChatMessageFlushScheduler(ChatMessageWriteBuffer writeBuffer,
+        ChatMessageRepository chatMessageRepository, TransactionTemplate transactionTemplate,
+        @Value("${chat.message.flush-batch-size:500}") int batchSize,
+        MeterRegistry meterRegistry) {
+        this.writeBuffer = writeBuffer;
+        this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.flushTimer = meterRegistry.timer("chat.message.flush");
+        this.persistedCounter = meterRegistry.counter("chat.message.persisted");
+        this.failedCounter = meterRegistry.counter("chat.message.flush.failed");
+        this.deadLetterCounter = meterRegistry.counter("chat.message.dead-letter");
+    }
+
+    @Scheduled(fixedDelayString = "${chat.message.flush-interval:200}")
+    public void flush() {
+        while (!writeBuffer.isEmpty()) {
+            List<PendingChatMessage> messages = writeBuffer.drain(batchSize);
+
+            if (!write(messages)) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!writeBuffer.isEmpty()) {
+            log.error("{} chat messages were not persisted on shutdown", writeBuffer.size());
+        }
+    }
+
+    /**
+     * 버퍼에 되돌린 메시지가 있으면 false 를 반환해 이번 flush 를 멈춘다.
+     */
+    private boolean write(List<PendingChatMessage> messages) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                status -> chatMessageRepository.saveAllInBatch(messages)));
+            persistedCounter.increment(messages.size());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            failedCounter.increment();
+            if (messages.size() == 1) {
+                deadLetter(messages.get(0), e);
+                return true;
+            }
+
+            int half = messages.size() / 2;
+            List<PendingChatMessage> first = messages.subList(0, half);
+            List<PendingChatMessage> second = messages.subList(half, messages.size());
+            if (!write(first)) {
+                restore(second, e);
+                return false;
+            }
+            return write(second);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            restore(messages, e);
+            return false;
+        }
+    }
+
+    private void restore(List<PendingChatMessage> messages, RuntimeException e) {
+        int dropped = writeBuffer.restore(messages);
+        log.warn("Failed to flush {} chat messages ({} dropped)", messages.size(), dropped, e);
+    }
+
+    private void deadLetter(PendingChatMessage message, RuntimeException e) {
+        deadLetterCounter.increment();
+        log.error("Discarded chat message that cannot be persisted. id: {}, chatRoomId: {}, "
+                + "memberId: {}", message.getId(), message.getChatRoomId(), message.getMemberId(),
+            e);
+    }
+}
@@ -0,0 +1,52 @@
+package com.gaethering.gaetheringserver.domain.chat.scheduler;
+
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방의 현재 참여자 수 컬럼을 실제 chat_room_member 행 수와 맞춘다.
+ * 컬럼이 추가되기 전에 만들어진 방은 0 으로 시작하므로 기동 직후 한 번 바로 돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomCountReconcileScheduler {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.room.counter.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${chat.room.counter.reconcile-initial-delay:0}",
+        fixedDelayString = "${chat.room.counter.reconcile-interval:3600000}")
+    public void reconcile() {
+        long reconciled = reconcileAll();
+
+        if (reconciled > 0) {
+            log.warn("Reconciled participant counts of {} chat rooms", reconciled);
+        }
+    }
+
+    public long reconcileAll() {
+        long reconciled = 0;
+        long lastChatRoomId = 0;
+
+        List<Long> chatRoomIds;
+        do {
+            chatRoomIds = chatRoomRepository.findChatRoomIdsWithCountDrift(lastChatRoomId,
+                batchSize);
+
+            for (Long chatRoomId : chatRoomIds) {
+                reconciled += chatRoomRepository.reconcileParticipantCountByChatRoomId(chatRoomId);
+                lastChatRoomId = chatRoomId;
+            }
+        } while (chatRoomIds.size() == batchSize);
+
+        return reconciled;
+    }
+}
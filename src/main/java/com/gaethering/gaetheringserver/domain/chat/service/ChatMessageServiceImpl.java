@@ -1,8 +1,12 @@
 package com.gaethering.gaetheringserver.domain.chat.service;
 
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessagePublisher;
+import com.gaethering.gaetheringserver.domain.chat.buffer.ChatMessageWriteBuffer;
+import com.gaethering.gaetheringserver.domain.chat.buffer.PendingChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.cache.ChatRoomEntry;
+import com.gaethering.gaetheringserver.domain.chat.cache.ChatRoomRegistry;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageRequest;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
-import com.gaethering.gaetheringserver.domain.chat.entity.ChatMessage;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatroomMember;
 import com.gaethering.gaetheringserver.domain.chat.exception.ChatRoomNotFoundException;
@@ -10,91 +14,132 @@ import com.gaethering.gaetheringserver.domain.chat.exception.ChatRoomOverCrowdEx
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatMessageRepository;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomMemberRepository;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomRepository;
+import com.gaethering.gaetheringserver.domain.chat.util.ChatMessageIdGenerator;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ChatMessageServiceImpl implements ChatMessageService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final MemberRepository memberRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
-    private final RabbitTemplate messagingTemplate;
-
-    private final static String CHAT_EXCHANGE_NAME = "chat.exchange";
+    private final ChatMessagePublisher chatMessagePublisher;
+    private final ChatMessageWriteBuffer writeBuffer;
+    private final ChatMessageIdGenerator idGenerator;
+    private final ChatRoomRegistry chatRoomRegistry;
 
+    /**
+     * 입장 메시지는 커밋 이후에 저장하고 발행한다. 참여자 추가가 롤백되면 입장 메시지도 남지 않는다.
+     */
     @Override
     @Transactional
     public ChatMessageResponse enter(ChatMessageRequest chatMessageRequest, String roomKey) {
-        Member member = memberRepository.findById(chatMessageRequest.getMemberId())
-            .orElseThrow(MemberNotFoundException::new);
-        ChatRoom chatRoom = chatRoomRepository.findByRoomKey(roomKey)
+        ChatRoomEntry room = chatRoomRegistry.get(roomKey)
             .orElseThrow(ChatRoomNotFoundException::new);
-        Optional<ChatroomMember> optionalChatroomMember = chatRoomMemberRepository.findByChatRoomAndMember(
-            chatRoom,
-            member);
-        ChatMessageResponse response = ChatMessageResponse.makeResponseFromRequest(
-            chatMessageRequest);
-        response.setContent(member.getNickname() + "님이 입장하였습니다.");
-        checkMaxParticipantCountAndAddRoomMember(member, chatRoom, optionalChatroomMember);
-        return saveAndSendChatMessage(chatMessageRequest, roomKey, member, chatRoom, response);
+        Long memberId = chatMessageRequest.getMemberId();
+        String nickname = room.isParticipant(memberId)
+            ? room.getNickname(memberId) : join(memberId, roomKey);
+
+        PendingChatMessage message = makeChatMessage(chatMessageRequest, room);
+        ChatMessageResponse response = makeResponse(message, nickname + "님이 입장하였습니다.");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        sendAndBufferChatMessage(roomKey, message, response);
+                    }
+                });
+            return response;
+        }
+        return sendAndBufferChatMessage(roomKey, message, response);
     }
 
+    /**
+     * 참여자 목록은 레지스트리에서 확인하고, 실제로 참여하지 않은 회원이 보낼 때만 회원 존재 여부를 조회한다.
+     */
     @Override
-    @Transactional
     public ChatMessageResponse send(ChatMessageRequest chatMessageRequest, String roomKey) {
-        Member member = memberRepository.findById(chatMessageRequest.getMemberId())
+        ChatRoomEntry room = chatRoomRegistry.get(roomKey)
+            .orElseThrow(ChatRoomNotFoundException::new);
+        Long memberId = chatMessageRequest.getMemberId();
+        if (!room.isParticipant(memberId) && !memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException();
+        }
+
+        PendingChatMessage message = makeChatMessage(chatMessageRequest, room);
+        ChatMessageResponse response = makeResponse(message, message.getContent());
+        return sendAndBufferChatMessage(roomKey, message, response);
+    }
+
+    private String join(Long memberId, String roomKey) {
+        Member member = memberRepository.findById(memberId)
             .orElseThrow(MemberNotFoundException::new);
         ChatRoom chatRoom = chatRoomRepository.findByRoomKey(roomKey)
             .orElseThrow(ChatRoomNotFoundException::new);
-        ChatMessageResponse response = ChatMessageResponse.makeResponseFromRequest(
-            chatMessageRequest);
-        return saveAndSendChatMessage(chatMessageRequest, roomKey, member, chatRoom, response);
+        Optional<ChatroomMember> optionalChatroomMember = chatRoomMemberRepository.findByChatRoomAndMember(
+            chatRoom,
+            member);
+        reserveSeatAndAddRoomMember(member, chatRoom, optionalChatroomMember);
+        chatRoomRegistry.invalidate(roomKey);
+        return member.getNickname();
     }
 
-    private ChatMessageResponse saveAndSendChatMessage(ChatMessageRequest chatMessageRequest,
-        String roomKey,
-        Member member, ChatRoom chatRoom, ChatMessageResponse response) {
-        saveChatMessage(chatMessageRequest, member, chatRoom);
-        messagingTemplate.convertAndSend(CHAT_EXCHANGE_NAME, "room." + roomKey, response);
+    /**
+     * 저장은 버퍼에 맡기고, 버퍼가 가득 찼을 때만 호출한 스레드에서 바로 저장한다.
+     * 저장하지 못한 메시지가 구독자에게 나가지 않도록 버퍼에 넣거나 저장한 뒤에 발행한다.
+     */
+    private ChatMessageResponse sendAndBufferChatMessage(String roomKey,
+        PendingChatMessage message, ChatMessageResponse response) {
+        if (!writeBuffer.offer(message)) {
+            chatMessageRepository.saveAllInBatch(List.of(message));
+        }
+
+        chatMessagePublisher.publish(roomKey, response);
         return response;
     }
 
-    private void checkMaxParticipantCountAndAddRoomMember(Member member, ChatRoom chatRoom,
+    /**
+     * 조건부 UPDATE 로 자리를 먼저 확보한 뒤 참여자를 추가한다. 동시에 입장해도 정원을 넘지 않고,
+     * 같은 회원이 동시에 입장해 참여자 추가가 실패하면 트랜잭션과 함께 확보한 자리도 되돌려진다.
+     */
+    private void reserveSeatAndAddRoomMember(Member member, ChatRoom chatRoom,
         Optional<ChatroomMember> optionalChatroomMember) {
         if (optionalChatroomMember.isEmpty()) {
-            if (chatRoom.getChatroomMembers().size() >= chatRoom.getMaxParticipantCount()) {
+            if (chatRoomRepository.reserveSeat(chatRoom.getId()) == 0) {
                 throw new ChatRoomOverCrowdException();
             }
             ChatroomMember chatroomMember = ChatroomMember.builder().member(member)
                 .chatRoom(chatRoom).build();
-            chatRoom.addChatroomMember(chatroomMember);
             chatRoomMemberRepository.save(chatroomMember);
         }
     }
 
-    private void saveChatMessage(ChatMessageRequest chatMessageRequest, Member member,
-        ChatRoom chatRoom) {
-        ChatMessage chatMessage = makeChatMessage(chatMessageRequest, member, chatRoom);
-        chatRoom.addChatMessage(chatMessage);
-        chatMessageRepository.save(chatMessage);
-    }
-
-    private static ChatMessage makeChatMessage(ChatMessageRequest chatMessageRequest, Member member,
-        ChatRoom chatRoom) {
-        return ChatMessage.builder()
-            .member(member)
-            .chatRoom(chatRoom)
+    private PendingChatMessage makeChatMessage(ChatMessageRequest chatMessageRequest,
+        ChatRoomEntry room) {
+        return PendingChatMessage.builder()
+            .id(idGenerator.nextId())
+            .chatRoomId(room.getRoomId())
+            .memberId(chatMessageRequest.getMemberId())
             .content(chatMessageRequest.getContent())
+            .createdAt(LocalDateTime.now())
             .build();
     }
+
+    private static ChatMessageResponse makeResponse(PendingChatMessage message, String content) {
+        return new ChatMessageResponse(message.getId(), message.getMemberId(), content,
+            message.getCreatedAt());
+    }
 }
@@ -1,11 +1,12 @@
 package com.gaethering.gaetheringserver.domain.chat.service;
 
-import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatHistoryResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomInfo;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomSearchCondition;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomRequest;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomResponse;
-import java.util.List;
 
 public interface ChatService {
 
@@ -13,11 +14,12 @@ public interface ChatService {
 
     ChatRoomInfo getChaRoomInformation(String roomKey);
 
-    List<ChatMessageResponse> getChatHistory(String roomKey);
+    ChatHistoryResponse getChatHistory(String roomKey, int size, long lastMessageId);
 
     void deleteChatRoom(String email, String chatRoomKey);
 
-    ChatRoomListResponse getLocalChatRooms(String email);
+    LocalChatRoomListResponse getLocalChatRooms(String email, int size, long lastChatRoomId,
+        LocalChatRoomSearchCondition condition);
 
     ChatRoomListResponse getMyChatRooms(String email);
 }
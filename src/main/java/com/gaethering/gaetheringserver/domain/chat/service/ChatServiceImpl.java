@@ -1,9 +1,15 @@
 package com.gaethering.gaetheringserver.domain.chat.service;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetCursor;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import com.gaethering.gaetheringserver.domain.chat.cache.ChatRoomRegistry;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatHistoryResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomInfo;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListInfo;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomSearchCondition;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomRequest;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.WalkingTimeInfo;
@@ -11,14 +17,17 @@ import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatroomMember;
 import com.gaethering.gaetheringserver.domain.chat.entity.WalkingTime;
 import com.gaethering.gaetheringserver.domain.chat.exception.ChatRoomNotFoundException;
+import com.gaethering.gaetheringserver.domain.chat.exception.InvalidLocationException;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatMessageRepository;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomMemberRepository;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomRepository;
 import com.gaethering.gaetheringserver.domain.chat.repository.WalkingTimeRepository;
+import com.gaethering.gaetheringserver.domain.chat.util.GeoHash;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -38,6 +47,12 @@ public class ChatServiceImpl implements ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final WalkingTimeRepository walkingTimeRepository;
+    private final ChatRoomRegistry chatRoomRegistry;
+
+    /**
+     * 근처 채팅방 검색 셀 크기. 6자리는 약 1.2km x 0.6km 이고, 주변 8칸까지 함께 조회한다.
+     */
+    private static final int LOCAL_GEOHASH_PRECISION = 6;
 
     @Override
     @Transactional
@@ -59,34 +74,56 @@ public class ChatServiceImpl implements ChatService {
         chatRoomMemberRepository.save(chatroomMember);
         chatRoomRepository.save(chatRoom);
         walkingTimeRepository.saveAll(walkingTimes);
+        chatRoomRegistry.invalidate(roomKey);
         return MakeChatRoomResponse.builder().roomKey(roomKey).build();
     }
 
     private static ChatRoom makeChatRoom(MakeChatRoomRequest makeChatRoomRequest, String roomKey) {
+        Double latitude = makeChatRoomRequest.getLatitude();
+        Double longitude = makeChatRoomRequest.getLongitude();
+        String geohash = null;
+        if (latitude != null && longitude != null) {
+            geohash = encodeGeohash(latitude, longitude);
+        }
         return ChatRoom.builder()
             .roomKey(roomKey)
             .name(makeChatRoomRequest.getName())
             .maxParticipantCount(makeChatRoomRequest.getMaxParticipantCount())
+            .currentParticipantCount(1)
             .description(makeChatRoomRequest.getDescription())
+            .latitude(latitude)
+            .longitude(longitude)
+            .geohash(geohash)
             .walkingTimes(new ArrayList<>())
             .chatroomMembers(new ArrayList<>())
             .build();
     }
 
+    private static String encodeGeohash(double latitude, double longitude) {
+        try {
+            return GeoHash.encode(latitude, longitude, ChatRoom.GEOHASH_PRECISION);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidLocationException();
+        }
+    }
+
     @Override
     public ChatRoomInfo getChaRoomInformation(String roomKey) {
-        ChatRoom chatRoom = chatRoomRepository.findByRoomKey(roomKey)
+        return chatRoomRepository.findChatRoomInfo(roomKey)
             .orElseThrow(ChatRoomNotFoundException::new);
-        return ChatRoomInfo.of(chatRoom);
     }
 
     @Override
-    public List<ChatMessageResponse> getChatHistory(String roomKey) {
+    public ChatHistoryResponse getChatHistory(String roomKey, int size, long lastMessageId) {
         ChatRoom chatRoom = chatRoomRepository.findByRoomKey(roomKey)
             .orElseThrow(ChatRoomNotFoundException::new);
-        return chatRoom.getChatMessages().stream()
-            .sorted((o1, o2) -> o2.getCreatedAt().compareTo(o1.getCreatedAt()))
-            .map(ChatMessageResponse::of).collect(Collectors.toList());
+
+        int pageSize = KeysetPage.clampSize(size);
+        List<ChatMessageResponse> messages = chatMessageRepository.findChatHistory(
+            chatRoom.getId(), lastMessageId, pageSize + 1);
+
+        return ChatHistoryResponse.of(KeysetPage.of(messages, pageSize,
+            message -> KeysetCursor.of(message.getMessageId())));
     }
 
     @Override
@@ -100,19 +137,33 @@ public class ChatServiceImpl implements ChatService {
         chatMessageRepository.deleteAllByChatRoom(chatRoom);
         walkingTimeRepository.deleteAllByChatRoom(chatRoom);
         chatRoomRepository.delete(chatRoom);
+        chatRoomRegistry.invalidate(chatRoomKey);
     }
 
     @Override
-    public ChatRoomListResponse getLocalChatRooms(String email) {
+    public LocalChatRoomListResponse getLocalChatRooms(String email, int size,
+        long lastChatRoomId, LocalChatRoomSearchCondition condition) {
         memberRepository.findByEmail(email).orElseThrow(MemberNotFoundException::new);
 
-        List<ChatRoomListInfo> chatRoomInfos = chatRoomRepository.findAll().stream()
-            .map(ChatRoomListInfo::of).collect(Collectors.toList());
+        int pageSize = KeysetPage.clampSize(size);
+        List<ChatRoomListInfo> chatRooms = chatRoomRepository.findLocalChatRooms(
+            localGeohashPrefixes(condition), condition.getDayOfWeek(), condition.getTime(), lastChatRoomId,
+            pageSize + 1);
 
-        return ChatRoomListResponse.builder()
-            .numberOfChatRooms(chatRoomInfos.size())
-            .chatRooms(chatRoomInfos)
-            .build();
+        return LocalChatRoomListResponse.of(KeysetPage.of(chatRooms, pageSize,
+            chatRoom -> KeysetCursor.of(chatRoom.getChatRoomId())));
+    }
+
+    private static List<String> localGeohashPrefixes(LocalChatRoomSearchCondition condition) {
+        if (!condition.hasLocation()) {
+            return Collections.emptyList();
+        }
+        try {
+            return GeoHash.neighbors(condition.getLatitude(), condition.getLongitude(),
+                LOCAL_GEOHASH_PRECISION);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidLocationException();
+        }
     }
 
     @Override
@@ -121,8 +172,7 @@ public class ChatServiceImpl implements ChatService {
             .orElseThrow(MemberNotFoundException::new);
 
         List<ChatRoomListInfo> chatRoomInfos = chatRoomRepository.findChatRoomsByMemberId(
-                member.getId())
-            .stream().map(ChatRoomListInfo::of).collect(Collectors.toList());
+            member.getId());
 
         return ChatRoomListResponse.builder()
             .numberOfChatRooms(chatRoomInfos.size())
@@ -0,0 +1,60 @@
+package com.gaethering.gaetheringserver.domain.chat.util;
+
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 id 를 DB 왕복 없이 발급한다. (41bit 시각 | 10bit 노드 | 12bit 시퀀스)
+ * 시간 순으로 증가하므로 chat_message_id 커서 정렬이 그대로 유지된다.
+ * 서버마다 다른 chat.message.id-node 를 주어야 id 가 겹치지 않으므로 기본값을 두지 않는다.
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    private static final long EPOCH = 1672531200000L; // 2023-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    @Autowired
+    public ChatMessageIdGenerator(@Value("${chat.message.id-node}") long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    ChatMessageIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                "chat.message.id-node must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        // 시계가 뒤로 가더라도 마지막 시각을 기준으로 계속 증가시킨다.
+        long timestamp = Math.max(clock.getAsLong(), lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+            | (nodeId << SEQUENCE_BITS)
+            | sequence;
+    }
+}
@@ -0,0 +1,104 @@
+package com.gaethering.gaetheringserver.domain.chat.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 위경도를 base32 geohash 로 변환한다. 앞자리가 같을수록 가까운 위치이므로
+ * geohash 컬럼에 prefix 조건(LIKE 'abc%')을 걸면 인덱스 범위 스캔으로 근처를 찾을 수 있다.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        validate(latitude, longitude, precision);
+
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLng = mid;
+                } else {
+                    index = index << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[index]);
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 해당 위치의 셀과 주변 8개 셀의 geohash. 셀 경계 바로 옆의 방이 빠지지 않도록 함께 조회한다.
+     */
+    public static List<String> neighbors(double latitude, double longitude, int precision) {
+        validate(latitude, longitude, precision);
+
+        int lngBits = (precision * 5 + 1) / 2;
+        int latBits = precision * 5 / 2;
+        double cellWidth = 360.0 / (1L << lngBits);
+        double cellHeight = 180.0 / (1L << latBits);
+
+        Set<String> hashes = new LinkedHashSet<>();
+        for (int dy = -1; dy <= 1; dy++) {
+            double lat = latitude + dy * cellHeight;
+            if (lat < -90 || lat > 90) {
+                continue;
+            }
+            for (int dx = -1; dx <= 1; dx++) {
+                hashes.add(encode(lat, wrapLongitude(longitude + dx * cellWidth), precision));
+            }
+        }
+        return new ArrayList<>(hashes);
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude >= 180) {
+            return longitude - 360;
+        }
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude;
+    }
+
+    private static void validate(double latitude, double longitude, int precision) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("invalid coordinate: " + latitude + ", " + longitude);
+        }
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be between 1 and " + MAX_PRECISION);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.gaethering.gaetheringserver.domain.email;
+
+import com.gaethering.gaetheringserver.domain.email.dispatcher.MailDispatcher;
+import com.gaethering.gaetheringserver.domain.email.entity.MailOutbox;
+import com.gaethering.gaetheringserver.domain.email.repository.MailOutboxRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메일을 호출한 트랜잭션 안에서 mail_outbox 에 기록하고, 커밋된 뒤에 MailDispatcher 에 넘긴다.
+ * 요청 스레드는 SMTP 서버를 기다리지 않고, 롤백된 요청의 메일은 나가지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MailQueue {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailDispatcher mailDispatcher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String recipient, String subject, String text) {
+        Long id = mailOutboxRepository.save(MailOutbox.builder()
+            .recipient(recipient)
+            .subject(subject)
+            .text(text)
+            .nextAttemptAt(LocalDateTime.now())
+            .build()).getId();
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailDispatcher.dispatch(id);
+                }
+            });
+    }
+}
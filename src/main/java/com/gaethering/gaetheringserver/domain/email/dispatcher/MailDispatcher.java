@@ -0,0 +1,188 @@
+package com.gaethering.gaetheringserver.domain.email.dispatcher;
+
+import com.gaethering.gaetheringserver.domain.email.entity.MailOutbox;
+import com.gaethering.gaetheringserver.domain.email.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * mail_outbox 의 메일을 threads 개의 스레드로 보낸다.
+ * <p>
+ * 커밋된 메일은 MailQueue 가 바로 넘기고, 대기열이 가득 찼거나 다시 보낼 메일은 poll 이 주기적으로 가져온다.
+ * 보내기 전에 lease 만큼 next_attempt_at 을 미뤄 가져가므로 여러 스레드나 서버가 같은 메일을 두 번 보내지 않고,
+ * 보내다 서버가 죽은 메일은 lease 가 지나면 다시 보낸다.
+ * <p>
+ * 보내지 못한 메일은 retry-backoff 의 두 배씩 미뤄 max-attempts 번까지 다시 보내고, 도메인별 전송 한도를 넘은 메일은
+ * 시도 횟수를 늘리지 않고 다음 토큰이 생길 때로 미룬다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final String EMAIL_ENCODING = "utf-8";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final SmtpTransportPool transportPool;
+    private final MailDomainRateLimiter rateLimiter;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final long retryBackoff;
+    private final Timer sendTimer;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private final Counter throttledCounter;
+
+    public MailDispatcher(MailOutboxRepository mailOutboxRepository,
+        SmtpTransportPool transportPool, MailDomainRateLimiter rateLimiter,
+        TransactionTemplate transactionTemplate,
+        @Value("${mail.dispatch.threads:4}") int threads,
+        @Value("${mail.dispatch.queue-capacity:100}") int queueCapacity,
+        @Value("${mail.dispatch.lease:60000}") long leaseMillis,
+        @Value("${mail.dispatch.max-attempts:5}") int maxAttempts,
+        @Value("${mail.dispatch.retry-backoff:2000}") long retryBackoff,
+        MeterRegistry meterRegistry) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.transportPool = transportPool;
+        this.rateLimiter = rateLimiter;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseMillis = leaseMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.sendTimer = meterRegistry.timer("mail.dispatch.send");
+        this.failedCounter = meterRegistry.counter("mail.dispatch.failed");
+        this.droppedCounter = meterRegistry.counter("mail.dispatch.dropped");
+        this.throttledCounter = meterRegistry.counter("mail.dispatch.throttled");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatchExecutor = new ThreadPoolExecutor(threads, threads,
+            60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> new Thread(runnable, "mail-dispatch-" + threadNumber.incrementAndGet()),
+            new AbortPolicy());
+        this.dispatchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 대기열이 가득 차면 넘기지 않고 돌아온다. 남은 메일은 poll 이 가져간다.
+     */
+    public boolean dispatch(Long id) {
+        try {
+            dispatchExecutor.execute(() -> send(id));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mail.dispatch.poll-interval:1000}")
+    public void poll() {
+        int capacity = dispatchExecutor.getQueue().remainingCapacity();
+        if (capacity > 0) {
+            List<Long> ids = mailOutboxRepository.findDueIds(LocalDateTime.now(),
+                PageRequest.of(0, capacity));
+            for (Long id : ids) {
+                if (!dispatch(id)) {
+                    break;
+                }
+            }
+        }
+        transportPool.evictIdle();
+        rateLimiter.evictIdle();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatchExecutor.shutdown();
+        dispatchExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    void send(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> mailOutboxRepository.claim(id,
+            now, now.plusNanos(leaseMillis * 1_000_000)));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        MailOutbox mail = mailOutboxRepository.findById(id).orElse(null);
+        if (mail == null) {
+            return;
+        }
+
+        long wait = rateLimiter.tryAcquire(mail.getRecipientDomain());
+        if (wait > 0) {
+            throttledCounter.increment();
+            update(status -> mailOutboxRepository.deferTo(id, now.plusNanos(wait * 1_000_000)));
+            return;
+        }
+
+        try {
+            sendTimer.recordCallable(() -> {
+                transportPool.send(createMessage(mail));
+                return null;
+            });
+        } catch (Exception e) {
+            retryLater(mail, e);
+            return;
+        }
+        update(status -> mailOutboxRepository.deleteById(id));
+    }
+
+    private void retryLater(MailOutbox mail, Exception e) {
+        failedCounter.increment();
+        int attempts = mail.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            droppedCounter.increment();
+            log.error("[이메일 전송 실패] {} 번 시도 후 포기합니다. id={}", attempts, mail.getId(), e);
+            update(status -> mailOutboxRepository.deleteById(mail.getId()));
+            return;
+        }
+
+        long backoff = retryBackoff << Math.min(attempts - 1, 20);
+        log.warn("[이메일 전송 실패] {}ms 뒤에 다시 보냅니다. id={}, {}", backoff, mail.getId(),
+            e.getMessage());
+        update(status -> mailOutboxRepository.retryAt(mail.getId(),
+            LocalDateTime.now().plusNanos(backoff * 1_000_000)));
+    }
+
+    /**
+     * 결과를 기록하지 못해도 lease 가 지나면 다시 가져가므로 로그만 남긴다.
+     */
+    private void update(Consumer<TransactionStatus> action) {
+        try {
+            transactionTemplate.executeWithoutResult(action);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update mail outbox", e);
+        }
+    }
+
+    private MimeMessage createMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = transportPool.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, EMAIL_ENCODING);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getText());
+        return message;
+    }
+}
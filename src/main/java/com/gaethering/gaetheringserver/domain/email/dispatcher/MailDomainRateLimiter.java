@@ -0,0 +1,70 @@
+package com.gaethering.gaetheringserver.domain.email.dispatcher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 받는 사람 도메인마다 초당 domain-rate 통까지만 보내도록 하는 토큰 버킷.
+ * 한 도메인에 몰아서 보내면 받는 서버가 일시적으로 거절하거나 스팸으로 분류하기 쉽다.
+ */
+@Component
+public class MailDomainRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public MailDomainRateLimiter(@Value("${mail.dispatch.domain-rate:5}") double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = Math.max(1, permitsPerSecond);
+    }
+
+    /**
+     * 보낼 수 있으면 0, 아니면 다음 토큰이 생길 때까지 기다려야 하는 밀리초.
+     */
+    public long tryAcquire(String domain) {
+        return buckets.computeIfAbsent(domain, key -> new Bucket())
+            .tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * 가득 찬 버킷은 새로 만든 것과 같으므로 지운다.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private class Bucket {
+
+        private double tokens = capacity;
+        private long refilledAt = System.nanoTime();
+
+        synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens--;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / permitsPerSecond * 1000);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            double elapsedSeconds = (now - refilledAt) / (double) TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(capacity, tokens + elapsedSeconds * permitsPerSecond);
+            refilledAt = now;
+        }
+    }
+}
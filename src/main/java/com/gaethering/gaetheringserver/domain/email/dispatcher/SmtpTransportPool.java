@@ -0,0 +1,145 @@
+package com.gaethering.gaetheringserver.domain.email.dispatcher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+/**
+ * SMTP 연결을 메일마다 새로 맺지 않고 max-connections 개까지 열어 두고 돌려 쓴다.
+ * <p>
+ * 한 연결로 max-messages 통을 보냈거나 idle-timeout 동안 쓰지 않은 연결은 닫는다. 서버가 먼저 끊은 연결은
+ * 꺼낼 때 isConnected 로 확인해 다시 연결한다.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final int maxMessages;
+    private final long idleTimeoutNanos;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private final Counter openedCounter;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+        @Value("${mail.smtp.pool.max-connections:4}") int maxConnections,
+        @Value("${mail.smtp.pool.max-messages:100}") int maxMessages,
+        @Value("${mail.smtp.pool.idle-timeout:30000}") long idleTimeoutMillis,
+        MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.maxMessages = maxMessages;
+        this.idleTimeoutNanos = idleTimeoutMillis * 1_000_000;
+        this.permits = new Semaphore(maxConnections, true);
+        this.openedCounter = meterRegistry.counter("mail.smtp.connections.opened");
+    }
+
+    public MimeMessage createMimeMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    public void send(MimeMessage message) throws MessagingException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for a SMTP connection", e);
+        }
+
+        PooledTransport transport = null;
+        try {
+            transport = borrow();
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.transport.sendMessage(message, message.getAllRecipients());
+            transport.sent++;
+            giveBack(transport);
+        } catch (MessagingException | RuntimeException e) {
+            // 실패한 연결은 상태를 알 수 없으므로 버린다.
+            if (transport != null) {
+                close(transport);
+            }
+            throw e;
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void evictIdle() {
+        long now = System.nanoTime();
+        Iterator<PooledTransport> iterator = idle.iterator();
+        while (iterator.hasNext()) {
+            PooledTransport transport = iterator.next();
+            if (now - transport.releasedAt > idleTimeoutNanos && idle.remove(transport)) {
+                close(transport);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport transport;
+        while ((transport = idle.pollFirst()) != null) {
+            if (transport.transport.isConnected()) {
+                return transport;
+            }
+            close(transport);
+        }
+
+        String protocol = mailSender.getProtocol() != null
+            ? mailSender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        Transport connected = mailSender.getSession().getTransport(protocol);
+        connected.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(),
+            mailSender.getPassword());
+        openedCounter.increment();
+        return new PooledTransport(connected);
+    }
+
+    private void giveBack(PooledTransport transport) {
+        if (transport.sent >= maxMessages) {
+            close(transport);
+            return;
+        }
+        transport.releasedAt = System.nanoTime();
+        // 최근에 쓴 연결부터 다시 쓰므로 남는 연결은 idle-timeout 이 지나 닫힌다.
+        idle.offerFirst(transport);
+    }
+
+    private void close(PooledTransport transport) {
+        try {
+            transport.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection", e);
+        }
+    }
+
+    private static class PooledTransport {
+
+        private final Transport transport;
+        private int sent;
+        private long releasedAt;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.gaethering.gaetheringserver.domain.email.entity;
+
+import com.gaethering.gaetheringserver.core.entity.BaseCreatedTimeEntity;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보내야 할 메일. 보내고 나면 지운다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mail_outbox",
+    indexes = @Index(name = "idx_mail_outbox_next_attempt_at", columnList = "next_attempt_at"))
+public class MailOutbox extends BaseCreatedTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String text;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public String getRecipientDomain() {
+        return recipient.substring(recipient.lastIndexOf('@') + 1).toLowerCase();
+    }
+}
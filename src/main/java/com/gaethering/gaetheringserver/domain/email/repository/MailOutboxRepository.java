@@ -0,0 +1,34 @@
+package com.gaethering.gaetheringserver.domain.email.repository;
+
+import com.gaethering.gaetheringserver.domain.email.entity.MailOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    @Query("select m.id from MailOutbox m where m.nextAttemptAt <= :now order by m.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 보낼 때가 된 메일을 leaseUntil 까지 가져간다. 다른 스레드나 서버가 먼저 가져갔으면 0 을 돌려준다.
+     */
+    @Modifying
+    @Query("update MailOutbox m set m.nextAttemptAt = :leaseUntil"
+        + " where m.id = :id and m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("update MailOutbox m set m.nextAttemptAt = :nextAttemptAt where m.id = :id")
+    int deferTo(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("update MailOutbox m set m.attempts = m.attempts + 1,"
+        + " m.nextAttemptAt = :nextAttemptAt where m.id = :id")
+    int retryAt(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
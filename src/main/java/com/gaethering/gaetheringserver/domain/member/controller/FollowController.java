@@ -1,10 +1,9 @@
 package com.gaethering.gaetheringserver.domain.member.controller;
 
-import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowsGetResponse;
 import com.gaethering.gaetheringserver.domain.member.exception.follow.FollowNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.service.follow.FollowService;
 import java.security.Principal;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -29,13 +29,17 @@ public class FollowController {
     }
 
     @GetMapping("/members/{memberId}/follower")
-    public ResponseEntity<List<FollowResponse>> getFollowers(@PathVariable Long memberId) {
-        return ResponseEntity.ok(followService.getFollowers(memberId));
+    public ResponseEntity<FollowsGetResponse> getFollowers(@PathVariable Long memberId,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "" + Long.MAX_VALUE) long lastFollowId) {
+        return ResponseEntity.ok(followService.getFollowers(memberId, size, lastFollowId));
     }
 
     @GetMapping("/members/{memberId}/following")
-    public ResponseEntity<List<FollowResponse>> getFollowings(@PathVariable Long memberId) {
-        return ResponseEntity.ok(followService.getFollowees(memberId));
+    public ResponseEntity<FollowsGetResponse> getFollowings(@PathVariable Long memberId,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "" + Long.MAX_VALUE) long lastFollowId) {
+        return ResponseEntity.ok(followService.getFollowees(memberId, size, lastFollowId));
     }
 
     @DeleteMapping("/members/{memberId}/follow")
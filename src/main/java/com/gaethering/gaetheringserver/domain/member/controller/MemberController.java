@@ -30,6 +30,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -113,8 +114,11 @@ public class MemberController {
     }
 
     @GetMapping("/mypage/posts")
-    public ResponseEntity<MyPostsResponse> getMyPosts(Principal principal) {
-        MyPostsResponse response = memberService.getMyPosts(principal.getName());
+    public ResponseEntity<MyPostsResponse> getMyPosts(Principal principal,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "" + Long.MAX_VALUE) long lastPostId) {
+        MyPostsResponse response = memberService.getMyPosts(principal.getName(), size,
+            lastPostId);
         return ResponseEntity.ok(response);
     }
 
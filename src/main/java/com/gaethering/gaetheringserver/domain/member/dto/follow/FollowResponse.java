@@ -1,5 +1,6 @@
 package com.gaethering.gaetheringserver.domain.member.dto.follow;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,12 @@ import lombok.Getter;
 @Builder
 public class FollowResponse {
 
+    /**
+     * 다음 목록을 읽을 커서로만 쓴다.
+     */
+    @JsonIgnore
+    private Long followId;
+
     private Long id;
     private String name;
     private String nickname;
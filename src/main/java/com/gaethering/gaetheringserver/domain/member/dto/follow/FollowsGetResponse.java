@@ -0,0 +1,29 @@
+package com.gaethering.gaetheringserver.domain.member.dto.follow;
+
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FollowsGetResponse {
+
+    private List<FollowResponse> follows = new ArrayList<>();
+
+    private long totalFollowsCnt;
+
+    private long nextCursor;
+
+    public static FollowsGetResponse of(KeysetPage<FollowResponse> followsPage,
+        long totalFollowsCnt) {
+        return new FollowsGetResponse(followsPage.getContent(), totalFollowsCnt,
+            followsPage.getNextCursorId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.gaethering.gaetheringserver.domain.member.dto.mypage;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,8 +11,14 @@ import lombok.Getter;
 @Builder
 public class MyPostsResponse {
 
-    private int postCount;
+    private long postCount;
 
     private List<PostInfo> posts;
 
+    private long nextCursor;
+
+    public static MyPostsResponse of(KeysetPage<PostInfo> postsPage, long postCount) {
+        return new MyPostsResponse(postCount, postsPage.getContent(),
+            postsPage.getNextCursorId());
+    }
 }
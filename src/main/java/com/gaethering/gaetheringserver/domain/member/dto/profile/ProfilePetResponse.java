@@ -20,7 +20,7 @@ public class ProfilePetResponse {
             .id(pet.getId())
             .name(pet.getName())
             .isRepresentative(pet.isRepresentative())
-            .imageUrl(pet.getImageUrl())
+            .imageUrl(pet.getListImageUrl())
             .build();
     }
 }
\ No newline at end of file
@@ -7,8 +7,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +18,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "follow", indexes = {
+    @Index(name = "idx_follow_followee", columnList = "followee_member_id, follow_id"),
+    @Index(name = "idx_follow_follower", columnList = "follower_member_id, follow_id")})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -26,10 +26,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         ) {
             String token = jwtProvider.resolveToken(request);
 
-            if (token != null && jwtProvider.validateToken(token)) {
-
-                Authentication authentication = jwtProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (token != null) {
+                jwtProvider.validateToken(token).ifPresent(validatedToken -> {
+                    Authentication authentication = jwtProvider.getAuthentication(validatedToken);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
             }
         }
         filterChain.doFilter(request, response);
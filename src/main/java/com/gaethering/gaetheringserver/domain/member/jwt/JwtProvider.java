@@ -2,28 +2,38 @@ package com.gaethering.gaetheringserver.domain.member.jwt;
 
 import com.gaethering.gaetheringserver.domain.member.dto.auth.LoginResponse;
 import com.gaethering.gaetheringserver.domain.member.dto.auth.ReissueTokenResponse;
-import com.gaethering.gaetheringserver.domain.member.exception.auth.TokenNotExistUserInfoException;
-import com.gaethering.gaetheringserver.domain.member.exception.errorcode.MemberErrorCode;
+import com.gaethering.gaetheringserver.domain.member.exception.auth.DormantUserException;
+import com.gaethering.gaetheringserver.domain.member.exception.auth.InActiveUserException;
+import com.gaethering.gaetheringserver.domain.member.type.MemberRole;
+import com.gaethering.gaetheringserver.domain.member.type.MemberStatus;
 import com.gaethering.gaetheringserver.domain.redis.RedisService;
+import com.gaethering.gaetheringserver.domain.redis.TokenBlackList;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 import javax.annotation.PostConstruct;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -34,10 +44,15 @@ public class JwtProvider {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ROLE_CLAIM = "role";
+    private static final String USER_NOT_FOUND_MESSAGE = "사용자를 찾을 수 없습니다.";
     private final RedisService redisService;
     private final UserDetailsService userDetailsService;
+    private final MemberStatusCache memberStatusCache;
+    private final TokenBlackList tokenBlackList;
     @Value("${spring.jwt.secret}")
     private String key;
+    private SecretKey secretKey;
 
     @Value("${spring.jwt.valid.accessToken}")
     private Long accessTokenValid;
@@ -47,17 +62,18 @@ public class JwtProvider {
 
     @PostConstruct
     protected void init() {
-        key = Base64.getEncoder().encodeToString(key.getBytes());
+        secretKey = new SecretKeySpec(key.getBytes(), SignatureAlgorithm.HS256.getJcaName());
     }
 
-    public String createAccessToken(String email, Long tokenValid) {
+    public String createAccessToken(String email, String role, Long tokenValid) {
         Claims claims = Jwts.claims().setSubject(email);
+        claims.put(ROLE_CLAIM, role);
         Date date = new Date();
         return Jwts.builder()
             .setClaims(claims)
             .setIssuedAt(date)
             .setExpiration(new Date(date.getTime() + tokenValid))
-            .signWith(SignatureAlgorithm.HS256, key)
+            .signWith(SignatureAlgorithm.HS256, secretKey)
             .compact();
     }
 
@@ -68,7 +84,7 @@ public class JwtProvider {
             .setClaims(claims)
             .setIssuedAt(date)
             .setExpiration(new Date(date.getTime() + tokenValid))
-            .signWith(SignatureAlgorithm.HS256, key)
+            .signWith(SignatureAlgorithm.HS256, secretKey)
             .compact();
     }
 
@@ -76,7 +92,8 @@ public class JwtProvider {
 
         String email = authentication.getName();
 
-        String accessToken = createAccessToken(email, accessTokenValid);
+        String accessToken = createAccessToken(email, getRole(authentication.getAuthorities()),
+            accessTokenValid);
         String refreshToken = createRefreshToken(email, refreshTokenValid);
 
         redisService.setDataExpire(email, refreshToken, refreshTokenValid);
@@ -85,27 +102,47 @@ public class JwtProvider {
 
     public ReissueTokenResponse reissueAccessToken(String email) {
 
-        String accessToken = createAccessToken(email, accessTokenValid);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        String accessToken = createAccessToken(email, getRole(userDetails.getAuthorities()),
+            accessTokenValid);
 
         return new ReissueTokenResponse(accessToken);
     }
 
-    public Authentication getAuthentication(String accessToken) {
-        String email = getUserEmail(accessToken);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    public Authentication getAuthentication(ValidatedToken accessToken) {
+        String email = accessToken.getEmail();
+        String role = accessToken.getClaim(ROLE_CLAIM);
+
+        UserDetails userDetails;
+        if (role == null) {
+            // role 클레임이 없는 이전 토큰은 회원 조회로 권한을 채운다
+            userDetails = userDetailsService.loadUserByUsername(email);
+        } else {
+            // 토큰에는 상태를 싣지 않으므로 상태는 항상 MemberStatusCache 로 확인한다
+            verifyStatus(memberStatusCache.getStatus(email)
+                .orElseThrow(() -> new UsernameNotFoundException(USER_NOT_FOUND_MESSAGE)));
+            userDetails = new User(email, "",
+                Collections.singleton(new SimpleGrantedAuthority(role)));
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, "",
             userDetails.getAuthorities());
     }
 
-    public String getUserEmail(String token) {
-        try {
-            return Jwts.parser().setSigningKey(key).parseClaimsJws(token).getBody().getSubject();
-        } catch (Exception e) {
-            throw new TokenNotExistUserInfoException(
-                MemberErrorCode.CANNOT_FIND_USER_EMAIL_IN_TOKEN);
+    private static void verifyStatus(MemberStatus status) {
+        if (status == MemberStatus.INACTIVE) {
+            throw new InActiveUserException();
+        } else if (status == MemberStatus.DORMANT) {
+            throw new DormantUserException();
         }
     }
 
+    private static String getRole(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream()
+            .map(GrantedAuthority::getAuthority)
+            .findFirst()
+            .orElse(MemberRole.ROLE_USER.name());
+    }
+
     public String resolveToken(HttpServletRequest request) {
         String headerAuth = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith(BEARER_PREFIX)) {
@@ -114,14 +151,17 @@ public class JwtProvider {
         return null;
     }
 
-    public boolean validateToken(String token) {
+    public Optional<ValidatedToken> validateToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(key).parseClaimsJws(token);
-            if (redisService.hasKeyBlackList(token)) {
-                return false;
+            Claims claims = Jwts.parser().setSigningKey(secretKey)
+                .parseClaimsJws(token).getBody();
+            if (claims.getSubject() == null
+                || claims.getExpiration().before(new Date())
+                || tokenBlackList.contains(token)) {
+                return Optional.empty();
             }
 
-            return !claims.getBody().getExpiration().before(new Date());
+            return Optional.of(new ValidatedToken(token, claims));
 
         } catch (SignatureException e) {
             log.info("Invalid JWT signature: {}", e.getMessage());
@@ -134,13 +174,6 @@ public class JwtProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
-    }
-
-    public Long getExpiration(String accessToken) {
-        Date expiration = Jwts.parser().setSigningKey(key)
-            .parseClaimsJws(accessToken).getBody().getExpiration();
-        Long now = new Date().getTime();
-        return (expiration.getTime() - now);
+        return Optional.empty();
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.gaethering.gaetheringserver.domain.member.jwt;
+
+import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import com.gaethering.gaetheringserver.domain.member.type.MemberStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 인증 시 회원 상태(휴면/탈퇴)를 매 요청 조회하지 않도록 짧은 TTL 로 캐싱한다.
+ * 상태가 바뀌면 최대 TTL 만큼 늦게 반영된다.
+ */
+@Component
+public class MemberStatusCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, MemberStatus> cache;
+
+    public MemberStatusCache(MemberRepository memberRepository,
+        @Value("${spring.jwt.status-cache.ttl:30s}") Duration ttl,
+        @Value("${spring.jwt.status-cache.max-size:10000}") long maxSize) {
+
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    public Optional<MemberStatus> getStatus(String email) {
+        return Optional.ofNullable(cache.get(email,
+            key -> memberRepository.findStatusByEmail(key).orElse(null)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.gaethering.gaetheringserver.domain.member.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명/만료/블랙리스트 검증을 마친 토큰. 한 번 파싱한 클레임을 필터와 서비스에서 그대로 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ValidatedToken {
+
+    private final String token;
+
+    private final Claims claims;
+
+    public String getEmail() {
+        return claims.getSubject();
+    }
+
+    public String getClaim(String name) {
+        return claims.get(name, String.class);
+    }
+
+    public long getRemainingMillis() {
+        return claims.getExpiration().getTime() - System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,13 @@
+package com.gaethering.gaetheringserver.domain.member.repository.follow;
+
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
+import java.util.List;
+
+public interface CustomFollowRepository {
+
+    List<FollowResponse> findFollowers(Long memberId, long lastFollowId, int limit);
+
+    List<FollowResponse> findFollowees(Long memberId, long lastFollowId, int limit);
+
+    List<Long> findFolloweeIds(Long memberId, long minFollowerCnt);
+}
@@ -5,7 +5,7 @@ import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface FollowRepository extends JpaRepository<Follow, Long> {
+public interface FollowRepository extends JpaRepository<Follow, Long>, CustomFollowRepository {
 
     Long countByFollowee(Member member);
 
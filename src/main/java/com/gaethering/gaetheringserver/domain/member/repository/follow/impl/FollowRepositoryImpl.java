@@ -0,0 +1,63 @@
+package com.gaethering.gaetheringserver.domain.member.repository.follow.impl;
+
+import static com.gaethering.gaetheringserver.domain.member.entity.QFollow.follow;
+import static com.gaethering.gaetheringserver.domain.member.entity.QMember.member;
+
+import com.gaethering.gaetheringserver.core.repository.support.Querydsl4RepositorySupport;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
+import com.gaethering.gaetheringserver.domain.member.entity.Follow;
+import com.gaethering.gaetheringserver.domain.member.repository.follow.CustomFollowRepository;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import java.util.List;
+
+/**
+ * 팔로우 목록은 (followee_member_id, follow_id), (follower_member_id, follow_id) 인덱스를 따라
+ * follow_id 내림차순으로 읽고, 상대 회원은 join 해서 필요한 컬럼만 가져온다.
+ */
+public class FollowRepositoryImpl extends Querydsl4RepositorySupport implements
+    CustomFollowRepository {
+
+    public FollowRepositoryImpl() {
+        super(Follow.class);
+    }
+
+    @Override
+    public List<FollowResponse> findFollowers(Long memberId, long lastFollowId, int limit) {
+        return select(followResponse())
+            .from(follow)
+            .join(follow.follower, member)
+            .where(follow.followee.id.eq(memberId), follow.id.lt(lastFollowId))
+            .orderBy(follow.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<FollowResponse> findFollowees(Long memberId, long lastFollowId, int limit) {
+        return select(followResponse())
+            .from(follow)
+            .join(follow.followee, member)
+            .where(follow.follower.id.eq(memberId), follow.id.lt(lastFollowId))
+            .orderBy(follow.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findFolloweeIds(Long memberId, long minFollowerCnt) {
+        return select(member.id)
+            .from(follow)
+            .join(follow.followee, member)
+            .where(follow.follower.id.eq(memberId), member.followerCnt.goe(minFollowerCnt))
+            .fetch();
+    }
+
+    private static Expression<FollowResponse> followResponse() {
+        return Projections.constructor(FollowResponse.class,
+            follow.id,
+            member.id,
+            member.name,
+            member.nickname);
+    }
+}
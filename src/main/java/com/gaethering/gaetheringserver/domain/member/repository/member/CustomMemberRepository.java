@@ -2,9 +2,29 @@ package com.gaethering.gaetheringserver.domain.member.repository.member;
 
 
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import com.gaethering.gaetheringserver.domain.member.type.MemberStatus;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomMemberRepository {
 
     Optional<Member> findByEmail(String email);
+
+    Optional<MemberStatus> findStatusByEmail(String email);
+
+    long increaseFollowerCount(Long memberId);
+
+    long decreaseFollowerCount(Long memberId, long count);
+
+    long increaseFollowingCount(Long memberId);
+
+    long decreaseFollowingCount(Long memberId, long count);
+
+    long increasePostCount(Long memberId);
+
+    long decreasePostCount(Long memberId);
+
+    List<Long> findMemberIdsWithCountDrift(long lastMemberId, int limit);
+
+    long reconcileCountsByMemberId(Long memberId);
 }
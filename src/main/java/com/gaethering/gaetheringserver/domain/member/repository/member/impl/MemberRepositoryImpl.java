@@ -1,5 +1,7 @@
 package com.gaethering.gaetheringserver.domain.member.repository.member.impl;
 
+import static com.gaethering.gaetheringserver.domain.board.entity.QPost.post;
+import static com.gaethering.gaetheringserver.domain.member.entity.QFollow.follow;
 import static com.gaethering.gaetheringserver.domain.member.entity.QMember.member;
 import static com.gaethering.gaetheringserver.domain.member.entity.QMemberProfile.memberProfile;
 import static com.gaethering.gaetheringserver.domain.pet.entity.QPet.pet;
@@ -7,8 +9,13 @@ import static com.gaethering.gaetheringserver.domain.pet.entity.QPet.pet;
 import com.gaethering.gaetheringserver.core.repository.support.Querydsl4RepositorySupport;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.repository.member.CustomMemberRepository;
+import com.gaethering.gaetheringserver.domain.member.type.MemberStatus;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
 
 public class MemberRepositoryImpl extends Querydsl4RepositorySupport implements
     CustomMemberRepository {
@@ -27,6 +34,121 @@ public class MemberRepositoryImpl extends Querydsl4RepositorySupport implements
                 .fetchOne());
     }
 
+    @Override
+    public Optional<MemberStatus> findStatusByEmail(String email) {
+        return Optional.ofNullable(
+            select(member.status)
+                .from(member)
+                .where(emailEqual(email))
+                .fetchOne());
+    }
+
+    @Override
+    @Transactional
+    public long increaseFollowerCount(Long memberId) {
+        return getQueryFactory().update(member)
+            .set(member.followerCnt, member.followerCnt.add(1))
+            .where(memberIdEqual(memberId))
+            .execute();
+    }
+
+    @Override
+    @Transactional
+    public long decreaseFollowerCount(Long memberId, long count) {
+        return getQueryFactory().update(member)
+            .set(member.followerCnt, member.followerCnt.subtract(count))
+            .where(memberIdEqual(memberId), member.followerCnt.goe(count))
+            .execute();
+    }
+
+    @Override
+    @Transactional
+    public long increaseFollowingCount(Long memberId) {
+        return getQueryFactory().update(member)
+            .set(member.followingCnt, member.followingCnt.add(1))
+            .where(memberIdEqual(memberId))
+            .execute();
+    }
+
+    @Override
+    @Transactional
+    public long decreaseFollowingCount(Long memberId, long count) {
+        return getQueryFactory().update(member)
+            .set(member.followingCnt, member.followingCnt.subtract(count))
+            .where(memberIdEqual(memberId), member.followingCnt.goe(count))
+            .execute();
+    }
+
+    @Override
+    @Transactional
+    public long increasePostCount(Long memberId) {
+        return getQueryFactory().update(member)
+            .set(member.postCnt, member.postCnt.add(1))
+            .where(memberIdEqual(memberId))
+            .execute();
+    }
+
+    @Override
+    @Transactional
+    public long decreasePostCount(Long memberId) {
+        return getQueryFactory().update(member)
+            .set(member.postCnt, member.postCnt.subtract(1))
+            .where(memberIdEqual(memberId), member.postCnt.gt(0))
+            .execute();
+    }
+
+    @Override
+    public List<Long> findMemberIdsWithCountDrift(long lastMemberId, int limit) {
+        return select(member.id)
+            .from(member)
+            .where(member.id.gt(lastMemberId),
+                member.followerCnt.ne(followerCount())
+                    .or(member.followingCnt.ne(followingCount()))
+                    .or(member.postCnt.ne(postCount())))
+            .orderBy(member.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    @Transactional
+    public long reconcileCountsByMemberId(Long memberId) {
+        return getQueryFactory().update(member)
+            .set(member.followerCnt, JPAExpressions.select(follow.count())
+                .from(follow)
+                .where(follow.followee.id.eq(memberId)))
+            .set(member.followingCnt, JPAExpressions.select(follow.count())
+                .from(follow)
+                .where(follow.follower.id.eq(memberId)))
+            .set(member.postCnt, JPAExpressions.select(post.count())
+                .from(post)
+                .where(post.member.id.eq(memberId)))
+            .where(memberIdEqual(memberId))
+            .execute();
+    }
+
+    private static JPQLQuery<Long> followerCount() {
+        return JPAExpressions.select(follow.count())
+            .from(follow)
+            .where(follow.followee.eq(member));
+    }
+
+    private static JPQLQuery<Long> followingCount() {
+        return JPAExpressions.select(follow.count())
+            .from(follow)
+            .where(follow.follower.eq(member));
+    }
+
+    private static JPQLQuery<Long> postCount() {
+        return JPAExpressions.select(post.count())
+            .from(post)
+            .where(post.member.eq(member));
+    }
+
+    private static BooleanExpression memberIdEqual(Long memberId) {
+        return member.id.eq(memberId);
+    }
+
     private static BooleanExpression emailEqual(String email) {
         return member.email.eq(email);
     }
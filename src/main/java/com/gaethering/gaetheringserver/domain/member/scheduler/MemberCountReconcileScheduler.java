@@ -0,0 +1,51 @@
+package com.gaethering.gaetheringserver.domain.member.scheduler;
+
+import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원의 팔로워/팔로잉/게시글 카운터 컬럼을 실제 follow, post 행 수와 주기적으로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberCountReconcileScheduler {
+
+    private final MemberRepository memberRepository;
+
+    @Value("${member.counter.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${member.counter.reconcile-initial-delay:60000}",
+        fixedDelayString = "${member.counter.reconcile-interval:3600000}")
+    public void reconcile() {
+        long reconciled = reconcileAll();
+
+        if (reconciled > 0) {
+            log.warn("Reconciled follower/following/post counts of {} members", reconciled);
+        }
+    }
+
+    public long reconcileAll() {
+        long reconciled = 0;
+        long lastMemberId = 0;
+
+        List<Long> memberIds;
+        do {
+            memberIds = memberRepository.findMemberIdsWithCountDrift(lastMemberId,
+                batchSize);
+
+            for (Long memberId : memberIds) {
+                reconciled += memberRepository.reconcileCountsByMemberId(memberId);
+                lastMemberId = memberId;
+            }
+        } while (memberIds.size() == batchSize);
+
+        return reconciled;
+    }
+}
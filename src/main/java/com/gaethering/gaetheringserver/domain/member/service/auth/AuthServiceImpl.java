@@ -10,7 +10,9 @@ import com.gaethering.gaetheringserver.domain.member.exception.auth.TokenInvalid
 import com.gaethering.gaetheringserver.domain.member.exception.auth.TokenNotExistException;
 import com.gaethering.gaetheringserver.domain.member.exception.errorcode.MemberErrorCode;
 import com.gaethering.gaetheringserver.domain.member.jwt.JwtProvider;
+import com.gaethering.gaetheringserver.domain.member.jwt.ValidatedToken;
 import com.gaethering.gaetheringserver.domain.redis.RedisService;
+import com.gaethering.gaetheringserver.domain.redis.TokenBlackList;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -25,6 +27,7 @@ public class AuthServiceImpl implements AuthService {
 
     private final JwtProvider jwtProvider;
     private final RedisService redisService;
+    private final TokenBlackList tokenBlackList;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
 
@@ -45,11 +48,10 @@ public class AuthServiceImpl implements AuthService {
     @Transactional
     public ReissueTokenResponse reissue(ReissueTokenRequest request) {
 
-        if (!jwtProvider.validateToken(request.getRefreshToken())) {
-            throw new TokenInvalidException(MemberErrorCode.INVALID_REFRESH_TOKEN);
-        }
+        ValidatedToken validatedToken = jwtProvider.validateToken(request.getRefreshToken())
+            .orElseThrow(() -> new TokenInvalidException(MemberErrorCode.INVALID_REFRESH_TOKEN));
 
-        String email = jwtProvider.getUserEmail(request.getRefreshToken());
+        String email = validatedToken.getEmail();
 
         String refreshToken = redisService.getData(email);
 
@@ -66,19 +68,14 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public void logout(LogoutRequest request) {
-        String accessToken = request.getAccessToken();
-
-        if (!jwtProvider.validateToken(accessToken)) {
-            throw new TokenInvalidException(MemberErrorCode.INVALID_ACCESS_TOKEN);
-        }
+        ValidatedToken validatedToken = jwtProvider.validateToken(request.getAccessToken())
+            .orElseThrow(() -> new TokenInvalidException(MemberErrorCode.INVALID_ACCESS_TOKEN));
 
-        Authentication authentication = jwtProvider.getAuthentication(request.getAccessToken());
-        String email = authentication.getName();
+        String email = validatedToken.getEmail();
 
         redisService.deleteData(email);
 
-        Long expiration = jwtProvider.getExpiration(accessToken);
-        redisService.setBlackList(accessToken, "accessToken", expiration);
+        tokenBlackList.add(validatedToken.getToken(), validatedToken.getRemainingMillis());
     }
 
 }
\ No newline at end of file
@@ -1,16 +1,14 @@
 package com.gaethering.gaetheringserver.domain.member.service.follow;
 
-import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
-
-import java.util.List;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowsGetResponse;
 
 public interface FollowService {
 
     boolean createFollow(String followerEmail, Long followeeId);
 
-    List<FollowResponse> getFollowers(Long memberId);
+    FollowsGetResponse getFollowers(Long memberId, int size, long lastFollowId);
 
-    List<FollowResponse> getFollowees(Long memberId);
+    FollowsGetResponse getFollowees(Long memberId, int size, long lastFollowId);
 
     boolean removeFollow(String followerEmail, Long followeeId);
 }
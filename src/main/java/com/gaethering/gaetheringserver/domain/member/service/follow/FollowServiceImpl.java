@@ -1,6 +1,10 @@
 package com.gaethering.gaetheringserver.domain.member.service.follow;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetCursor;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import com.gaethering.gaetheringserver.domain.board.timeline.HomeTimeline;
 import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowsGetResponse;
 import com.gaethering.gaetheringserver.domain.member.entity.Follow;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
@@ -8,7 +12,7 @@ import com.gaethering.gaetheringserver.domain.member.repository.follow.FollowRep
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,8 +23,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class FollowServiceImpl implements FollowService {
 
+    private static final Function<FollowResponse, KeysetCursor> FOLLOW_CURSOR =
+        follow -> KeysetCursor.of(follow.getFollowId());
+
     private final FollowRepository followRepository;
     private final MemberRepository memberRepository;
+    private final HomeTimeline homeTimeline;
 
     @Override
     @Transactional
@@ -28,29 +36,58 @@ public class FollowServiceImpl implements FollowService {
         Member follower = getMemberByEmail(followerEmail);
         Member followee = getMemberById(followeeId);
         followRepository.save(Follow.builder().follower(follower).followee(followee).build());
+
+        // 맞팔로우가 동시에 들어와도 두 회원 행을 같은 순서로 잠그도록 id 가 작은 쪽부터 갱신한다.
+        if (follower.getId() <= followee.getId()) {
+            memberRepository.increaseFollowingCount(follower.getId());
+            memberRepository.increaseFollowerCount(followee.getId());
+        } else {
+            memberRepository.increaseFollowerCount(followee.getId());
+            memberRepository.increaseFollowingCount(follower.getId());
+        }
+        homeTimeline.invalidate(follower.getId());
         return true;
     }
 
     @Override
-    public List<FollowResponse> getFollowers(Long memberId) {
-        List<Follow> follows = followRepository.findByFollowee(getMemberById(memberId));
-        return follows.stream()
-                .map(follow -> FollowResponse.of(follow.getFollower())).collect(Collectors.toList());
+    public FollowsGetResponse getFollowers(Long memberId, int size, long lastFollowId) {
+        Member member = getMemberById(memberId);
+        int pageSize = KeysetPage.clampSize(size);
+        List<FollowResponse> follows = followRepository.findFollowers(memberId, lastFollowId,
+            pageSize + 1);
+        return FollowsGetResponse.of(KeysetPage.of(follows, pageSize, FOLLOW_CURSOR),
+            member.getFollowerCnt());
     }
 
     @Override
-    public List<FollowResponse> getFollowees(Long memberId) {
-        List<Follow> follows = followRepository.findByFollower(getMemberById(memberId));
-        return follows.stream()
-                .map(follow -> FollowResponse.of(follow.getFollowee())).collect(Collectors.toList());
+    public FollowsGetResponse getFollowees(Long memberId, int size, long lastFollowId) {
+        Member member = getMemberById(memberId);
+        int pageSize = KeysetPage.clampSize(size);
+        List<FollowResponse> follows = followRepository.findFollowees(memberId, lastFollowId,
+            pageSize + 1);
+        return FollowsGetResponse.of(KeysetPage.of(follows, pageSize, FOLLOW_CURSOR),
+            member.getFollowingCnt());
     }
 
     @Override
+    @Transactional
     public boolean removeFollow(String followerEmail, Long followeeId) {
         Member follower = getMemberByEmail(followerEmail);
         Member followee = getMemberById(followeeId);
         Integer count = followRepository.removeByFollowerAndFollowee(follower, followee);
-        return count >= 1;
+        if (count < 1) {
+            return false;
+        }
+
+        if (follower.getId() <= followee.getId()) {
+            memberRepository.decreaseFollowingCount(follower.getId(), count);
+            memberRepository.decreaseFollowerCount(followee.getId(), count);
+        } else {
+            memberRepository.decreaseFollowerCount(followee.getId(), count);
+            memberRepository.decreaseFollowingCount(follower.getId(), count);
+        }
+        homeTimeline.invalidate(follower.getId());
+        return true;
     }
 
     private Member getMemberByEmail(String email) {
@@ -4,7 +4,6 @@ import com.gaethering.gaetheringserver.domain.member.dto.profile.OtherProfileRes
 import com.gaethering.gaetheringserver.domain.member.dto.profile.OwnProfileResponse;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
-import com.gaethering.gaetheringserver.domain.member.repository.follow.FollowRepository;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,24 +15,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberProfileServiceImpl implements MemberProfileService {
 
     private final MemberRepository memberRepository;
-    private final FollowRepository followRepository;
 
     @Override
     public OwnProfileResponse getOwnProfile(String email) {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(MemberNotFoundException::new);
-        Long followerCount = followRepository.countByFollowee(member);
-        Long followingCount = followRepository.countByFollower(member);
-        return OwnProfileResponse.of(member, followerCount, followingCount);
+        return OwnProfileResponse.of(member, member.getFollowerCnt(), member.getFollowingCnt());
     }
 
     @Override
     public OtherProfileResponse getOtherProfile(Long memberId) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
-        Long followerCount = followRepository.countByFollowee(member);
-        Long followingCount = followRepository.countByFollower(member);
-        return OtherProfileResponse.of(member, followerCount, followingCount);
+        return OtherProfileResponse.of(member, member.getFollowerCnt(), member.getFollowingCnt());
     }
 
 
@@ -18,5 +18,5 @@ public interface MemberService {
 
     LoginInfoResponse getLoginInfo(String email);
 
-    MyPostsResponse getMyPosts(String email);
+    MyPostsResponse getMyPosts(String email, int size, long lastPostId);
 }
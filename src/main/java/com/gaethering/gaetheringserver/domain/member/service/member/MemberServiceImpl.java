@@ -1,8 +1,10 @@
 package com.gaethering.gaetheringserver.domain.member.service.member;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetCursor;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
 import com.gaethering.gaetheringserver.core.type.Gender;
+import com.gaethering.gaetheringserver.domain.aws.s3.ImageRendition;
 import com.gaethering.gaetheringserver.domain.aws.s3.S3Service;
-import com.gaethering.gaetheringserver.domain.board.entity.Post;
 import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
 import com.gaethering.gaetheringserver.domain.email.EmailService;
 import com.gaethering.gaetheringserver.domain.member.dto.auth.LoginInfoResponse;
@@ -25,7 +27,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -103,6 +104,7 @@ public class MemberServiceImpl implements MemberService {
                 .isNeutered(signUpRequest.isNeutered())
                 .description(signUpRequest.getDescription())
                 .imageUrl(imageUrl)
+                .thumbnailUrl(ImageRendition.THUMB.of(imageUrl))
                 .isRepresentative(true)
                 .build();
 
@@ -135,15 +137,16 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
-    public MyPostsResponse getMyPosts(String email) {
+    public MyPostsResponse getMyPosts(String email, int size, long lastPostId) {
         Member member = memberRepository.findByEmail(email)
             .orElseThrow(MemberNotFoundException::new);
 
-        List<Post> posts = postRepository.findAllByMember(member);
+        int pageSize = KeysetPage.clampSize(size);
+        List<PostInfo> posts = postRepository.findPostInfosByMemberId(member.getId(), lastPostId,
+            pageSize + 1);
 
-        return MyPostsResponse.builder()
-            .postCount(posts.size())
-            .posts(posts.stream().map(PostInfo::of).collect(Collectors.toList()))
-            .build();
+        return MyPostsResponse.of(
+            KeysetPage.of(posts, pageSize, post -> KeysetCursor.of(post.getPostId())),
+            member.getPostCnt());
     }
 }
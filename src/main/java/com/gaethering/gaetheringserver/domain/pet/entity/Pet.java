@@ -51,6 +51,8 @@ public class Pet {
 
     private String imageUrl;
 
+    private String thumbnailUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -63,8 +65,16 @@ public class Pet {
         isRepresentative = representative;
     }
 
-    public void updateImage(String imageUrl) {
+    public void updateImage(String imageUrl, String thumbnailUrl) {
         this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    /**
+     * 축소본이 없는 예전 사진은 원본을 쓴다.
+     */
+    public String getListImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
     }
 
     public void updatePetProfile(float weight, boolean isNeutered, String description) {
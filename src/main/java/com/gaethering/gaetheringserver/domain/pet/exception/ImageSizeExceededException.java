@@ -0,0 +1,10 @@
+package com.gaethering.gaetheringserver.domain.pet.exception;
+
+import com.gaethering.gaetheringserver.domain.pet.exception.errorcode.PetErrorCode;
+
+public class ImageSizeExceededException extends PetException {
+
+    public ImageSizeExceededException() {
+        super(PetErrorCode.IMAGE_SIZE_EXCEEDED);
+    }
+}
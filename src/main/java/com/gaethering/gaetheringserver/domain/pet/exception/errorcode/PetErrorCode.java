@@ -15,7 +15,8 @@ public enum PetErrorCode implements ErrorCode {
     REPRESENTATIVE_PET_NOT_FOUND("E205", "대표 반려동물이 존재하지 않습니다."),
     EXCEED_REGISTRABLE_PET("E206", "반려동물은 최대 3마리를 넘을 수 없습니다."),
     FAILED_DELETE_PET("E207", "반려동물은 1마리 이상이어야 합니다."),
-    FAILED_DELETE_REPRESENTATIVE("E208", "대표 반려동물은 삭제할 수 없습니다.");
+    FAILED_DELETE_REPRESENTATIVE("E208", "대표 반려동물은 삭제할 수 없습니다."),
+    IMAGE_SIZE_EXCEEDED("E209", "사진 크기가 허용된 크기를 넘었습니다.");
 
     private final String code;
     private final String message;
@@ -1,6 +1,8 @@
 package com.gaethering.gaetheringserver.domain.pet.service;
 
 import com.gaethering.gaetheringserver.core.type.Gender;
+import com.gaethering.gaetheringserver.domain.aws.s3.ImageRendition;
+import com.gaethering.gaetheringserver.domain.aws.s3.S3DeletionQueue;
 import com.gaethering.gaetheringserver.domain.aws.s3.S3Service;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
@@ -35,6 +37,7 @@ public class PetServiceImpl implements PetService {
     private static final String DIR = "pet-profile";
 
     private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
     private final PetRepository petRepository;
     private final MemberRepository memberRepository;
 
@@ -42,10 +45,9 @@ public class PetServiceImpl implements PetService {
     public PetImageUpdateResponse updatePetImage(Long id, MultipartFile multipartFile) {
         Pet pet = petRepository.findById(id).orElseThrow(PetNotFoundException::new);
 
-        s3Service.removeImage(pet.getImageUrl(), DIR);
-
         String newImageUrl = s3Service.uploadImage(multipartFile, DIR);
-        pet.updateImage(newImageUrl);
+        s3DeletionQueue.enqueue(pet.getImageUrl(), DIR);
+        pet.updateImage(newImageUrl, ImageRendition.THUMB.of(newImageUrl));
 
         return PetImageUpdateResponse.builder().imageUrl(newImageUrl).build();
     }
@@ -96,7 +98,7 @@ public class PetServiceImpl implements PetService {
             throw new FailedDeleteRepresentativeException();
         }
 
-        s3Service.removeImage(findPet.getImageUrl(), DIR);
+        s3DeletionQueue.enqueue(findPet.getImageUrl(), DIR);
 
         petRepository.delete(findPet);
 
@@ -126,6 +128,7 @@ public class PetServiceImpl implements PetService {
                 .isNeutered(petRegisterRequest.isNeutered())
                 .description(petRegisterRequest.getDescription())
                 .imageUrl(imageUrl)
+                .thumbnailUrl(ImageRendition.THUMB.of(imageUrl))
                 .isRepresentative(false)
                 .build();
 
@@ -1,11 +1,8 @@
 package com.gaethering.gaetheringserver.domain.redis;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,7 +10,6 @@ import org.springframework.stereotype.Component;
 public class RedisService {
 
     private final StringRedisTemplate redisTemplate;
-    private final RedisTemplate<String, Object> redisBlackListTemplate;
 
     public String getData(String key) {
         return redisTemplate.opsForValue().get(key);
@@ -26,13 +22,4 @@ public class RedisService {
     public void deleteData(String key) {
         redisTemplate.delete(key);
     }
-
-    public void setBlackList(String key, Object data, Long milliSeconds) {
-        redisBlackListTemplate.setValueSerializer(new Jackson2JsonRedisSerializer(data.getClass()));
-        redisBlackListTemplate.opsForValue().set(key, data, milliSeconds, TimeUnit.MILLISECONDS);
-    }
-
-    public boolean hasKeyBlackList(String key) {
-        return redisBlackListTemplate.hasKey(key);
-    }
 }
@@ -0,0 +1,197 @@
+package com.gaethering.gaetheringserver.domain.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.DiscardPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 access token 블랙리스트.
+ * Redis 를 원본으로 두고, 토큰 해시를 만료 시각까지 로컬에도 보관해 조회 시 Redis 를 거치지 않는다.
+ * 다른 서버에서 추가된 항목은 pub/sub 로 받고, 놓친 메시지는 주기적인 resync 로 채운다.
+ * resync 에 성공하고 구독 중일 때만 로컬 결과를 믿고, 그 외에는 로컬에 없는 토큰을 Redis 에서 확인한다.
+ * 구독이 끊겼다 다시 맺어지면 그 사이 메시지를 놓쳤을 수 있으므로, 다시 resync 할 때까지 로컬 결과를 믿지 않는다.
+ * <p>
+ * 예전에는 토큰 원문을 키로 저장했으므로, 서버가 뜬 뒤 legacy-window 동안은 그 키도 확인한다.
+ * 그 기간이 지나면 예전 키는 모두 만료되어 있다.
+ */
+@Slf4j
+@Component
+public class TokenBlackList implements MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "token-blacklist";
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String VALUE = "logout";
+    private static final String DELIMITER = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, Long> localBlackList;
+    private final ThreadPoolExecutor resyncExecutor;
+    private final AtomicLong subscriptionGeneration = new AtomicLong();
+    private final long legacyCheckUntil;
+    private volatile boolean synced;
+
+    public TokenBlackList(StringRedisTemplate redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        @Value("${spring.redis.blacklist.legacy-window:${spring.jwt.valid.accessToken}}")
+        long legacyWindowMillis) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.legacyCheckUntil = System.currentTimeMillis() + legacyWindowMillis;
+        this.localBlackList = Caffeine.newBuilder()
+            .expireAfter(new ExpiresAt())
+            .build();
+        // 구독 콜백은 Redis 클라이언트의 I/O 스레드에서 불리므로 resync 는 따로 돌리고, 밀린 요청은 하나로 합친다.
+        this.resyncExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), runnable -> {
+            Thread thread = new Thread(runnable, "token-blacklist-resync");
+            thread.setDaemon(true);
+            return thread;
+        }, new DiscardPolicy());
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void add(String token, long remainingMillis) {
+        if (remainingMillis <= 0) {
+            return;
+        }
+        String hash = hash(token);
+        long expiresAt = System.currentTimeMillis() + remainingMillis;
+
+        redisTemplate.opsForValue()
+            .set(KEY_PREFIX + hash, VALUE, Duration.ofMillis(remainingMillis));
+        localBlackList.put(hash, expiresAt);
+        redisTemplate.convertAndSend(CHANNEL, hash + DELIMITER + expiresAt);
+    }
+
+    public boolean contains(String token) {
+        String hash = hash(token);
+
+        if (localBlackList.getIfPresent(hash) != null) {
+            return true;
+        }
+        if (System.currentTimeMillis() < legacyCheckUntil
+            && Boolean.TRUE.equals(redisTemplate.hasKey(token))) {
+            return true;
+        }
+        if (isSynced()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + hash));
+    }
+
+    public boolean isSynced() {
+        return synced && listenerContainer.isListening();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.lastIndexOf(DELIMITER);
+
+        try {
+            localBlackList.put(body.substring(0, index),
+                Long.parseLong(body.substring(index + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Invalid token blacklist message: {}", body);
+        }
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        subscriptionGeneration.incrementAndGet();
+        synced = false;
+        resyncExecutor.execute(this::resync);
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscriptionGeneration.incrementAndGet();
+        synced = false;
+    }
+
+    /**
+     * 도중에 구독이 바뀌면 그 사이 메시지가 로컬에 반영됐는지 알 수 없으므로 synced 를 세우지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${spring.redis.blacklist.resync-interval:60000}")
+    public void resync() {
+        long generation = subscriptionGeneration.get();
+        try (Cursor<String> keys = redisTemplate.scan(
+            ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+
+            while (keys.hasNext()) {
+                String key = keys.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+
+                if (ttl != null && ttl > 0) {
+                    localBlackList.put(key.substring(KEY_PREFIX.length()),
+                        System.currentTimeMillis() + ttl);
+                }
+            }
+            synced = generation == subscriptionGeneration.get();
+        } catch (DataAccessException e) {
+            synced = false;
+            log.warn("Failed to sync token blacklist from redis: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resyncExecutor.shutdownNow();
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class ExpiresAt implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiresAt, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAt, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAt, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
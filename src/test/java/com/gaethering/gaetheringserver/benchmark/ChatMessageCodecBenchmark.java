@@ -0,0 +1,110 @@
+package com.gaethering.gaetheringserver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessageCodec;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatWireFormat;
+import com.gaethering.gaetheringserver.domain.chat.broker.Jackson2CborMessageConverter;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 채팅 메시지 한 건을 AMQP 메시지로 변환하고 되돌리는 비용 비교.
+ * <ul>
+ *     <li>json*: 기존 RabbitConfig 와 같은 Jackson2JsonMessageConverter (epoch millis 날짜)</li>
+ *     <li>cbor*: Jackson2CborMessageConverter, ChatMessageCodec 의 CBOR ObjectMapper</li>
+ *     <li>cborToJson: JSON 만 받는 STOMP 세션을 위해 CBOR 본문을 JSON 으로 바꾸는 비용</li>
+ * </ul>
+ * 메시지당 바이트 수는 main 에서 먼저 출력한다.
+ * 실행: ChatMessageCodecBenchmark#main (test classpath)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatMessageCodecBenchmark {
+
+    private ChatMessageCodec codec;
+    private MessageConverter jsonConverter;
+    private MessageConverter cborConverter;
+    private ChatMessageResponse payload;
+    private Message jsonMessage;
+    private Message cborMessage;
+
+    @Setup
+    public void setUp() {
+        codec = new ChatMessageCodec(Jackson2ObjectMapperBuilder.json());
+        jsonConverter = new Jackson2JsonMessageConverter(new ObjectMapper()
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true)
+            .registerModule(new JavaTimeModule()));
+        cborConverter = new Jackson2CborMessageConverter(
+            codec.getObjectMapper(ChatWireFormat.CBOR));
+        payload = message();
+        jsonMessage = jsonConverter.toMessage(payload, new MessageProperties());
+        cborMessage = cborConverter.toMessage(payload, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message jsonEncode() {
+        return jsonConverter.toMessage(payload, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message cborEncode() {
+        return cborConverter.toMessage(payload, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return jsonConverter.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Object cborDecode() {
+        return cborConverter.fromMessage(cborMessage);
+    }
+
+    @Benchmark
+    public byte[] cborToJson() {
+        return codec.transcode(cborMessage.getBody(), ChatWireFormat.CBOR, ChatWireFormat.JSON);
+    }
+
+    private static ChatMessageResponse message() {
+        return new ChatMessageResponse(1_234_567L, 42L, "오늘 저녁 7시에 한강공원에서 산책 가실 분 계신가요?",
+            LocalDateTime.of(2022, 12, 24, 19, 0));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ChatMessageCodecBenchmark benchmark = new ChatMessageCodecBenchmark();
+        benchmark.setUp();
+        System.out.printf("bytes per message: json=%d, cbor=%d%n",
+            benchmark.jsonMessage.getBody().length, benchmark.cborMessage.getBody().length);
+
+        new Runner(new OptionsBuilder()
+            .include(ChatMessageCodecBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,191 @@
+package com.gaethering.gaetheringserver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessagePublisher;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessagePublisher.ConfirmMode;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+/**
+ * 채팅 메시지 발행 처리량 비교. 브로커 대신 JSON 변환은 그대로 하고 publisher confirm 왕복만
+ * confirmRoundTripMicros 만큼 걸리는 RabbitTemplate 을 쓴다.
+ * <ul>
+ *     <li>withoutConfirm: 확인 없이 발행 (ConfirmMode.NONE)</li>
+ *     <li>confirmEachMessage: 메시지마다 발행 후 confirm 대기</li>
+ *     <li>correlatedConfirm: ChatMessagePublisher CORRELATED 모드, confirm 을 비동기로 받음</li>
+ *     <li>batchedConfirm: ChatMessagePublisher BATCH 모드, 쌓인 메시지를 모아 confirm 한 번 대기</li>
+ * </ul>
+ * 실행: ChatMessagePublishBenchmark#main (test classpath)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatMessagePublishBenchmark {
+
+    private static final int MESSAGES = 1000;
+
+    @Param({"200"})
+    private long confirmRoundTripMicros;
+
+    private ScheduledExecutorService confirmer;
+    private StandInRabbitTemplate rabbitTemplate;
+    private ChatMessagePublisher withoutConfirm;
+    private ChatMessagePublisher correlated;
+    private ChatMessagePublisher batched;
+    private Counter correlatedConfirmed;
+    private Counter batchedConfirmed;
+    private long correlatedTarget;
+    private long batchedTarget;
+    private ChatMessageResponse payload;
+
+    @Setup
+    public void setUp() {
+        long roundTripNanos = TimeUnit.MICROSECONDS.toNanos(confirmRoundTripMicros);
+        confirmer = Executors.newSingleThreadScheduledExecutor();
+        rabbitTemplate = new StandInRabbitTemplate(roundTripNanos, confirmer);
+        withoutConfirm = new ChatMessagePublisher(
+            new StandInRabbitTemplate(roundTripNanos, confirmer),
+            new SimpleMeterRegistry(), ConfirmMode.NONE, 100, 10000, 5000L);
+
+        SimpleMeterRegistry correlatedRegistry = new SimpleMeterRegistry();
+        correlated = new ChatMessagePublisher(
+            new StandInRabbitTemplate(roundTripNanos, confirmer),
+            correlatedRegistry, ConfirmMode.CORRELATED, 100, 10000, 5000L);
+        correlatedConfirmed = correlatedRegistry.counter("chat.publisher.confirmed");
+
+        SimpleMeterRegistry batchedRegistry = new SimpleMeterRegistry();
+        batched = new ChatMessagePublisher(
+            new StandInRabbitTemplate(roundTripNanos, confirmer),
+            batchedRegistry, ConfirmMode.BATCH, 100, 10000, 5000L);
+        batchedConfirmed = batchedRegistry.counter("chat.publisher.confirmed");
+        payload = new ChatMessageResponse(1L, 1L, "산책 가실 분 계신가요?", LocalDateTime.now());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        batched.shutdown();
+        confirmer.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void withoutConfirm() {
+        for (int i = 0; i < MESSAGES; i++) {
+            withoutConfirm.publish("roomKey", payload);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void confirmEachMessage() {
+        for (int i = 0; i < MESSAGES; i++) {
+            rabbitTemplate.invoke(operations -> {
+                operations.convertAndSend("chat.exchange", "room.roomKey", payload);
+                operations.waitForConfirmsOrDie(5000L);
+                return null;
+            });
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void correlatedConfirm() {
+        correlatedTarget += MESSAGES;
+        for (int i = 0; i < MESSAGES; i++) {
+            correlated.publish("roomKey", payload);
+        }
+        while (correlatedConfirmed.count() < correlatedTarget) {
+            LockSupport.parkNanos(10_000);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void batchedConfirm() {
+        batchedTarget += MESSAGES;
+        for (int i = 0; i < MESSAGES; i++) {
+            batched.publish("roomKey", payload);
+        }
+        while (batchedConfirmed.count() < batchedTarget) {
+            LockSupport.parkNanos(10_000);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ChatMessagePublishBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+
+    /**
+     * 메시지는 JSON 으로 변환만 하고, confirm 대기는 지정한 왕복 시간만큼 멈춘다.
+     * CorrelationData 가 있으면 왕복 시간 뒤에 별도 스레드에서 ack 한다.
+     */
+    static class StandInRabbitTemplate extends RabbitTemplate {
+
+        private final long confirmRoundTripNanos;
+        private final ScheduledExecutorService confirmer;
+
+        StandInRabbitTemplate(long confirmRoundTripNanos, ScheduledExecutorService confirmer) {
+            this.confirmRoundTripNanos = confirmRoundTripNanos;
+            this.confirmer = confirmer;
+            setMessageConverter(new Jackson2JsonMessageConverter(
+                new ObjectMapper().registerModule(new JavaTimeModule())));
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object object) {
+            getMessageConverter().toMessage(object, new MessageProperties());
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object object,
+            CorrelationData correlationData) {
+            getMessageConverter().toMessage(object, new MessageProperties());
+            confirmer.schedule(() -> correlationData.getFuture().set(new Confirm(true, null)),
+                confirmRoundTripNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void waitForConfirmsOrDie(long timeout) {
+            LockSupport.parkNanos(confirmRoundTripNanos);
+        }
+
+        @Override
+        public <T> T invoke(OperationsCallback<T> action) {
+            return action.doInRabbit(this);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.gaethering.gaetheringserver.benchmark;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.gaethering.gaetheringserver.domain.member.jwt.JwtAuthenticationFilter;
+import com.gaethering.gaetheringserver.domain.member.jwt.JwtProvider;
+import com.gaethering.gaetheringserver.domain.member.jwt.MemberStatusCache;
+import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import com.gaethering.gaetheringserver.domain.member.type.MemberStatus;
+import com.gaethering.gaetheringserver.domain.redis.RedisService;
+import com.gaethering.gaetheringserver.domain.redis.TokenBlackList;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JwtAuthenticationFilter 처리량 비교.
+ * <ul>
+ *     <li>memberLookup: role 클레임이 없는 토큰 → 요청마다 member/pet/member_profile 조인 조회 (기존 방식)</li>
+ *     <li>claims: role/status 클레임으로 principal 생성, 상태는 로컬 캐시에서 확인</li>
+ * </ul>
+ * 조회는 인메모리 H2 로 수행하므로 네트워크 왕복이 있는 실제 DB 보다 차이가 작게 측정된다.
+ * 실행: JwtAuthenticationFilterBenchmark#main (test classpath)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String EMAIL = "bench@test.com";
+    private static final String SECRET = "benchmark-secret-key";
+    private static final String FIND_MEMBER_SQL =
+        "select m.email, m.password, m.role, m.status from member m "
+            + "join pet p on p.member_id = m.member_id "
+            + "join member_profile mp on mp.member_profile_id = m.member_profile_id "
+            + "where m.email = ?";
+
+    @Param({"memberLookup", "claims"})
+    private String mode;
+
+    private Connection connection;
+    private JwtAuthenticationFilter filter;
+    private String bearerToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = createDatabase();
+
+        TokenBlackList tokenBlackList = mock(TokenBlackList.class);
+        given(tokenBlackList.contains(anyString())).willReturn(false);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        given(memberRepository.findStatusByEmail(anyString()))
+            .willReturn(Optional.of(MemberStatus.ACTIVE));
+
+        JwtProvider jwtProvider = new JwtProvider(mock(RedisService.class),
+            this::loadUserByUsername,
+            new MemberStatusCache(memberRepository, Duration.ofSeconds(30), 100), tokenBlackList);
+        ReflectionTestUtils.setField(jwtProvider, "key", SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "accessTokenValid", 600000L);
+        ReflectionTestUtils.invokeMethod(jwtProvider, "init");
+
+        String token;
+        if ("claims".equals(mode)) {
+            token = jwtProvider.createAccessToken(EMAIL, "ROLE_USER", 600000L);
+        } else {
+            Date now = new Date();
+            token = Jwts.builder()
+                .setClaims(Jwts.claims().setSubject(EMAIL))
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 600000L))
+                .signWith(SignatureAlgorithm.HS256, SECRET.getBytes())
+                .compact();
+        }
+        bearerToken = "Bearer " + token;
+        filter = new JwtAuthenticationFilter(jwtProvider);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/1");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private UserDetails loadUserByUsername(String email) {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_MEMBER_SQL)) {
+            statement.setString(1, email);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new UsernameNotFoundException(email);
+                }
+                return new User(rs.getString(1), rs.getString(2),
+                    Collections.singleton(new SimpleGrantedAuthority(rs.getString(3))));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Connection createDatabase() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jwt-benchmark;DB_CLOSE_DELAY=-1");
+        Connection connection = dataSource.getConnection();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table member_profile (member_profile_id bigint primary key, "
+                + "gender varchar(10), phone_number varchar(20))");
+            statement.execute("create table member (member_id bigint primary key, "
+                + "email varchar(255) unique, password varchar(255), role varchar(20), "
+                + "status varchar(20), member_profile_id bigint)");
+            statement.execute("create table pet (pet_id bigint primary key, "
+                + "name varchar(50), member_id bigint)");
+            statement.execute("create index idx_pet_member on pet (member_id)");
+            statement.execute("insert into member_profile values (1, 'MALE', '010-0000-0000')");
+            statement.execute("insert into member values (1, '" + EMAIL + "', 'password', "
+                + "'ROLE_USER', 'ACTIVE', 1)");
+            statement.execute("insert into pet values (1, 'pet1', 1), (2, 'pet2', 1)");
+        }
+        return connection;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
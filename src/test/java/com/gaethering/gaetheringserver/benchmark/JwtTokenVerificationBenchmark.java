@@ -0,0 +1,102 @@
+package com.gaethering.gaetheringserver.benchmark;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.gaethering.gaetheringserver.domain.member.jwt.JwtProvider;
+import com.gaethering.gaetheringserver.domain.member.jwt.MemberStatusCache;
+import com.gaethering.gaetheringserver.domain.member.jwt.ValidatedToken;
+import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import com.gaethering.gaetheringserver.domain.member.type.MemberStatus;
+import com.gaethering.gaetheringserver.domain.redis.RedisService;
+import com.gaethering.gaetheringserver.domain.redis.TokenBlackList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 토큰 검증 경로 비교.
+ * <ul>
+ *     <li>parseTwice: base64 문자열 키로 validateToken + getUserEmail 에서 두 번 파싱 (기존 방식)</li>
+ *     <li>parseOnce: 미리 만든 SecretKey 로 한 번 파싱한 ValidatedToken 사용</li>
+ * </ul>
+ * 실행: JwtTokenVerificationBenchmark#main (test classpath)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenVerificationBenchmark {
+
+    private static final String EMAIL = "bench@test.com";
+    private static final String SECRET = "benchmark-secret-key";
+
+    private JwtProvider jwtProvider;
+    private TokenBlackList tokenBlackList;
+    private String base64Key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenBlackList = mock(TokenBlackList.class);
+        given(tokenBlackList.contains(anyString())).willReturn(false);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        given(memberRepository.findStatusByEmail(anyString()))
+            .willReturn(Optional.of(MemberStatus.ACTIVE));
+
+        jwtProvider = new JwtProvider(mock(RedisService.class), email -> null,
+            new MemberStatusCache(memberRepository, Duration.ofSeconds(30), 100), tokenBlackList);
+        ReflectionTestUtils.setField(jwtProvider, "key", SECRET);
+        ReflectionTestUtils.invokeMethod(jwtProvider, "init");
+
+        base64Key = Base64.getEncoder().encodeToString(SECRET.getBytes());
+        token = jwtProvider.createAccessToken(EMAIL, "ROLE_USER", 600000L);
+    }
+
+    @Benchmark
+    public String parseTwice() {
+        Jws<Claims> claims = Jwts.parser().setSigningKey(base64Key).parseClaimsJws(token);
+        if (tokenBlackList.contains(token)
+            || claims.getBody().getExpiration().before(new Date())) {
+            return null;
+        }
+        return Jwts.parser().setSigningKey(base64Key).parseClaimsJws(token)
+            .getBody().getSubject();
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        return jwtProvider.validateToken(token)
+            .map(ValidatedToken::getEmail)
+            .orElse(null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtTokenVerificationBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
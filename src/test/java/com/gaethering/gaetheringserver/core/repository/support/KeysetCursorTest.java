@@ -0,0 +1,77 @@
+package com.gaethering.gaetheringserver.core.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.gaethering.gaetheringserver.core.exception.CommonErrorCode;
+import com.gaethering.gaetheringserver.core.exception.InvalidCursorException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("id 커서 토큰 왕복")
+    void encodeAndDecode_id() {
+        KeysetCursor cursor = KeysetCursor.of(42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.hasCreatedAt()).isFalse();
+    }
+
+    @Test
+    @DisplayName("(createdAt, id) 커서 토큰 왕복")
+    void encodeAndDecode_createdAtAndId() {
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.of(2023, 1, 2, 3, 4, 5, 6000), 7L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("2023");
+        assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 첫 페이지")
+    void decode_blank() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "MiwxMA", "MSxhYmM", "MSwxLG5vdC1hLWRhdGU"})
+    @DisplayName("형식이 맞지 않는 토큰")
+    void decode_invalid(String token) {
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class,
+            () -> KeysetCursor.decode(token));
+
+        assertThat(exception.getErrorCode()).isEqualTo(CommonErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("size + 1 개를 읽으면 다음 커서가 생긴다")
+    void page_hasNext() {
+        KeysetPage<Long> page = KeysetPage.of(List.of(9L, 8L, 7L), 2, KeysetCursor::of);
+
+        assertThat(page.getContent()).containsExactly(9L, 8L);
+        assertThat(page.getNextCursorId()).isEqualTo(8L);
+        assertThat(KeysetCursor.decode(page.getNextCursorToken())).isEqualTo(KeysetCursor.of(8L));
+        assertThat(page.getTotalCount()).isNull();
+        assertThat(page.withTotalCount(() -> 10L).getTotalCount()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("size 개 이하면 마지막 페이지")
+    void page_last() {
+        KeysetPage<Long> page = KeysetPage.of(List.of(9L, 8L), 2, KeysetCursor::of);
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getNextCursorId()).isEqualTo(KeysetPage.LAST_CURSOR);
+        assertThat(page.getNextCursorToken()).isNull();
+    }
+}
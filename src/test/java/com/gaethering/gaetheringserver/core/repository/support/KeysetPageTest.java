@@ -0,0 +1,36 @@
+package com.gaethering.gaetheringserver.core.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class KeysetPageTest {
+
+    @ParameterizedTest
+    @CsvSource({"-5, 1", "0, 1", "1, 1", "20, 20", "100, 100", "1000, 100"})
+    @DisplayName("페이지 크기는 [1, MAX_SIZE] 로 맞춤")
+    void clampSize(int size, int expected) {
+        assertThat(KeysetPage.clampSize(size)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("size + 1 개를 읽었으면 마지막 행을 빼고 다음 커서를 만듦")
+    void of_hasNext() {
+        KeysetPage<Long> page = KeysetPage.of(List.of(3L, 2L, 1L), 2, KeysetCursor::of);
+
+        assertThat(page.getContent()).containsExactly(3L, 2L);
+        assertThat(page.getNextCursorId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("크기가 1보다 작으면 만들지 않음")
+    void of_nonPositiveSize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> KeysetPage.of(List.of(1L), 0, KeysetCursor::of));
+    }
+}
@@ -0,0 +1,98 @@
+package com.gaethering.gaetheringserver.core.repository.support;
+
+import static com.gaethering.gaetheringserver.domain.board.entity.QPost.post;
+import static com.gaethering.gaetheringserver.domain.member.entity.QMember.member;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gaethering.gaetheringserver.config.JpaConfig;
+import com.gaethering.gaetheringserver.config.QuerydslConfig;
+import com.gaethering.gaetheringserver.domain.board.entity.Post;
+import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import com.querydsl.jpa.impl.JPAQuery;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Import({JpaConfig.class, QuerydslConfig.class})
+class Querydsl4RepositorySupportTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private PostSupport support;
+
+    @BeforeEach
+    void setUp() {
+        support = new PostSupport();
+        support.setEntityManager(entityManager);
+
+        Member writer = Member.builder().email("test@test.com").nickname("writer").build();
+        entityManager.persist(writer);
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(Post.builder().title("title" + i).content("content")
+                .member(writer).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void plainQueryIsCounted() {
+        Page<Post> page = support.page(support.selectFrom(post).orderBy(post.id.desc()));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void groupedQueryIsRejected() {
+        assertThatThrownBy(() -> support.page(
+            support.select(post.member.id).from(post).groupBy(post.member.id)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void distinctQueryIsRejected() {
+        assertThatThrownBy(() -> support.page(
+            support.select(post.member.id).distinct().from(post)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fetchJoinQueryIsRejected() {
+        assertThatThrownBy(() -> support.page(
+            support.selectFrom(post).join(post.member, member).fetchJoin()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void keysetPageSizeIsClamped() {
+        KeysetPage<Post> page = support.keysetPage(0);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    private static class PostSupport extends Querydsl4RepositorySupport {
+
+        PostSupport() {
+            super(Post.class);
+        }
+
+        <T> Page<T> page(JPAQuery<T> query) {
+            return applyPagination(PageRequest.of(0, 2), queryFactory -> query);
+        }
+
+        KeysetPage<Post> keysetPage(int size) {
+            return applyKeysetPagination(size, found -> KeysetCursor.of(found.getId()),
+                queryFactory -> queryFactory.selectFrom(post).orderBy(post.id.desc()));
+        }
+    }
+}
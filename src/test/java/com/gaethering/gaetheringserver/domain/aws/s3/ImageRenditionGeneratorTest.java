@@ -0,0 +1,118 @@
+package com.gaethering.gaetheringserver.domain.aws.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ImageRenditionGeneratorTest {
+
+    private final ImageRenditionGenerator generator = new ImageRenditionGenerator(2, 4, 0.8f);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        generator.shutdown();
+    }
+
+    @Test
+    public void rendersJpegRenditionsKeepingAspectRatio() throws IOException {
+        //given
+        byte[] png = png(4000, 2000, BufferedImage.TYPE_INT_ARGB);
+
+        //when
+        Map<ImageRendition, byte[]> renditions = generator.render(
+            () -> new ByteArrayInputStream(png)).join();
+
+        //then
+        BufferedImage thumb = read(renditions.get(ImageRendition.THUMB));
+        BufferedImage medium = read(renditions.get(ImageRendition.MEDIUM));
+        assertThat(thumb.getWidth()).isEqualTo(320);
+        assertThat(thumb.getHeight()).isEqualTo(160);
+        assertThat(medium.getWidth()).isEqualTo(1080);
+        assertThat(medium.getHeight()).isEqualTo(540);
+        assertThat(renditions.get(ImageRendition.THUMB).length).isLessThan(png.length);
+        // 투명한 부분은 흰색으로 채운다.
+        assertThat(new Color(thumb.getRGB(0, 0)).getRed()).isGreaterThan(240);
+    }
+
+    @Test
+    public void smallImageIsNotEnlarged() {
+        //given
+        byte[] png = png(200, 300, BufferedImage.TYPE_INT_RGB);
+
+        //when
+        Map<ImageRendition, byte[]> renditions = generator.render(
+            () -> new ByteArrayInputStream(png)).join();
+
+        //then
+        for (ImageRendition rendition : ImageRendition.values()) {
+            BufferedImage image = read(renditions.get(rendition));
+            assertThat(image.getWidth()).isEqualTo(200);
+            assertThat(image.getHeight()).isEqualTo(300);
+        }
+    }
+
+    @Test
+    public void notAnImageRendersNothing() {
+        //when
+        Map<ImageRendition, byte[]> renditions = generator.render(
+            () -> new ByteArrayInputStream("not an image".getBytes())).join();
+
+        //then
+        assertThat(renditions).isEmpty();
+    }
+
+    @Test
+    public void failedSourceRendersNothing() {
+        //when
+        Map<ImageRendition, byte[]> renditions = generator.render(() -> {
+            throw new IOException("client aborted");
+        }).join();
+
+        //then
+        assertThat(renditions).isEmpty();
+    }
+
+    @Test
+    public void renditionUrlSitsNextToOriginal() {
+        assertThat(ImageRendition.THUMB.of("https://bucket/post/uuid.png"))
+            .isEqualTo("https://bucket/post/uuid_thumb.jpg");
+        assertThat(ImageRendition.MEDIUM.of("post/uuid.jpeg"))
+            .isEqualTo("post/uuid_medium.jpg");
+        assertThat(ImageRendition.THUMB.of("https://bucket.s3.com/post/uuid"))
+            .isEqualTo("https://bucket.s3.com/post/uuid_thumb.jpg");
+    }
+
+    private static byte[] png(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] jpeg) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(jpeg));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.gaethering.gaetheringserver.domain.aws.s3.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gaethering.gaetheringserver.config.JpaConfig;
+import com.gaethering.gaetheringserver.config.QuerydslConfig;
+import com.gaethering.gaetheringserver.domain.aws.s3.S3DeletionQueue;
+import com.gaethering.gaetheringserver.domain.aws.s3.S3Service;
+import com.gaethering.gaetheringserver.domain.aws.s3.entity.S3ObjectDeletion;
+import com.gaethering.gaetheringserver.domain.aws.s3.repository.S3ObjectDeletionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import({JpaConfig.class, QuerydslConfig.class, S3DeletionQueue.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class S3DeletionSchedulerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private S3DeletionQueue deletionQueue;
+    @Autowired
+    private S3ObjectDeletionRepository deletionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final S3Service s3Service = mock(S3Service.class);
+    private TransactionTemplate transactionTemplate;
+    private S3DeletionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        scheduler = new S3DeletionScheduler(deletionRepository, s3Service, transactionTemplate,
+            BATCH_SIZE, 10_000, 60_000, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deletionRepository.deleteAll();
+    }
+
+    @Test
+    public void enqueueIsRolledBackWithCallerTransaction() {
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            deletionQueue.enqueue("https://bucket/post/1.png", "post");
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(deletionRepository.count()).isZero();
+    }
+
+    @Test
+    public void enqueueRequiresTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+            () -> deletionQueue.enqueue("https://bucket/post/1.png", "post"));
+    }
+
+    @Test
+    public void drainRemovesObjectsInBatches() {
+        //given
+        List<String> urls = IntStream.range(0, 5)
+            .mapToObj(i -> "https://bucket/post/" + i + ".png")
+            .collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status -> deletionQueue.enqueue(urls, "post"));
+        given(s3Service.removeObjects(anyList())).willReturn(List.of());
+
+        //when
+        scheduler.drain();
+
+        //then
+        verify(s3Service).removeObjects(List.of("post/0.png", "post/1.png"));
+        verify(s3Service).removeObjects(List.of("post/2.png", "post/3.png"));
+        verify(s3Service).removeObjects(List.of("post/4.png"));
+        assertThat(deletionRepository.count()).isZero();
+    }
+
+    @Test
+    public void failedObjectsAreRetriedLaterWithBackoff() {
+        //given
+        transactionTemplate.executeWithoutResult(status -> deletionQueue.enqueue(
+            List.of("https://bucket/post/1.png", "https://bucket/post/2.png"), "post"));
+        given(s3Service.removeObjects(anyList())).willReturn(List.of("post/2.png"));
+        LocalDateTime before = LocalDateTime.now();
+
+        //when
+        scheduler.drain();
+        scheduler.drain();
+
+        //then
+        verify(s3Service, times(1)).removeObjects(anyList());
+        List<S3ObjectDeletion> remaining = deletionRepository.findAll();
+        assertThat(remaining).hasSize(1);
+        S3ObjectDeletion failed = remaining.get(0);
+        assertThat(failed.getObjectKey()).isEqualTo("post/2.png");
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(10));
+    }
+}
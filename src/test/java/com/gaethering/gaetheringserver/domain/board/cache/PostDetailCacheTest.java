@@ -0,0 +1,155 @@
+package com.gaethering.gaetheringserver.domain.board.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gaethering.gaetheringserver.domain.board.dto.PostGetImageUrlResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class PostDetailCacheTest {
+
+    @Mock
+    private RedisTemplate<String, CachedPostDetail> redisTemplate;
+    @Mock
+    private ValueOperations<String, CachedPostDetail> valueOperations;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private PostDetailCache postDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        postDetailCache = new PostDetailCache(redisTemplate, stringRedisTemplate,
+            listenerContainer, 100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Redis 에서 읽은 값은 로컬 캐시에 채워져 다음 조회 시 Redis 를 거치지 않음")
+    void get_fromRedisThenLocal() {
+        CachedPostDetail detail = detail(1L);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("post:detail:1")).willReturn(detail);
+
+        assertThat(postDetailCache.get(1L)).contains(detail);
+        assertThat(postDetailCache.get(1L)).contains(detail);
+
+        verify(valueOperations, times(1)).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 캐시 미스로 처리")
+    void get_redisFailure() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("post:detail:1"))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(postDetailCache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("put 이후에는 로컬 캐시에서 바로 조회됨")
+    void put() {
+        CachedPostDetail detail = detail(1L);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        postDetailCache.put(detail);
+
+        verify(valueOperations).set("post:detail:1", detail, Duration.ofMinutes(10));
+        assertThat(postDetailCache.get(1L)).contains(detail);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 evict 하면 커밋 이후에 지워짐")
+    void evict_afterCommit() {
+        CachedPostDetail detail = detail(1L);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        postDetailCache.put(detail);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            postDetailCache.evict(1L);
+
+            verify(redisTemplate, never()).delete(anyString());
+            assertThat(postDetailCache.get(1L)).contains(detail);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisTemplate).delete("post:detail:1");
+        verify(stringRedisTemplate).convertAndSend(PostDetailCache.CHANNEL, "1");
+        assertThat(postDetailCache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 지웠다는 메시지를 받으면 로컬 캐시를 지움")
+    void onMessage_evictsLocal() {
+        verify(listenerContainer).addMessageListener(eq(postDetailCache), any(ChannelTopic.class));
+        CachedPostDetail detail = detail(1L);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        postDetailCache.put(detail);
+
+        postDetailCache.onMessage(new DefaultMessage(
+            PostDetailCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(postDetailCache.get(1L)).isEmpty();
+        verify(valueOperations).get("post:detail:1");
+    }
+
+    @Test
+    @DisplayName("캐시 값 직렬화/역직렬화")
+    void serialize() {
+        Jackson2JsonRedisSerializer<CachedPostDetail> serializer
+            = new Jackson2JsonRedisSerializer<>(CachedPostDetail.class);
+        serializer.setObjectMapper(Jackson2ObjectMapperBuilder.json().build());
+        CachedPostDetail detail = detail(1L);
+
+        CachedPostDetail result = serializer.deserialize(serializer.serialize(detail));
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(detail);
+    }
+
+    private CachedPostDetail detail(Long postId) {
+        return CachedPostDetail.builder()
+            .postId(postId)
+            .title("제목")
+            .content("내용")
+            .nickname("닉네임")
+            .writerEmail("test@gmail.com")
+            .createdAt(LocalDateTime.of(2022, 12, 1, 10, 0))
+            .images(List.of(new PostGetImageUrlResponse(1L, "https://test")))
+            .build();
+    }
+}
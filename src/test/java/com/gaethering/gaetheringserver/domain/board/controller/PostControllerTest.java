@@ -556,6 +556,45 @@ class PostControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("게시물 이미지 스트리밍 업로드 성공")
+    @WithMockUser
+    void uploadPostImageStreamSuccess() throws Exception {
+        //given
+        LocalDateTime date = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+        PostImageUploadResponse response = PostImageUploadResponse.builder()
+                .imageId(1L)
+                .imageUrl("https://test")
+                .representative(false)
+                .createdAt(date)
+                .build();
+        given(postService.uploadPostImageStream(anyString(), anyLong(), any(),
+                eq(MediaType.IMAGE_PNG_VALUE)))
+                .willReturn(response);
+
+        //when
+        //then
+        mockMvc.perform(post("/api/boards/{postId}/images", 1)
+                        .content("test".getBytes())
+                        .contentType(MediaType.IMAGE_PNG)
+                        .header("Authorization", "accessToken"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imageId").value(response.getImageId()))
+                .andExpect(jsonPath("$.imageUrl").value(response.getImageUrl()))
+                .andExpect(jsonPath("$.isRepresentative").value(response.isRepresentative()))
+                .andExpect(jsonPath("$.createdAt").value(response.getCreatedAt().toString()))
+                .andDo(print())
+                .andDo(document("boards/upload-post-image-stream/success",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        pathParameters(parameterWithName("postId").description("이미지 추가할 게시글 Id")),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Access Token"),
+                                headerWithName("Content-Type").description("image/png 또는 image/jpeg"))
+                ));
+    }
+
     @Test
     @DisplayName("게시물 이미지 삭제 실패 - 회원 찾을 수 없는 경우")
     @WithMockUser
@@ -880,6 +919,62 @@ class PostControllerTest {
 
     }
 
+    @Test
+    @DisplayName("타임라인 조회 성공")
+    @WithMockUser
+    void getTimeline_Success() throws Exception {
+
+        PostDetailResponse post9 = PostDetailResponse.builder()
+                .postId(9L)
+                .title("제목입니다9")
+                .content("내용입니다9")
+                .imageUrl("http://testImage9_thumb.jpg")
+                .createdAt(LocalDateTime.of(2022, 12, 31, 17, 59, 59))
+                .commentCnt(1)
+                .heartCnt(4)
+                .hasHeart(true)
+                .build();
+
+        PostDetailResponse post7 = PostDetailResponse.builder()
+                .postId(7L)
+                .title("제목입니다7")
+                .content("내용입니다7")
+                .createdAt(LocalDateTime.of(2022, 12, 31, 15, 59, 59))
+                .commentCnt(0)
+                .heartCnt(0)
+                .hasHeart(false)
+                .build();
+
+        TimelineGetResponse response = TimelineGetResponse.builder()
+                .posts(List.of(post9, post7))
+                .nextCursor(7L)
+                .build();
+
+        given(postService.getTimeline(anyString(), anyInt(), anyLong()))
+                .willReturn(response);
+
+        mockMvc.perform((get("/api/boards/timeline")
+                        .param("size", "2")
+                        .param("lastPostId", "9223372036854775807")
+                        .header("Authorization", "accessToken")))
+                .andExpect(jsonPath("$.posts[0].postId").value(post9.getPostId()))
+                .andExpect(jsonPath("$.posts[0].title").value(post9.getTitle()))
+                .andExpect(jsonPath("$.posts[0].imageUrl").value(post9.getImageUrl()))
+                .andExpect(jsonPath("$.posts[0].hasHeart").value(post9.isHasHeart()))
+                .andExpect(jsonPath("$.posts[1].postId").value(post7.getPostId()))
+                .andExpect(jsonPath("$.nextCursor").value(7L))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document("boards/get-timeline/success",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(parameterWithName("size").description("한 번에 보여줄 게시물의 개수"),
+                                parameterWithName("lastPostId").description("이전 응답의 nextCursor - 처음 조회할 경우 Long 타입의 최대값")),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Access Token"))
+                ));
+    }
+
     @Test
     @DisplayName("게시물 목록 조회 실패 - 카테고리 없음")
     @WithMockUser
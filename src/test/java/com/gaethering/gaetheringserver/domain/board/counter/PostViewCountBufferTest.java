@@ -0,0 +1,89 @@
+package com.gaethering.gaetheringserver.domain.board.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostViewCountBufferTest {
+
+    @Test
+    @DisplayName("조회수 누적 후 drain 하면 버퍼가 비워짐")
+    void increaseAndDrain() {
+        PostViewCountBuffer buffer = new PostViewCountBuffer(0);
+
+        buffer.increase(1L, 1L);
+        buffer.increase(1L, 1L);
+        buffer.increase(2L, 1L);
+
+        assertThat(buffer.getPendingCount(1L)).isEqualTo(2);
+
+        Map<Long, Long> drained = buffer.drain();
+
+        assertThat(drained).containsEntry(1L, 2L).containsEntry(2L, 1L);
+        assertThat(buffer.getPendingCount(1L)).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 실패한 조회수는 restore 로 다시 합산됨")
+    void restore() {
+        PostViewCountBuffer buffer = new PostViewCountBuffer(0);
+        buffer.increase(1L, 1L);
+        Map<Long, Long> drained = buffer.drain();
+        buffer.increase(1L, 1L);
+
+        buffer.restore(drained);
+
+        assertThat(buffer.getPendingCount(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중복 조회 제거 - 시간 내 같은 회원의 재조회는 세지 않음")
+    void dedupRepeatedViews() {
+        PostViewCountBuffer buffer = new PostViewCountBuffer(1000);
+
+        assertThat(buffer.isDuplicatedView(1L, 1L, 0)).isFalse();
+        assertThat(buffer.isDuplicatedView(1L, 1L, 999)).isTrue();
+        assertThat(buffer.isDuplicatedView(1L, 2L, 999)).isFalse();
+        assertThat(buffer.isDuplicatedView(2L, 1L, 999)).isFalse();
+        assertThat(buffer.isDuplicatedView(1L, 1L, 1000)).isFalse();
+
+        buffer.evictExpiredViews(Long.MAX_VALUE);
+        assertThat(buffer.isDuplicatedView(1L, 1L, 1001)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 조회해도 누락 없이 합산됨")
+    void concurrentIncrease() throws InterruptedException {
+        PostViewCountBuffer buffer = new PostViewCountBuffer(0);
+        int threadCount = 8;
+        int viewsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        long drainedTotal = 0;
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    buffer.increase(1L, null);
+                }
+                latch.countDown();
+            });
+        }
+        while (latch.getCount() > 0) {
+            drainedTotal += buffer.drain().getOrDefault(1L, 0L);
+        }
+        latch.await();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        drainedTotal += buffer.drain().getOrDefault(1L, 0L);
+        assertThat(drainedTotal).isEqualTo((long) threadCount * viewsPerThread);
+    }
+}
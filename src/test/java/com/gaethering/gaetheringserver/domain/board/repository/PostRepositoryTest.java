@@ -0,0 +1,376 @@
+package com.gaethering.gaetheringserver.domain.board.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gaethering.gaetheringserver.config.JpaConfig;
+import com.gaethering.gaetheringserver.config.QuerydslConfig;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import com.gaethering.gaetheringserver.domain.board.dto.CommentDetailResponse;
+import com.gaethering.gaetheringserver.domain.board.dto.PostCountResponse;
+import com.gaethering.gaetheringserver.domain.board.dto.PostDetailResponse;
+import com.gaethering.gaetheringserver.domain.board.entity.Category;
+import com.gaethering.gaetheringserver.domain.board.entity.Comment;
+import com.gaethering.gaetheringserver.domain.board.entity.Heart;
+import com.gaethering.gaetheringserver.domain.board.entity.Post;
+import com.gaethering.gaetheringserver.domain.board.entity.PostImage;
+import com.gaethering.gaetheringserver.domain.member.dto.mypage.PostInfo;
+import com.gaethering.gaetheringserver.domain.member.entity.Follow;
+import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import com.gaethering.gaetheringserver.domain.member.repository.follow.FollowRepository;
+import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, QuerydslConfig.class})
+@Transactional
+public class PostRepositoryTest {
+
+    private static final int POST_COUNT = 30;
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostImageRepository postImageRepository;
+    @Autowired
+    private HeartRepository heartRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private EntityManager em;
+
+    private Category category;
+    private Member member;
+    private List<Post> posts;
+
+    @BeforeEach
+    public void setUp() {
+        member = memberRepository.save(Member.builder()
+            .email("member1@test.com")
+            .nickname("닉네임1")
+            .build());
+        Member other = memberRepository.save(Member.builder()
+            .email("member2@test.com")
+            .nickname("닉네임2")
+            .build());
+        category = categoryRepository.save(Category.builder()
+            .categoryName("정보 공유")
+            .build());
+        Category otherCategory = categoryRepository.save(Category.builder()
+            .categoryName("질문 있어요")
+            .build());
+
+        posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = postRepository.save(Post.builder()
+                .title("제목" + i)
+                .content("내용" + i)
+                .member(other)
+                .category(category)
+                .build());
+            posts.add(post);
+
+            // 홀수 번째 글은 축소본이 없던 때 올린 사진이다.
+            postImageRepository.save(PostImage.builder()
+                .imageUrl("https://test/" + i + "/representative.png")
+                .thumbnailUrl(i % 2 == 0 ? "https://test/" + i + "/representative_thumb.jpg" : null)
+                .isRepresentative(true)
+                .post(post)
+                .build());
+            postImageRepository.save(PostImage.builder()
+                .imageUrl("https://test/" + i + "/other")
+                .isRepresentative(false)
+                .post(post)
+                .build());
+
+            heartRepository.save(Heart.builder().post(post).member(other).build());
+            postRepository.increaseHeartCount(post.getId());
+            if (i % 2 == 0) {
+                heartRepository.save(Heart.builder().post(post).member(member).build());
+                postRepository.increaseHeartCount(post.getId());
+            }
+            for (int j = 0; j < i % 3; j++) {
+                commentRepository.save(Comment.builder()
+                    .content("댓글" + j)
+                    .post(post)
+                    .member(member)
+                    .build());
+                postRepository.increaseCommentCount(post.getId());
+            }
+        }
+
+        postRepository.save(Post.builder()
+            .title("다른 카테고리")
+            .content("내용")
+            .member(other)
+            .category(otherCategory)
+            .build());
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void findPostsByCategory() {
+        //given
+        long lastPostId = Long.MAX_VALUE;
+
+        //when
+        List<PostDetailResponse> result = postRepository.findPostsByCategory(
+            category.getId(), member.getId(), lastPostId, 5);
+
+        //then
+        assertThat(result).hasSize(5);
+        for (int k = 0; k < result.size(); k++) {
+            int i = POST_COUNT - 1 - k;
+            PostDetailResponse response = result.get(k);
+            assertThat(response.getPostId()).isEqualTo(posts.get(i).getId());
+            assertThat(response.getTitle()).isEqualTo("제목" + i);
+            assertThat(response.getImageUrl()).isEqualTo(i % 2 == 0
+                ? "https://test/" + i + "/representative_thumb.jpg"
+                : "https://test/" + i + "/representative.png");
+            assertThat(response.getHeartCnt()).isEqualTo(i % 2 == 0 ? 2 : 1);
+            assertThat(response.getCommentCnt()).isEqualTo(i % 3);
+            assertThat(response.isHasHeart()).isEqualTo(i % 2 == 0);
+        }
+    }
+
+    @Test
+    public void findPostsByCategory_withCursor() {
+        //given
+        long lastPostId = posts.get(3).getId();
+
+        //when
+        List<PostDetailResponse> result = postRepository.findPostsByCategory(
+            category.getId(), member.getId(), lastPostId, 10);
+
+        //then
+        assertThat(result).extracting(PostDetailResponse::getPostId)
+            .containsExactly(posts.get(2).getId(), posts.get(1).getId(), posts.get(0).getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20, POST_COUNT})
+    public void findPostsByCategory_singleStatementPerPage(int size) {
+        //given
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<PostDetailResponse> result = postRepository.findPostsByCategory(
+            category.getId(), member.getId(), Long.MAX_VALUE, size);
+        result.forEach(response -> {
+            response.getImageUrl();
+            response.getHeartCnt();
+            response.getCommentCnt();
+        });
+
+        //then
+        assertThat(result).hasSize(size);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void findCommentsByPostId_keyset() {
+        //given
+        Long postId = posts.get(POST_COUNT - 1).getId();
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        KeysetPage<CommentDetailResponse> first = commentRepository.findCommentsByPostId(
+            postId, member.getEmail(), null, 1);
+        KeysetPage<CommentDetailResponse> second = commentRepository.findCommentsByPostId(
+            postId, "member2@test.com", first.getNextCursor(), 1);
+
+        //then
+        assertThat(first.getContent()).extracting(CommentDetailResponse::getContent)
+            .containsExactly("댓글1");
+        assertThat(first.getContent().get(0).isOwner()).isTrue();
+        assertThat(first.getContent().get(0).getNickname()).isEqualTo("닉네임1");
+        assertThat(first.getNextCursorId()).isEqualTo(first.getContent().get(0).getCommentId());
+
+        assertThat(second.getContent()).extracting(CommentDetailResponse::getContent)
+            .containsExactly("댓글0");
+        assertThat(second.getContent().get(0).isOwner()).isFalse();
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getNextCursorId()).isEqualTo(KeysetPage.LAST_CURSOR);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void decreaseCount_notBelowZero() {
+        //given
+        Long postId = posts.get(1).getId();
+
+        //when
+        long first = postRepository.decreaseHeartCount(postId);
+        long second = postRepository.decreaseHeartCount(postId);
+        long comment = postRepository.decreaseCommentCount(postId);
+
+        //then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(comment).isEqualTo(1);
+        assertThat(postRepository.findHeartCountByPostId(postId)).isZero();
+        assertThat(postRepository.findById(postId).get().getCommentCnt()).isZero();
+    }
+
+    @Test
+    public void reconcileCounts() {
+        //given
+        Long driftedHeartPostId = posts.get(2).getId();
+        Long driftedCommentPostId = posts.get(5).getId();
+        postRepository.increaseHeartCount(driftedHeartPostId);
+        postRepository.decreaseCommentCount(driftedCommentPostId);
+
+        //when
+        List<Long> drifted = postRepository.findPostIdsWithCountDrift(0, POST_COUNT);
+        drifted.forEach(postRepository::reconcileCountsByPostId);
+        em.clear();
+
+        //then
+        assertThat(drifted).containsExactly(driftedHeartPostId, driftedCommentPostId);
+        assertThat(postRepository.findById(driftedHeartPostId).get().getHeartCnt()).isEqualTo(2);
+        assertThat(postRepository.findById(driftedCommentPostId).get().getCommentCnt()).isEqualTo(2);
+        assertThat(postRepository.findPostIdsWithCountDrift(0, POST_COUNT)).isEmpty();
+    }
+
+    @Test
+    public void increaseViewCounts() {
+        //given
+        List<Long> postIds = List.of(posts.get(0).getId(), posts.get(1).getId());
+
+        //when
+        long updated = postRepository.increaseViewCounts(postIds, 3);
+        em.clear();
+
+        //then
+        assertThat(updated).isEqualTo(2);
+        assertThat(postRepository.findById(postIds.get(0)).get().getViewCnt()).isEqualTo(3);
+        assertThat(postRepository.findById(postIds.get(1)).get().getViewCnt()).isEqualTo(3);
+        assertThat(postRepository.findById(posts.get(2).getId()).get().getViewCnt()).isZero();
+    }
+
+    @Test
+    public void findPostCountById() {
+        //given
+        Long postId = posts.get(0).getId();
+        postRepository.increaseViewCounts(List.of(postId), 4);
+
+        //when
+        Optional<PostCountResponse> result = postRepository.findPostCountById(postId);
+
+        //then
+        assertThat(result).isPresent();
+        assertThat(result.get().getViewCnt()).isEqualTo(4);
+        assertThat(result.get().getHeartCnt()).isEqualTo(2);
+        assertThat(postRepository.findPostCountById(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    public void findFolloweePostIds() {
+        //given
+        Member other = posts.get(0).getMember();
+        followRepository.save(Follow.builder().follower(member).followee(other).build());
+        Long otherCategoryPostId = posts.get(POST_COUNT - 1).getId() + 1;
+
+        //when
+        List<Long> result = postRepository.findFolloweePostIds(member.getId(), Long.MAX_VALUE,
+            100, 3);
+        List<Long> fromCursor = postRepository.findFolloweePostIds(member.getId(),
+            posts.get(2).getId(), 100, 10);
+        List<Long> largeAccountOnly = postRepository.findFolloweePostIds(member.getId(),
+            Long.MAX_VALUE, 0, 3);
+        List<Long> notFollowing = postRepository.findFolloweePostIds(other.getId(),
+            Long.MAX_VALUE, 100, 3);
+
+        //then
+        assertThat(result).containsExactly(otherCategoryPostId,
+            posts.get(POST_COUNT - 1).getId(), posts.get(POST_COUNT - 2).getId());
+        assertThat(fromCursor).containsExactly(posts.get(1).getId(), posts.get(0).getId());
+        assertThat(largeAccountOnly).isEmpty();
+        assertThat(notFollowing).isEmpty();
+    }
+
+    @Test
+    public void findPostIdsByMemberIds() {
+        //given
+        Long otherId = posts.get(0).getMember().getId();
+
+        //when
+        List<Long> result = postRepository.findPostIdsByMemberIds(List.of(otherId),
+            posts.get(5).getId(), 2);
+
+        //then
+        assertThat(result).containsExactly(posts.get(4).getId(), posts.get(3).getId());
+        assertThat(postRepository.findPostIdsByMemberIds(List.of(member.getId()),
+            Long.MAX_VALUE, 2)).isEmpty();
+    }
+
+    @Test
+    public void findPostsByIds() {
+        //given
+        List<Long> postIds = List.of(posts.get(5).getId(), posts.get(6).getId(),
+            Long.MAX_VALUE);
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<PostDetailResponse> result = postRepository.findPostsByIds(postIds,
+            member.getId());
+
+        //then
+        assertThat(result).extracting(PostDetailResponse::getPostId)
+            .containsExactly(posts.get(6).getId(), posts.get(5).getId());
+        assertThat(result.get(0).getImageUrl())
+            .isEqualTo("https://test/6/representative_thumb.jpg");
+        assertThat(result.get(0).isHasHeart()).isTrue();
+        assertThat(result.get(1).getImageUrl()).isEqualTo("https://test/5/representative.png");
+        assertThat(result.get(1).isHasHeart()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void findPostInfosByMemberId() {
+        //given
+        Long otherId = posts.get(0).getMember().getId();
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<PostInfo> result = postRepository.findPostInfosByMemberId(otherId,
+            posts.get(POST_COUNT - 1).getId(), 2);
+
+        //then
+        assertThat(result).extracting(PostInfo::getPostId)
+            .containsExactly(posts.get(POST_COUNT - 2).getId(), posts.get(POST_COUNT - 3).getId());
+        assertThat(result.get(0).getTitle()).isEqualTo("제목" + (POST_COUNT - 2));
+        assertThat(result.get(0).getCreatedAt()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(postRepository.findPostInfosByMemberId(member.getId(), Long.MAX_VALUE, 2))
+            .isEmpty();
+    }
+}
@@ -1,5 +1,8 @@
 package com.gaethering.gaetheringserver.domain.board.service;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetCursor;
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import com.gaethering.gaetheringserver.domain.board.dto.CommentDetailResponse;
 import com.gaethering.gaetheringserver.domain.board.dto.CommentRequest;
 import com.gaethering.gaetheringserver.domain.board.dto.CommentResponse;
 import com.gaethering.gaetheringserver.domain.board.dto.CommentsGetResponse;
@@ -24,11 +27,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.data.domain.PageRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
@@ -86,6 +89,7 @@ class CommentServiceTest {
                 commentService.writeComment("test@gmail.com", 1L, request);
 
         verify(commentRepository, times(1)).save(captor.capture());
+        verify(postRepository, times(1)).increaseCommentCount(1L);
         assertEquals("댓글입니다", response.getContent());
     }
 
@@ -310,6 +314,7 @@ class CommentServiceTest {
 
         boolean result = commentService.deleteComment("test@gmail.com", 1L, 1L);
         assertThat(result).isTrue();
+        verify(postRepository, times(1)).decreaseCommentCount(1L);
     }
 
     @Test
@@ -436,34 +441,41 @@ class CommentServiceTest {
                 .id(1L)
                 .title("제목")
                 .content("내용")
+                .commentCnt(2)
                 .build();
 
         given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
 
-        Comment comment1 = Comment.builder()
-                .id(1L)
-                .post(post)
-                .member(member1)
-                .content("첫번째 댓글")
+        CommentDetailResponse comment1 = CommentDetailResponse.builder()
+                .commentId(2L)
+                .memberId(member1.getId())
+                .nickname(member1.getNickname())
+                .content("두번째 댓글")
+                .owner(true)
                 .build();
 
-        Comment comment2 = Comment.builder()
-                .id(2L)
-                .post(post)
-                .member(member2)
-                .content("두번째 댓글")
+        CommentDetailResponse comment2 = CommentDetailResponse.builder()
+                .commentId(1L)
+                .memberId(member2.getId())
+                .nickname(member2.getNickname())
+                .content("첫번째 댓글")
                 .build();
 
-        given(commentRepository.findAllByPostAndIdIsLessThanOrderByIdDesc(any(), anyLong(), any(PageRequest.class)))
-                .willReturn(List.of(comment1, comment2));
+        given(commentRepository.findCommentsByPostId(anyLong(), anyString(), any(), anyInt()))
+                .willReturn(KeysetPage.of(List.of(comment1, comment2), 5,
+                        comment -> KeysetCursor.of(comment.getCommentId())));
 
-        CommentsGetResponse response = commentService.getCommentsByPost("test@gmail.com", 1L, 5, 10);
+        CommentsGetResponse response = commentService.getCommentsByPost("test111@gmail.com", 1L, 5, 10);
 
+        verify(commentRepository).findCommentsByPostId(1L, "test111@gmail.com", KeysetCursor.of(10), 5);
         assertEquals(2, response.getComments().size());
+        assertEquals(2, response.getTotalCommentsCnt());
+        assertEquals(-1L, response.getNextCursor());
         assertEquals(comment1.getContent(), response.getComments().get(0).getContent());
         assertEquals(comment2.getContent(), response.getComments().get(1).getContent());
-        assertEquals(comment1.getMember().getNickname(), response.getComments().get(0).getNickname());
-        assertEquals(comment2.getMember().getNickname(), response.getComments().get(1).getNickname());
+        assertEquals(comment1.getNickname(), response.getComments().get(0).getNickname());
+        assertEquals(comment2.getNickname(), response.getComments().get(1).getNickname());
+        assertTrue(response.getComments().get(0).isOwner());
     }
 
     @Test
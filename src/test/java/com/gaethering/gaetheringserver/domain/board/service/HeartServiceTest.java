@@ -67,13 +67,18 @@ class HeartServiceTest {
         given(postRepository.findById(anyLong()))
                 .willReturn(Optional.of(post));
 
+        given(postRepository.findHeartCountByPostId(anyLong()))
+                .willReturn(1L);
+
         ArgumentCaptor<Heart> captor = ArgumentCaptor.forClass(Heart.class);
 
         HeartResponse response = heartService.pushHeart(1L, "test@gmail.com");
 
         verify(heartRepository, times(1)).save(captor.capture());
+        verify(postRepository, times(1)).increaseHeartCount(1L);
         assertEquals(1L, response.getPostId());
         assertEquals(1L, response.getMemberId());
+        assertEquals(1L, response.getHeartCnt());
     }
 
     @Test
@@ -144,6 +149,9 @@ class HeartServiceTest {
                 .willReturn(Optional.of(heart));
 
         HeartResponse response = heartService.pushHeart(1L, "test@gmail.com");
+
+        verify(heartRepository, times(1)).delete(heart);
+        verify(postRepository, times(1)).decreaseHeartCount(1L);
         assertEquals(1L, response.getPostId());
         assertEquals(0, response.getHeartCnt());
     }
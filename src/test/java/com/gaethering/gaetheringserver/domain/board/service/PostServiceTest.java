@@ -4,15 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import com.gaethering.gaetheringserver.core.repository.support.TotalCountCache;
+import com.gaethering.gaetheringserver.domain.aws.s3.S3DeletionQueue;
 import com.gaethering.gaetheringserver.domain.aws.s3.S3Service;
+import com.gaethering.gaetheringserver.domain.board.cache.CachedPostDetail;
+import com.gaethering.gaetheringserver.domain.board.cache.PostDetailCache;
+import com.gaethering.gaetheringserver.domain.board.counter.PostViewCountBuffer;
 import com.gaethering.gaetheringserver.domain.board.dto.*;
 import com.gaethering.gaetheringserver.domain.board.entity.Category;
 import com.gaethering.gaetheringserver.domain.board.entity.Heart;
@@ -28,14 +36,18 @@ import com.gaethering.gaetheringserver.domain.board.repository.CommentRepository
 import com.gaethering.gaetheringserver.domain.board.repository.HeartRepository;
 import com.gaethering.gaetheringserver.domain.board.repository.PostImageRepository;
 import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
+import com.gaethering.gaetheringserver.domain.board.timeline.HomeTimeline;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.errorcode.MemberErrorCode;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,9 +55,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 
@@ -66,6 +79,18 @@ class PostServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private S3Service s3Service;
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+    @Mock
+    private PostViewCountBuffer viewCountBuffer;
+    @Mock
+    private PostDetailCache postDetailCache;
+    @Mock
+    private HomeTimeline homeTimeline;
+    @Mock
+    private TotalCountCache totalCountCache;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -73,6 +98,7 @@ class PostServiceTest {
     @DisplayName("게시물 작성 실패 - 회원 찾을 수 없는 경우")
     void writePost_Fail_NoUser() {
 
+        givenTransaction();
         given(memberRepository.findByEmail(anyString()))
             .willReturn(Optional.empty());
 
@@ -91,6 +117,7 @@ class PostServiceTest {
     @Test
     @DisplayName("게시물 작성 실패 - 카테고리 찾을 수 없는 경우")
     void writePost_Fail_NoCategory() {
+        givenTransaction();
         Member member = Member.builder()
             .id(1L)
             .email("email@gmail.com")
@@ -123,8 +150,8 @@ class PostServiceTest {
                 MediaType.IMAGE_PNG_VALUE, "test1".getBytes(StandardCharsets.UTF_8))
         );
 
-        given(s3Service.uploadImage(any(), anyString()))
-            .willReturn(imageFiles.get(0).getName());
+        given(s3Service.uploadImages(imageFiles, "post"))
+            .willReturn(List.of(imageFiles.get(0).getName()));
 
         List<String> imgUrlList = postService.getImageUrlsInRequest(imageFiles);
         assertEquals(1, imgUrlList.size());
@@ -135,6 +162,7 @@ class PostServiceTest {
     @DisplayName("게시물 작성 성공")
     void writePost_Success() {
 
+        givenTransaction();
         Member member = Member.builder()
             .id(1L)
             .email("email@gmail.com")
@@ -166,6 +194,36 @@ class PostServiceTest {
         assertEquals("닉네임", response.getNickname());
         assertEquals("제목입니다", response.getTitle());
         verify(postRepository, times(1)).save(captor.capture());
+        verify(memberRepository, times(1)).increasePostCount(1L);
+        verify(totalCountCache).evict("post:category:1");
+        verify(homeTimeline, times(1)).fanOut(member, captor.getValue().getId());
+    }
+
+    @Test
+    @DisplayName("게시물 작성 실패 - 저장 실패 시 올린 이미지 삭제")
+    void writePost_Fail_RemovesUploadedImages() {
+        givenTransaction();
+        List<MultipartFile> imageFiles = List.of(
+            new MockMultipartFile("test1", "test1.PNG",
+                MediaType.IMAGE_PNG_VALUE, "test1".getBytes(StandardCharsets.UTF_8)),
+            new MockMultipartFile("test2", "test2.PNG",
+                MediaType.IMAGE_PNG_VALUE, "test2".getBytes(StandardCharsets.UTF_8))
+        );
+        List<String> imgUrls = List.of("https://test/post/1.PNG", "https://test/post/2.PNG");
+
+        given(s3Service.uploadImages(imageFiles, "post")).willReturn(imgUrls);
+        given(memberRepository.findByEmail(anyString())).willReturn(Optional.empty());
+
+        PostWriteRequest request = PostWriteRequest.builder()
+            .title("제목입니다")
+            .content("내용입니다")
+            .build();
+
+        assertThrows(MemberNotFoundException.class,
+            () -> postService.writePost("test@gmail.com", 1L, imageFiles, request));
+
+        verify(s3Service).removeImages(imgUrls, "post");
+        verify(postRepository, never()).save(any());
     }
 
     @Test
@@ -277,14 +335,13 @@ class PostServiceTest {
             .member(member1)
             .postImages(List.of(postImage))
             .category(category)
+            .heartCnt(1)
             .build();
 
         given(memberRepository.findByEmail(anyString()))
             .willReturn(Optional.of(member1));
         given(postRepository.findById(anyLong()))
             .willReturn(Optional.of(post));
-        given(heartRepository.countByPost(post))
-            .willReturn(1L);
 
         PostUpdateRequest request = PostUpdateRequest.builder()
             .title("게시글 제목 수정")
@@ -295,9 +352,11 @@ class PostServiceTest {
         PostUpdateResponse response = postService.updatePost(member1.getEmail(), 1L, request);
 
         // then
+        verify(postDetailCache).evict(1L);
         assertThat(response.getImageUrls().get(0).getImageId()).isEqualTo(postImage.getId());
         assertThat(response.getTitle()).isEqualTo(post.getTitle());
         assertThat(response.getContent()).isEqualTo(post.getContent());
+        assertThat(response.getHeartCnt()).isEqualTo(1);
         assertThat(response.getCreatedAt()).isEqualTo(post.getCreatedAt());
         assertThat(response.getUpdatedAt()).isEqualTo(post.getUpdatedAt());
     }
@@ -437,12 +496,97 @@ class PostServiceTest {
             file);
 
         // then
+        verify(postDetailCache).evict(1L);
         assertThat(response.getImageId()).isEqualTo(savedPostImage.getId());
         assertThat(response.getImageUrl()).isEqualTo(savedPostImage.getImageUrl());
         assertThat(response.isRepresentative()).isEqualTo(savedPostImage.isRepresentative());
         assertThat(response.getCreatedAt()).isEqualTo(savedPostImage.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("게시물 사진 스트리밍 업로드 성공")
+    void uploadPostImageStreamSuccess() {
+        // given
+        givenTransaction();
+        InputStream inputStream = new ByteArrayInputStream("test".getBytes());
+
+        Member member1 = Member.builder()
+            .id(1L)
+            .email("gaethering@gmail.com")
+            .nickname("닉네임")
+            .build();
+        Post post = Post.builder()
+            .id(1L)
+            .title("게시물 제목")
+            .content("게시물 내용")
+            .member(member1)
+            .build();
+        PostImage savedPostImage = PostImage.builder()
+            .id(1L)
+            .imageUrl("https://test/post/1.png")
+            .isRepresentative(false)
+            .post(post)
+            .build();
+
+        given(s3Service.uploadImageStream(inputStream, "image/png", "post"))
+            .willReturn("https://test/post/1.png");
+        given(memberRepository.findByEmail(anyString()))
+            .willReturn(Optional.of(member1));
+        given(postRepository.findById(anyLong()))
+            .willReturn(Optional.of(post));
+        given(postImageRepository.save(any(PostImage.class))).willReturn(savedPostImage);
+
+        // when
+        PostImageUploadResponse response = postService.uploadPostImageStream(
+            member1.getEmail(), 1L, inputStream, "image/png");
+
+        // then
+        verify(postDetailCache).evict(1L);
+        verify(s3Service, never()).removeImage(anyString(), anyString());
+        assertThat(response.getImageUrl()).isEqualTo("https://test/post/1.png");
+    }
+
+    @Test
+    @DisplayName("게시물 사진 스트리밍 업로드 실패_게시물 작성자가 아니면 올린 사진 삭제")
+    void uploadPostImageStreamFailure_NoPermissionUpdatePost() {
+        // given
+        givenTransaction();
+        InputStream inputStream = new ByteArrayInputStream("test".getBytes());
+
+        Member member1 = Member.builder()
+            .id(1L)
+            .email("gaethering@gmail.com")
+            .nickname("닉네임")
+            .build();
+        Member member2 = Member.builder()
+            .id(2L)
+            .email("other@gmail.com")
+            .nickname("닉네임2")
+            .build();
+        Post post = Post.builder()
+            .id(1L)
+            .title("게시물 제목")
+            .content("게시물 내용")
+            .member(member1)
+            .build();
+
+        given(s3Service.uploadImageStream(inputStream, "image/png", "post"))
+            .willReturn("https://test/post/1.png");
+        given(memberRepository.findByEmail(anyString()))
+            .willReturn(Optional.of(member2));
+        given(postRepository.findById(anyLong()))
+            .willReturn(Optional.of(post));
+
+        // when
+        assertThrows(NoPermissionUpdatePostException.class,
+            () -> postService.uploadPostImageStream(member2.getEmail(), 1L, inputStream,
+                "image/png"));
+
+        // then
+        verify(s3Service).removeImage("https://test/post/1.png", "post");
+        verify(postImageRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("게시물 사진 삭제 실패_회원 존재하지 않음")
     void deletePostImageFailure_MemberNotFound() {
@@ -554,6 +698,9 @@ class PostServiceTest {
         boolean result = postService.deletePostImage(member1.getEmail(), 1L, 1L);
 
         // then
+        verify(s3DeletionQueue).enqueue("https://test~", "post");
+        verify(s3Service, never()).removeImage(anyString(), anyString());
+        verify(postDetailCache).evict(1L);
         assertThat(result).isTrue();
     }
 
@@ -666,10 +813,14 @@ class PostServiceTest {
         boolean result = postService.deletePost(member1.getEmail(), 1L);
 
         // then
+        verify(s3DeletionQueue).enqueue(List.of("https://test~"), "post");
+        verify(postDetailCache).evict(1L);
         verify(heartRepository).deleteHeartAllByPostId(eq(post.getId()));
         verify(commentRepository).deleteCommentsAllByPostId(eq(post.getId()));
         assertThat(result).isTrue();
         verify(postRepository, times(1)).delete(captorPost.capture());
+        verify(memberRepository, times(1)).decreasePostCount(member1.getId());
+        verify(totalCountCache).evict("post:category:1");
     }
 
     @Test
@@ -692,83 +843,83 @@ class PostServiceTest {
         given(memberRepository.findByEmail(anyString()))
                 .willReturn(Optional.of(member));
 
-        PostImage image1 = PostImage.builder()
-                .id(1L)
+        PostDetailResponse post1 = PostDetailResponse.builder()
+                .postId(3L)
+                .title("제목3")
+                .content("내용3")
                 .imageUrl("https://test1")
-                .isRepresentative(true)
+                .heartCnt(1)
+                .commentCnt(2)
+                .hasHeart(true)
                 .build();
 
-        PostImage image2 = PostImage.builder()
-                .id(2L)
+        PostDetailResponse post2 = PostDetailResponse.builder()
+                .postId(2L)
+                .title("제목2")
+                .content("내용2")
                 .imageUrl("https://test2")
-                .isRepresentative(false)
                 .build();
 
-        Post post1 = Post.builder()
-                .id(1L)
+        PostDetailResponse post3 = PostDetailResponse.builder()
+                .postId(1L)
                 .title("제목1")
                 .content("내용1")
-                .category(category)
-                .postImages(new ArrayList<>())
-                .comments(new ArrayList<>())
-                .hearts(new ArrayList<>())
                 .build();
 
-        post1.addImage(image1);
-
-        Heart heart1 = Heart.builder()
-                .member(member)
-                .post(post1)
-                .build();
+        given(postRepository.findPostsByCategory(anyLong(), anyLong(), anyLong(), anyInt()))
+                .willReturn(List.of(post1, post2, post3));
+        given(totalCountCache.get(eq("post:category:1"), any()))
+                .willAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong());
+        given(postRepository.countByCategory(category)).willReturn(3L);
 
-        post1.pushPostHeart(heart1);
+        PostsGetResponse response = postService.getPosts( "test@gmail.com",1L, 5, 10);
 
-        given(postImageRepository.findByPostAndIsRepresentativeIsTrue(post1))
-                .willReturn(Optional.of(image1));
+        verify(postRepository).findPostsByCategory(category.getId(), member.getId(), 10, 6);
+        assertEquals(3, response.getPosts().size());
+        assertEquals(3, response.getTotalPostsCnt());
+        assertEquals(-1L, response.getNextCursor());
+        assertEquals(post1.getCommentCnt(), response.getPosts().get(0).getCommentCnt());
+        assertEquals(post1.getHeartCnt(), response.getPosts().get(0).getHeartCnt());
+        assertEquals(post1.getTitle(), response.getPosts().get(0).getTitle());
+        assertEquals(post1.getContent(), response.getPosts().get(0).getContent());
+        assertEquals(post1.getImageUrl(), response.getPosts().get(0).getImageUrl());
+        assertEquals(true, response.getPosts().get(0).isHasHeart());
+        assertEquals(null, response.getPosts().get(2).getImageUrl());
+        assertEquals(false, response.getPosts().get(2).isHasHeart());
+    }
 
-        given(heartRepository.existsByPostAndMember(post1, member))
-                .willReturn(true);
+    @Test
+    @DisplayName("게시물 목록 조회 성공 - 다음 페이지 존재")
+    void getPosts_Success_HasNext () {
 
-        Post post2 = Post.builder()
-                .id(2L)
-                .title("제목2")
-                .content("내용2")
-                .category(category)
-                .postImages(new ArrayList<>())
-                .comments(new ArrayList<>())
-                .hearts(new ArrayList<>())
+        Category category = Category.builder()
+                .id(1L)
+                .categoryName("정보 공유")
                 .build();
 
-        post2.addImage(image2);
-
-        given(postImageRepository.findByPostAndIsRepresentativeIsTrue(post2))
-                .willReturn(Optional.of(image2));
+        given(categoryRepository.findById(anyLong()))
+                .willReturn(Optional.of(category));
 
-        Post post3 = Post.builder()
-                .id(3L)
-                .title("제목3")
-                .content("내용3")
-                .category(category)
-                .postImages(new ArrayList<>())
-                .comments(new ArrayList<>())
-                .hearts(new ArrayList<>())
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@gmail.com")
                 .build();
 
+        given(memberRepository.findByEmail(anyString()))
+                .willReturn(Optional.of(member));
+
+        List<PostDetailResponse> posts = List.of(
+                PostDetailResponse.builder().postId(9L).title("제목9").build(),
+                PostDetailResponse.builder().postId(8L).title("제목8").build(),
+                PostDetailResponse.builder().postId(7L).title("제목7").build());
 
-        given(postRepository.findAllByCategoryAndIdIsLessThanOrderByIdDesc(any(Category.class), anyLong(), any(PageRequest.class)))
-                .willReturn(List.of(post1, post2, post3));
+        given(postRepository.findPostsByCategory(anyLong(), anyLong(), anyLong(), anyInt()))
+                .willReturn(posts);
 
-        PostsGetResponse response = postService.getPosts( "test@gmail.com",1L, 5, 10);
+        PostsGetResponse response = postService.getPosts("test@gmail.com", 1L, 2, 10);
 
-        assertEquals(3, response.getPosts().size());
-        assertEquals(post1.getComments().size(), response.getPosts().get(0).getCommentCnt());
-        assertEquals(post1.getHearts().size(), response.getPosts().get(0).getHeartCnt());
-        assertEquals(post1.getTitle(), response.getPosts().get(0).getTitle());
-        assertEquals(post1.getContent(), response.getPosts().get(0).getContent());
-        assertEquals(post1.getPostImages().get(0).getImageUrl(), response.getPosts().get(0).getImageUrl());
-        assertEquals(true, response.getPosts().get(0).isHasHeart());
-        assertEquals(null, response.getPosts().get(2).getImageUrl());
-        assertEquals(false, response.getPosts().get(2).isHasHeart());
+        assertEquals(2, response.getPosts().size());
+        assertEquals(8L, response.getNextCursor());
     }
 
     @Test
@@ -784,6 +935,77 @@ class PostServiceTest {
         assertEquals(PostErrorCode.CATEGORY_NOT_FOUND, exception.getPostErrorCode());
     }
 
+    @Test
+    @DisplayName("타임라인 조회 성공 - 다음 페이지 존재, 지워진 게시물은 빠지고 커서는 유지")
+    void getTimeline_Success_HasNext () {
+
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@gmail.com")
+                .build();
+
+        given(memberRepository.findByEmail(anyString()))
+                .willReturn(Optional.of(member));
+        given(homeTimeline.getPostIds(1L, Long.MAX_VALUE, 3))
+                .willReturn(List.of(9L, 8L, 7L));
+        given(postRepository.findPostsByIds(List.of(9L, 8L), 1L))
+                .willReturn(List.of(PostDetailResponse.builder().postId(9L).title("제목9").build()));
+
+        TimelineGetResponse response = postService.getTimeline("test@gmail.com", 2,
+                Long.MAX_VALUE);
+
+        assertEquals(1, response.getPosts().size());
+        assertEquals(9L, response.getPosts().get(0).getPostId());
+        assertEquals(8L, response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공 - 비어 있으면 게시물을 조회하지 않음")
+    void getTimeline_Success_Empty () {
+
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@gmail.com")
+                .build();
+
+        given(memberRepository.findByEmail(anyString()))
+                .willReturn(Optional.of(member));
+        given(homeTimeline.getPostIds(1L, 5L, 3))
+                .willReturn(List.of());
+
+        TimelineGetResponse response = postService.getTimeline("test@gmail.com", 2, 5L);
+
+        assertEquals(0, response.getPosts().size());
+        assertEquals(-1L, response.getNextCursor());
+        verify(postRepository, never()).findPostsByIds(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공 - 페이지 크기를 [1, MAX_SIZE] 로 맞춤")
+    void getTimeline_Success_ClampedSize () {
+
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@gmail.com")
+                .build();
+
+        given(memberRepository.findByEmail(anyString()))
+                .willReturn(Optional.of(member));
+        given(homeTimeline.getPostIds(1L, 5L, 2))
+                .willReturn(List.of(4L, 3L));
+        given(homeTimeline.getPostIds(1L, 5L, KeysetPage.MAX_SIZE + 1))
+                .willReturn(List.of());
+        given(postRepository.findPostsByIds(List.of(4L), 1L))
+                .willReturn(List.of(PostDetailResponse.builder().postId(4L).build()));
+
+        TimelineGetResponse zero = postService.getTimeline("test@gmail.com", 0, 5L);
+        TimelineGetResponse oversized = postService.getTimeline("test@gmail.com", 10000, 5L);
+
+        assertEquals(1, zero.getPosts().size());
+        assertEquals(4L, zero.getNextCursor());
+        assertEquals(-1L, oversized.getNextCursor());
+    }
+
     @Test
     @DisplayName("게시물 상세 조회 성공")
     void getOnePost_Success () {
@@ -814,6 +1036,7 @@ class PostServiceTest {
                 .postImages(new ArrayList<>())
                 .hearts(new ArrayList<>())
                 .viewCnt(3)
+                .heartCnt(1)
                 .build();
 
         given(postRepository.findById(anyLong()))
@@ -826,9 +1049,12 @@ class PostServiceTest {
 
         post.pushPostHeart(heart);
 
-        given(heartRepository.existsByPostAndMember(post, member))
+        given(heartRepository.existsByPostIdAndMemberId(1L, 1L))
                 .willReturn(true);
 
+        given(postRepository.findPostCountById(1L))
+                .willReturn(Optional.of(new PostCountResponse(3, 1)));
+
         PostImage image1 = PostImage.builder()
                 .isRepresentative(true)
                 .post(post)
@@ -847,15 +1073,66 @@ class PostServiceTest {
         given(postImageRepository.findAllByPost(any(Post.class)))
                 .willReturn(List.of(image1, image2));
 
+        given(viewCountBuffer.getPendingCount(1L))
+                .willReturn(2L);
+
         PostGetOneResponse response = postService.getOnePost(1L, "test123@gmail.com", 1L);
 
+        verify(viewCountBuffer, times(1)).increase(1L, 1L);
+        verify(postDetailCache, times(1)).put(any(CachedPostDetail.class));
+        assertEquals(5, response.getViewCnt());
+
         assertEquals(post.getMember().getNickname(), response.getNickname());
         assertEquals(post.getPostImages().size(), response.getImages().size());
         assertEquals(false, response.isOwner());
-        assertEquals(post.getHearts().size(), response.getHeartCnt());
+        assertEquals(post.getHeartCnt(), response.getHeartCnt());
         assertEquals(true, response.isHasHeart());
     }
 
+    @Test
+    @DisplayName("게시물 상세 조회 성공 - 캐시 적중")
+    void getOnePost_Success_CacheHit () {
+
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@gmail.com")
+                .nickname("닉네임")
+                .build();
+
+        given(memberRepository.findByEmail(anyString()))
+                .willReturn(Optional.of(member));
+
+        given(categoryRepository.existsById(anyLong()))
+                .willReturn(true);
+
+        CachedPostDetail detail = CachedPostDetail.builder()
+                .postId(1L)
+                .title("제목1")
+                .content("내용1")
+                .nickname("작성자")
+                .writerEmail("test@gmail.com")
+                .images(List.of(new PostGetImageUrlResponse(1L, "http://test1")))
+                .build();
+
+        given(postDetailCache.get(1L))
+                .willReturn(Optional.of(detail));
+
+        given(postRepository.findPostCountById(1L))
+                .willReturn(Optional.of(new PostCountResponse(3, 7)));
+
+        PostGetOneResponse response = postService.getOnePost(1L, "test@gmail.com", 1L);
+
+        verify(postRepository, never()).findById(anyLong());
+        verify(postImageRepository, never()).findAllByPost(any(Post.class));
+        assertEquals(detail.getTitle(), response.getTitle());
+        assertEquals(detail.getNickname(), response.getNickname());
+        assertEquals(1, response.getImages().size());
+        assertEquals(3, response.getViewCnt());
+        assertEquals(7, response.getHeartCnt());
+        assertEquals(true, response.isOwner());
+        assertEquals(false, response.isHasHeart());
+    }
+
     @Test
     @DisplayName("게시물 상세 조회 실패 - 게시물 없음")
     void getOnePost_Fail_NoPost () {
@@ -902,4 +1179,11 @@ class PostServiceTest {
 
         assertEquals(PostErrorCode.CATEGORY_NOT_FOUND, exception.getPostErrorCode());
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    private void givenTransaction() {
+        given(transactionTemplate.execute(any())).willAnswer(
+            invocation -> ((TransactionCallback<Object>) invocation.getArgument(0))
+                .doInTransaction(null));
+    }
+}
@@ -0,0 +1,184 @@
+package com.gaethering.gaetheringserver.domain.board.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
+import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import com.gaethering.gaetheringserver.domain.member.repository.follow.FollowRepository;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class HomeTimelineTest {
+
+    private static final int MAX_SIZE = 3;
+    private static final long FAN_OUT_THRESHOLD = 100;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private PostRepository postRepository;
+
+    private HomeTimeline homeTimeline;
+
+    @BeforeEach
+    void setUp() {
+        homeTimeline = new HomeTimeline(redisTemplate, followRepository, postRepository,
+            MAX_SIZE, FAN_OUT_THRESHOLD, 2, Duration.ofDays(7), 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        homeTimeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 회원의 게시물은 팔로워 타임라인에 넣지 않음")
+    void fanOut_skipsLargeAccount() {
+        Member author = Member.builder().id(1L).followerCnt(FAN_OUT_THRESHOLD).build();
+
+        homeTimeline.fanOut(author, 10L);
+
+        verify(followRepository, never()).findFollowers(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("fan-out 큐가 가득 차면 호출한 스레드에서 실행하지 않고 버림")
+    void fanOut_discardsWhenQueueIsFull() throws InterruptedException {
+        Member author = Member.builder().id(1L).followerCnt(1).build();
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        given(followRepository.findFollowers(anyLong(), anyLong(), anyInt())).willAnswer(
+            invocation -> {
+                threads.add(Thread.currentThread().getName());
+                release.await();
+                return List.of();
+            });
+
+        for (long postId = 1; postId <= 12; postId++) {
+            homeTimeline.fanOut(author, postId);
+        }
+        release.countDown();
+
+        verify(followRepository, timeout(1000).times(11))
+            .findFollowers(anyLong(), anyLong(), anyInt());
+        assertThat(threads).containsExactly("timeline-fan-out-1");
+    }
+
+    @Test
+    @DisplayName("팔로워를 batch 단위로 읽어 batch 마다 한 번씩 타임라인에 넣음")
+    @SuppressWarnings("unchecked")
+    void fanOutNow_pagesFollowers() {
+        given(followRepository.findFollowers(1L, Long.MAX_VALUE, 2))
+            .willReturn(List.of(follower(30L, 4L), follower(20L, 3L)));
+        given(followRepository.findFollowers(1L, 20L, 2))
+            .willReturn(List.of(follower(10L, 2L)));
+
+        homeTimeline.fanOutNow(1L, 10L);
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(2)).execute(
+            any(RedisScript.class), keys.capture(), eq("10"), eq(String.valueOf(MAX_SIZE)));
+        assertThat(keys.getAllValues()).containsExactly(
+            List.of("timeline:home:4", "timeline:home:3"),
+            List.of("timeline:home:2"));
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 DB 에서 다시 만들고, 잘리지 않았으면 완료 표시를 넣음")
+    @SuppressWarnings("unchecked")
+    void getPostIds_rebuildsMissingTimeline() {
+        given(redisTemplate.hasKey("timeline:home:1")).willReturn(false);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(postRepository.findFolloweePostIds(1L, Long.MAX_VALUE, FAN_OUT_THRESHOLD,
+            MAX_SIZE)).willReturn(List.of(9L, 8L));
+        given(zSetOperations.reverseRangeByScore(eq("timeline:home:1"), eq(1d), anyDouble(),
+            eq(0L), eq(2L))).willReturn(orderedSet("9", "8"));
+        given(followRepository.findFolloweeIds(1L, FAN_OUT_THRESHOLD)).willReturn(List.of());
+
+        List<Long> postIds = homeTimeline.getPostIds(1L, Long.MAX_VALUE, 2);
+
+        ArgumentCaptor<Set<TypedTuple<String>>> tuples = ArgumentCaptor.forClass(Set.class);
+        verify(zSetOperations).add(eq("timeline:home:1"), tuples.capture());
+        assertThat(tuples.getValue().stream().map(TypedTuple::getValue)
+            .collect(Collectors.toSet())).containsExactlyInAnyOrder("9", "8", "0");
+        assertThat(postIds).containsExactly(9L, 8L);
+    }
+
+    @Test
+    @DisplayName("잘린 타임라인의 끝을 넘어가면 나머지를 DB 에서 이어 읽음")
+    void getPostIds_continuesFromDatabase() {
+        given(redisTemplate.hasKey("timeline:home:1")).willReturn(true);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore(eq("timeline:home:1"), eq(1d), anyDouble(),
+            eq(0L), eq(3L))).willReturn(orderedSet("7"));
+        given(zSetOperations.score("timeline:home:1", "0")).willReturn(null);
+        given(postRepository.findFolloweePostIds(1L, 7L, FAN_OUT_THRESHOLD, 2))
+            .willReturn(List.of(5L, 4L));
+        given(followRepository.findFolloweeIds(1L, FAN_OUT_THRESHOLD)).willReturn(List.of());
+
+        List<Long> postIds = homeTimeline.getPostIds(1L, 8L, 3);
+
+        assertThat(postIds).containsExactly(7L, 5L, 4L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 에서 읽고, 팔로워가 많은 회원의 게시물과 최신순으로 합침")
+    void getPostIds_redisFailureMergesLargeAccounts() {
+        given(redisTemplate.hasKey(anyString()))
+            .willThrow(new RedisConnectionFailureException("down"));
+        given(postRepository.findFolloweePostIds(1L, Long.MAX_VALUE, FAN_OUT_THRESHOLD, 3))
+            .willReturn(List.of(9L, 5L, 3L));
+        given(followRepository.findFolloweeIds(1L, FAN_OUT_THRESHOLD)).willReturn(List.of(7L));
+        given(postRepository.findPostIdsByMemberIds(List.of(7L), Long.MAX_VALUE, 3))
+            .willReturn(List.of(8L, 6L, 1L));
+
+        List<Long> postIds = homeTimeline.getPostIds(1L, Long.MAX_VALUE, 3);
+
+        assertThat(postIds).containsExactly(9L, 8L, 6L);
+        verify(zSetOperations, never()).add(anyString(), anySet());
+    }
+
+    private static FollowResponse follower(Long followId, Long memberId) {
+        return FollowResponse.builder().followId(followId).id(memberId).build();
+    }
+
+    private static Set<String> orderedSet(String... members) {
+        return new LinkedHashSet<>(List.of(members));
+    }
+}
@@ -0,0 +1,81 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class ChatMessageCodecTest {
+
+    private final ChatMessageCodec codec = new ChatMessageCodec(Jackson2ObjectMapperBuilder.json());
+
+    private final ChatMessageResponse response = new ChatMessageResponse(10L, 1L,
+        "산책 가실 분 계신가요?", LocalDateTime.of(2022, 12, 24, 10, 30));
+
+    @Test
+    public void cborRoundTripIsSmallerThanJson() {
+        //when
+        byte[] json = codec.encode(response, ChatWireFormat.JSON);
+        byte[] cbor = codec.encode(response, ChatWireFormat.CBOR);
+        ChatMessageResponse decoded = codec.decode(cbor, ChatWireFormat.CBOR,
+            ChatMessageResponse.class);
+
+        //then
+        assertThat(cbor.length).isLessThan(json.length);
+        assertThat(decoded.getMessageId()).isEqualTo(10L);
+        assertThat(decoded.getMemberId()).isEqualTo(1L);
+        assertThat(decoded.getContent()).isEqualTo("산책 가실 분 계신가요?");
+        assertThat(decoded.getCreatedAt()).isEqualTo(response.getCreatedAt());
+    }
+
+    @Test
+    public void jsonKeepsEpochMillisTimestamps() {
+        //when
+        String json = new String(codec.encode(response, ChatWireFormat.JSON),
+            StandardCharsets.UTF_8);
+
+        //then
+        assertThat(json).contains("\"createdAt\":" + response.getCreatedAt().getTime());
+    }
+
+    @Test
+    public void transcodeCborToJson() {
+        //given
+        byte[] cbor = codec.encode(response, ChatWireFormat.CBOR);
+
+        //when
+        byte[] json = codec.transcode(cbor, ChatWireFormat.CBOR, ChatWireFormat.JSON);
+
+        //then
+        assertThat(json).isEqualTo(codec.encode(response, ChatWireFormat.JSON));
+        assertThat(codec.transcode(json, ChatWireFormat.JSON, ChatWireFormat.JSON)).isSameAs(json);
+    }
+
+    @Test
+    public void cborMessageConverterRoundTrip() {
+        //given
+        Jackson2CborMessageConverter converter = new Jackson2CborMessageConverter(
+            codec.getObjectMapper(ChatWireFormat.CBOR));
+
+        //when
+        Message message = converter.toMessage(response, new MessageProperties());
+        Object converted = converter.fromMessage(message);
+
+        //then
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo("application/cbor");
+        assertThat(ChatWireFormat.of(message.getMessageProperties().getContentType()))
+            .isEqualTo(ChatWireFormat.CBOR);
+        assertThat(message.getBody().length).isLessThan(
+            new Jackson2JsonMessageConverter(codec.getObjectMapper(ChatWireFormat.JSON))
+                .toMessage(response, new MessageProperties()).getBody().length);
+        assertThat(converted).isInstanceOf(ChatMessageResponse.class);
+        assertThat(((ChatMessageResponse) converted).getContent())
+            .isEqualTo("산책 가실 분 계신가요?");
+    }
+}
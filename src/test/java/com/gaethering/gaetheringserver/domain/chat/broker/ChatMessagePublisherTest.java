@@ -0,0 +1,219 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessagePublisher.ConfirmMode;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessagePublisher.PendingPublish;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.core.RabbitTemplate.ReturnsCallback;
+
+class ChatMessagePublisherTest {
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final RabbitOperations operations = mock(RabbitOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatMessagePublisher publisher;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        publisher.shutdown();
+    }
+
+    @Test
+    public void publishWithoutConfirm() {
+        //given
+        publisher = publisher(ConfirmMode.NONE);
+
+        //when
+        publisher.publish("roomKey", "payload");
+
+        //then
+        verify(rabbitTemplate).convertAndSend("chat.exchange", "room.roomKey", "payload");
+        verify(rabbitTemplate, never()).invoke(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void publishBatchWaitsForConfirmOnce() {
+        //given
+        publisher = publisher(ConfirmMode.BATCH);
+        given(rabbitTemplate.invoke(any(OperationsCallback.class))).willAnswer(
+            invocation -> ((OperationsCallback<Object>) invocation.getArgument(0))
+                .doInRabbit(operations));
+
+        //when
+        publisher.publishBatch(List.of(new PendingPublish("room.a", "1"),
+            new PendingPublish("room.b", "2")));
+
+        //then
+        verify(operations).convertAndSend("chat.exchange", "room.a", "1");
+        verify(operations).convertAndSend("chat.exchange", "room.b", "2");
+        verify(operations).waitForConfirmsOrDie(1000L);
+        assertThat(meterRegistry.counter("chat.publisher.confirmed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void publishInBatchModeIsConfirmedInBackground() {
+        //given
+        publisher = publisher(ConfirmMode.BATCH);
+        given(rabbitTemplate.invoke(any(OperationsCallback.class))).willAnswer(
+            invocation -> ((OperationsCallback<Object>) invocation.getArgument(0))
+                .doInRabbit(operations));
+
+        //when
+        publisher.publish("roomKey", "payload");
+
+        //then
+        verify(operations, timeout(1000)).convertAndSend("chat.exchange", "room.roomKey",
+            "payload");
+        verify(operations, timeout(1000)).waitForConfirmsOrDie(anyLong());
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class),
+            any(Object.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void failedConfirmIsCounted() {
+        //given
+        publisher = publisher(ConfirmMode.BATCH);
+        given(rabbitTemplate.invoke(any(OperationsCallback.class))).willAnswer(
+            invocation -> ((OperationsCallback<Object>) invocation.getArgument(0))
+                .doInRabbit(operations));
+        willThrow(new AmqpTimeoutException("timeout"))
+            .given(operations).waitForConfirmsOrDie(anyLong());
+
+        //when
+        publisher.publishBatch(List.of(new PendingPublish("room.a", "1")));
+
+        //then
+        verify(operations, times(3)).waitForConfirmsOrDie(anyLong());
+        assertThat(meterRegistry.counter("chat.publisher.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.publisher.confirmed").count()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void failedBatchIsRetried() {
+        //given
+        publisher = publisher(ConfirmMode.BATCH);
+        given(rabbitTemplate.invoke(any(OperationsCallback.class))).willAnswer(
+            invocation -> ((OperationsCallback<Object>) invocation.getArgument(0))
+                .doInRabbit(operations));
+        willThrow(new AmqpTimeoutException("timeout"))
+            .willDoNothing()
+            .given(operations).waitForConfirmsOrDie(anyLong());
+
+        //when
+        publisher.publishBatch(List.of(new PendingPublish("room.a", "1"),
+            new PendingPublish("room.b", "2")));
+
+        //then
+        verify(operations, times(2)).convertAndSend("chat.exchange", "room.a", "1");
+        assertThat(meterRegistry.counter("chat.publisher.confirmed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.publisher.failed").count()).isZero();
+    }
+
+    @Test
+    public void publishCorrelatedRecordsLatencyOnConfirm() {
+        //given
+        publisher = publisher(ConfirmMode.CORRELATED);
+        ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+
+        //when
+        publisher.publish("roomKey", "payload");
+
+        //then
+        verify(rabbitTemplate).convertAndSend(eq("chat.exchange"), eq("room.roomKey"),
+            eq("payload"), captor.capture());
+        assertThat(meterRegistry.get("chat.publisher.unconfirmed").gauge().value()).isEqualTo(1);
+
+        //when
+        captor.getValue().getFuture().set(new Confirm(true, null));
+
+        //then
+        assertThat(meterRegistry.get("chat.publisher.unconfirmed").gauge().value()).isZero();
+        assertThat(meterRegistry.counter("chat.publisher.confirmed").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("chat.publisher.latency").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void publishCorrelatedCountsNack() {
+        //given
+        publisher = publisher(ConfirmMode.CORRELATED);
+        ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+        publisher.publish("roomKey", "payload");
+        verify(rabbitTemplate).convertAndSend(eq("chat.exchange"), eq("room.roomKey"),
+            eq("payload"), captor.capture());
+
+        //when
+        captor.getValue().getFuture().set(new Confirm(false, "nack"));
+
+        //then
+        assertThat(meterRegistry.get("chat.publisher.unconfirmed").gauge().value()).isZero();
+        assertThat(meterRegistry.counter("chat.publisher.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.publisher.confirmed").count()).isZero();
+    }
+
+    @Test
+    public void publishCorrelatedSendFailureIsCountedOnce() {
+        //given
+        publisher = publisher(ConfirmMode.CORRELATED);
+        willThrow(new AmqpConnectException(new RuntimeException("down")))
+            .given(rabbitTemplate).convertAndSend(any(String.class), any(String.class),
+                any(Object.class), any(CorrelationData.class));
+
+        //when
+        assertThrows(AmqpConnectException.class, () -> publisher.publish("roomKey", "payload"));
+
+        //then
+        assertThat(meterRegistry.get("chat.publisher.unconfirmed").gauge().value()).isZero();
+        assertThat(meterRegistry.counter("chat.publisher.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void returnedMessageIsCounted() {
+        //given
+        publisher = publisher(ConfirmMode.CORRELATED);
+        ArgumentCaptor<ReturnsCallback> captor = ArgumentCaptor.forClass(ReturnsCallback.class);
+        verify(rabbitTemplate).setReturnsCallback(captor.capture());
+
+        //when
+        captor.getValue().returnedMessage(new ReturnedMessage(
+            new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE",
+            "chat.exchange", "room.roomKey"));
+
+        //then
+        assertThat(meterRegistry.counter("chat.publisher.returned").count()).isEqualTo(1);
+    }
+
+    private ChatMessagePublisher publisher(ConfirmMode confirmMode) {
+        return new ChatMessagePublisher(rabbitTemplate, meterRegistry, confirmMode, 10, 100,
+            1000L);
+    }
+}
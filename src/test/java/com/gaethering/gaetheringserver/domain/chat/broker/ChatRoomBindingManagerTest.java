@@ -0,0 +1,202 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gaethering.gaetheringserver.config.RabbitConfig;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+class ChatRoomBindingManagerTest {
+
+    private AmqpAdmin amqpAdmin;
+    private ConnectionFactory connectionFactory;
+    private Queue queue;
+    private ChatRoomBindingManager bindingManager;
+
+    @BeforeEach
+    public void setUp() {
+        amqpAdmin = mock(AmqpAdmin.class);
+        connectionFactory = mock(ConnectionFactory.class);
+        queue = new Queue("chat.node.test", false, true, true);
+        bindingManager = new ChatRoomBindingManager(amqpAdmin, queue,
+            new TopicExchange(RabbitConfig.CHAT_EXCHANGE_NAME), connectionFactory);
+    }
+
+    @Test
+    public void firstSubscriberBindsRoom() {
+        //when
+        bindingManager.subscribe("session1", "sub1", "roomA");
+        bindingManager.subscribe("session2", "sub1", "roomA");
+
+        //then
+        ArgumentCaptor<Binding> captor = ArgumentCaptor.forClass(Binding.class);
+        verify(amqpAdmin, times(1)).declareBinding(captor.capture());
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo("room.roomA");
+        assertThat(captor.getValue().getDestination()).isEqualTo("chat.node.test");
+        assertThat(captor.getValue().getExchange()).isEqualTo("chat.exchange");
+        assertThat(bindingManager.getBoundRoomKeys()).containsExactly("roomA");
+    }
+
+    @Test
+    public void lastUnsubscribeUnbindsRoom() {
+        //given
+        bindingManager.subscribe("session1", "sub1", "roomA");
+        bindingManager.subscribe("session2", "sub1", "roomA");
+
+        //when
+        bindingManager.unsubscribe("session1", "sub1");
+
+        //then
+        verify(amqpAdmin, never()).removeBinding(any());
+
+        //when
+        bindingManager.unsubscribe("session2", "sub1");
+
+        //then
+        ArgumentCaptor<Binding> captor = ArgumentCaptor.forClass(Binding.class);
+        verify(amqpAdmin).removeBinding(captor.capture());
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo("room.roomA");
+        assertThat(bindingManager.getBoundRoomKeys()).isEmpty();
+    }
+
+    @Test
+    public void disconnectReleasesAllSubscriptionsOfSession() {
+        //given
+        bindingManager.subscribe("session1", "sub1", "roomA");
+        bindingManager.subscribe("session1", "sub2", "roomB");
+        bindingManager.subscribe("session2", "sub1", "roomB");
+
+        //when
+        bindingManager.disconnect("session1");
+
+        //then
+        ArgumentCaptor<Binding> captor = ArgumentCaptor.forClass(Binding.class);
+        verify(amqpAdmin).removeBinding(captor.capture());
+        assertThat(captor.getValue().getRoutingKey()).isEqualTo("room.roomA");
+        assertThat(bindingManager.getBoundRoomKeys()).containsExactly("roomB");
+    }
+
+    @Test
+    public void unknownUnsubscribeIsIgnored() {
+        //when
+        bindingManager.unsubscribe("session1", "sub1");
+        bindingManager.disconnect("session1");
+
+        //then
+        verify(amqpAdmin, never()).removeBinding(any());
+    }
+
+    @Test
+    public void subscribeEventBindsOnlyRoomDestinations() {
+        //when
+        bindingManager.onSubscribe(subscribeEvent("session1", "sub1",
+            RabbitConfig.ROOM_DESTINATION_PREFIX + "0f8e-4a2c"));
+        bindingManager.onSubscribe(subscribeEvent("session1", "sub2", "/topic/notice"));
+        bindingManager.onSubscribe(subscribeEvent("session1", "sub3",
+            RabbitConfig.ROOM_DESTINATION_PREFIX + "#"));
+
+        //then
+        assertThat(bindingManager.getBoundRoomKeys()).containsExactly("0f8e-4a2c");
+        verify(amqpAdmin, times(1)).declareBinding(any());
+    }
+
+    @Test
+    public void failedBindIsRetriedOnReconnect() {
+        //given
+        willThrow(new AmqpConnectException(new RuntimeException("down")))
+            .willDoNothing()
+            .given(amqpAdmin).declareBinding(any());
+        bindingManager.subscribe("session1", "sub1", "roomA");
+        ArgumentCaptor<ConnectionListener> listener =
+            ArgumentCaptor.forClass(ConnectionListener.class);
+        verify(connectionFactory).addConnectionListener(listener.capture());
+
+        //when
+        listener.getValue().onCreate(mock(Connection.class));
+
+        //then
+        verify(amqpAdmin, timeout(1000)).declareQueue(queue);
+        verify(amqpAdmin, timeout(1000).times(2)).declareBinding(any());
+        assertThat(bindingManager.getBoundRoomKeys()).containsExactly("roomA");
+    }
+
+    @Test
+    public void rebindRunsOutsideConnectionListener() {
+        //given
+        bindingManager.subscribe("session1", "sub1", "roomA");
+        AtomicReference<String> rebindThread = new AtomicReference<>();
+        willAnswer(invocation -> {
+            rebindThread.set(Thread.currentThread().getName());
+            return null;
+        }).given(amqpAdmin).declareQueue(any());
+        ArgumentCaptor<ConnectionListener> listener =
+            ArgumentCaptor.forClass(ConnectionListener.class);
+        verify(connectionFactory).addConnectionListener(listener.capture());
+
+        //when
+        listener.getValue().onCreate(mock(Connection.class));
+
+        //then
+        verify(amqpAdmin, timeout(1000)).declareQueue(queue);
+        assertThat(rebindThread.get()).isEqualTo("chat-room-rebind");
+    }
+
+    @Test
+    public void brokerIsCalledWithoutHoldingSubscriptionLock() {
+        //given
+        AtomicBoolean heldLock = new AtomicBoolean();
+        willAnswer(invocation -> {
+            heldLock.compareAndSet(false, Thread.holdsLock(bindingManager));
+            return null;
+        }).given(amqpAdmin).declareBinding(any());
+        willAnswer(invocation -> {
+            heldLock.compareAndSet(false, Thread.holdsLock(bindingManager));
+            return true;
+        }).given(amqpAdmin).removeBinding(any());
+
+        //when
+        bindingManager.subscribe("session1", "sub1", "roomA");
+        bindingManager.unsubscribe("session1", "sub1");
+
+        //then
+        verify(amqpAdmin).declareBinding(any());
+        verify(amqpAdmin).removeBinding(any());
+        assertThat(heldLock).isFalse();
+    }
+
+    private static SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId,
+        String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0],
+            accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(List.of(), message);
+    }
+}
@@ -0,0 +1,71 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMessageRelayTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private ChatRoomMessageRelay relay;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void relayToLocalSubscribers() {
+        //given
+        byte[] body = "{\"content\":\"hi\"}".getBytes(StandardCharsets.UTF_8);
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedRoutingKey("room.roomKey");
+
+        //when
+        relay.onMessage(new Message(body, properties));
+
+        //then
+        ArgumentCaptor<org.springframework.messaging.Message<byte[]>> captor =
+            ArgumentCaptor.forClass(org.springframework.messaging.Message.class);
+        verify(messagingTemplate).send(eq("/exchange/chat.exchange/room.roomKey"),
+            captor.capture());
+        assertThat(captor.getValue().getPayload()).isEqualTo(body);
+        assertThat(SimpMessageHeaderAccessor.wrap(captor.getValue()).getContentType())
+            .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void relayKeepsBrokerContentType() {
+        //given
+        byte[] body = {(byte) 0xa1, 0x61, 0x61, 0x01};
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedRoutingKey("room.roomKey");
+        properties.setContentType("application/cbor");
+
+        //when
+        relay.onMessage(new Message(body, properties));
+
+        //then
+        ArgumentCaptor<org.springframework.messaging.Message<byte[]>> captor =
+            ArgumentCaptor.forClass(org.springframework.messaging.Message.class);
+        verify(messagingTemplate).send(eq("/exchange/chat.exchange/room.roomKey"),
+            captor.capture());
+        assertThat(captor.getValue().getPayload()).isSameAs(body);
+        assertThat(SimpMessageHeaderAccessor.wrap(captor.getValue()).getContentType())
+            .isEqualTo(ChatWireFormat.CBOR.getContentType());
+    }
+}
@@ -0,0 +1,144 @@
+package com.gaethering.gaetheringserver.domain.chat.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gaethering.gaetheringserver.config.RabbitConfig;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+class ChatWireFormatNegotiatorTest {
+
+    private static final String DESTINATION = RabbitConfig.ROOM_DESTINATION_PREFIX + "roomKey";
+
+    private final ChatMessageCodec codec = new ChatMessageCodec(Jackson2ObjectMapperBuilder.json());
+    private final ChatWireFormatNegotiator negotiator = new ChatWireFormatNegotiator(codec);
+    private final ChatMessageResponse response = new ChatMessageResponse(10L, 1L, "hi",
+        LocalDateTime.of(2022, 12, 24, 10, 30));
+
+    @Test
+    public void webSocketSessionAcceptingCborReceivesBinaryFrame() {
+        //given
+        negotiator.onConnect(connectEvent("session1", "application/cbor, application/json", true));
+        byte[] json = codec.encode(response, ChatWireFormat.JSON);
+
+        //when
+        Message<?> sent = negotiator.preSend(
+            roomMessage("session1", json, MimeTypeUtils.APPLICATION_JSON), null);
+
+        //then
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(sent);
+        assertThat(negotiator.getFormat("session1")).isEqualTo(ChatWireFormat.CBOR);
+        assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(accessor.getFirstNativeHeader(ChatWireFormatNegotiator.WIRE_FORMAT_HEADER))
+            .isEqualTo("cbor");
+        assertThat((byte[]) sent.getPayload()).isEqualTo(codec.encode(response,
+            ChatWireFormat.CBOR));
+    }
+
+    @Test
+    public void sockJsSessionStaysOnJson() {
+        //given
+        negotiator.onConnect(connectEvent("session1", "application/cbor", false));
+        Message<byte[]> message = roomMessage("session1", codec.encode(response,
+            ChatWireFormat.JSON), MimeTypeUtils.APPLICATION_JSON);
+
+        //when
+        Message<?> sent = negotiator.preSend(message, null);
+
+        //then
+        assertThat(negotiator.getFormat("session1")).isEqualTo(ChatWireFormat.JSON);
+        assertThat(sent).isSameAs(message);
+    }
+
+    @Test
+    public void cborFromBrokerIsTranscodedOnceForJsonSessions() {
+        //given
+        byte[] cbor = codec.encode(response, ChatWireFormat.CBOR);
+
+        //when
+        Message<?> first = negotiator.preSend(
+            roomMessage("session1", cbor, ChatWireFormat.CBOR.getContentType()), null);
+        Message<?> second = negotiator.preSend(
+            roomMessage("session2", cbor, ChatWireFormat.CBOR.getContentType()), null);
+
+        //then
+        assertThat(SimpMessageHeaderAccessor.wrap(first).getContentType())
+            .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat((byte[]) first.getPayload()).isEqualTo(codec.encode(response,
+            ChatWireFormat.JSON));
+        assertThat(second.getPayload()).isSameAs(first.getPayload());
+    }
+
+    @Test
+    public void disconnectForgetsNegotiatedFormat() {
+        //given
+        negotiator.onConnect(connectEvent("session1", "application/cbor", true));
+
+        //when
+        negotiator.onDisconnect(new SessionDisconnectEvent(this,
+            MessageBuilder.createMessage(new byte[0], new MessageHeaders(null)), "session1",
+            CloseStatus.NORMAL));
+
+        //then
+        assertThat(negotiator.getFormat("session1")).isEqualTo(ChatWireFormat.JSON);
+    }
+
+    @Test
+    public void otherDestinationsAreNotTouched() {
+        //given
+        negotiator.onConnect(connectEvent("session1", "application/cbor", true));
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+            SimpMessageType.MESSAGE);
+        accessor.setSessionId("session1");
+        accessor.setDestination("/topic/notice");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[]{'{', '}'},
+            accessor.getMessageHeaders());
+
+        //when
+        Message<?> sent = negotiator.preSend(message, null);
+
+        //then
+        assertThat(sent).isSameAs(message);
+    }
+
+    private static SessionConnectEvent connectEvent(String sessionId, String acceptContent,
+        boolean binaryFrames) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setNativeHeader(ChatWireFormatNegotiator.ACCEPT_CONTENT_HEADER, acceptContent);
+        Map<String, Object> attributes = new HashMap<>();
+        if (binaryFrames) {
+            attributes.put(ChatWireFormatNegotiator.BINARY_FRAMES_ATTRIBUTE, Boolean.TRUE);
+        }
+        accessor.setSessionAttributes(attributes);
+        return new SessionConnectEvent(List.of(),
+            MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private static Message<byte[]> roomMessage(String sessionId, byte[] payload,
+        MimeType contentType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+            SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(contentType);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,80 @@
+package com.gaethering.gaetheringserver.domain.chat.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageWriteBufferTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageWriteBuffer writeBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writeBuffer = new ChatMessageWriteBuffer(3, meterRegistry);
+    }
+
+    @Test
+    void offer_rejectsWhenFull() {
+        //given
+        for (long id = 1; id <= 3; id++) {
+            writeBuffer.offer(message(id));
+        }
+
+        //when
+        boolean accepted = writeBuffer.offer(message(4L));
+
+        //then
+        assertThat(accepted).isFalse();
+        assertThat(writeBuffer.size()).isEqualTo(3);
+        assertThat(meterRegistry.counter("chat.message.buffer.rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.message.buffer.size").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void drain_keepsOrderAndLimit() {
+        //given
+        for (long id = 1; id <= 3; id++) {
+            writeBuffer.offer(message(id));
+        }
+
+        //when
+        List<PendingChatMessage> first = writeBuffer.drain(2);
+        List<PendingChatMessage> second = writeBuffer.drain(2);
+
+        //then
+        assertThat(first).extracting(PendingChatMessage::getId).containsExactly(1L, 2L);
+        assertThat(second).extracting(PendingChatMessage::getId).containsExactly(3L);
+        assertThat(writeBuffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void restore_countsDroppedMessages() {
+        //given
+        writeBuffer.offer(message(1L));
+        writeBuffer.offer(message(2L));
+
+        //when
+        int dropped = writeBuffer.restore(List.of(message(3L), message(4L)));
+
+        //then
+        assertThat(dropped).isEqualTo(1);
+        assertThat(writeBuffer.size()).isEqualTo(3);
+        assertThat(meterRegistry.counter("chat.message.buffer.dropped").count()).isEqualTo(1);
+    }
+
+    private static PendingChatMessage message(long id) {
+        return PendingChatMessage.builder()
+            .id(id)
+            .chatRoomId(1L)
+            .memberId(1L)
+            .content("content" + id)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
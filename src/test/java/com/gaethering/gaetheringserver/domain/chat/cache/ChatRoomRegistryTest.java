@@ -0,0 +1,136 @@
+package com.gaethering.gaetheringserver.domain.chat.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomParticipant;
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomMemberRepository;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ChatRoomRegistryTest {
+
+    private static final String ROOM_KEY = "roomKey";
+
+    private ChatRoomRepository chatRoomRepository;
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+    private StringRedisTemplate redisTemplate;
+    private ChatRoomRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        chatRoomMemberRepository = mock(ChatRoomMemberRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        registry = new ChatRoomRegistry(chatRoomRepository, chatRoomMemberRepository,
+            redisTemplate, mock(RedisMessageListenerContainer.class), 100, Duration.ofMinutes(5));
+
+        ChatRoom chatRoom = ChatRoom.builder().id(1L).roomKey(ROOM_KEY)
+            .maxParticipantCount(2).build();
+        given(chatRoomRepository.findByRoomKey(ROOM_KEY)).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberRepository.findParticipantsByChatRoomId(1L))
+            .willReturn(List.of(new ChatRoomParticipant(10L, "닉네임")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_loadsOnceAndServesFromMemory() {
+        //when
+        ChatRoomEntry first = registry.get(ROOM_KEY).orElseThrow();
+        ChatRoomEntry second = registry.get(ROOM_KEY).orElseThrow();
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getRoomId()).isEqualTo(1L);
+        assertThat(first.isParticipant(10L)).isTrue();
+        assertThat(first.getNickname(10L)).isEqualTo("닉네임");
+        assertThat(first.isFull()).isFalse();
+        verify(chatRoomRepository, times(1)).findByRoomKey(ROOM_KEY);
+    }
+
+    @Test
+    void get_unknownRoomIsNotCached() {
+        //given
+        given(chatRoomRepository.findByRoomKey("unknown")).willReturn(Optional.empty());
+
+        //when
+        registry.get("unknown");
+        Optional<ChatRoomEntry> result = registry.get("unknown");
+
+        //then
+        assertThat(result).isEmpty();
+        verify(chatRoomRepository, times(2)).findByRoomKey("unknown");
+    }
+
+    @Test
+    void invalidate_reloadsAndBroadcasts() {
+        //given
+        registry.get(ROOM_KEY);
+
+        //when
+        registry.invalidate(ROOM_KEY);
+        registry.get(ROOM_KEY);
+
+        //then
+        verify(chatRoomRepository, times(2)).findByRoomKey(ROOM_KEY);
+        verify(redisTemplate).convertAndSend(ChatRoomRegistry.CHANNEL, ROOM_KEY);
+    }
+
+    @Test
+    void invalidate_waitsForCommit() {
+        //given
+        registry.get(ROOM_KEY);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        registry.invalidate(ROOM_KEY);
+        registry.get(ROOM_KEY);
+
+        //then
+        verify(chatRoomRepository, times(1)).findByRoomKey(ROOM_KEY);
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        registry.get(ROOM_KEY);
+        verify(chatRoomRepository, times(2)).findByRoomKey(ROOM_KEY);
+    }
+
+    @Test
+    void onMessage_invalidatesLocalEntry() {
+        //given
+        registry.get(ROOM_KEY);
+
+        //when
+        registry.onMessage(new DefaultMessage(
+            ChatRoomRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            ROOM_KEY.getBytes(StandardCharsets.UTF_8)), null);
+        registry.get(ROOM_KEY);
+
+        //then
+        verify(chatRoomRepository, times(2)).findByRoomKey(ROOM_KEY);
+    }
+}
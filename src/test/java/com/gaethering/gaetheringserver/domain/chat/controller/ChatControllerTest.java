@@ -1,11 +1,14 @@
 package com.gaethering.gaetheringserver.domain.chat.controller;
 
 import static com.gaethering.gaetheringserver.domain.chat.exception.errorcode.ChatErrorCode.CHAT_ROOM_NOT_FOUND;
+import static com.gaethering.gaetheringserver.domain.chat.exception.errorcode.ChatErrorCode.INVALID_LOCATION;
 import static com.gaethering.gaetheringserver.domain.member.exception.errorcode.MemberErrorCode.MEMBER_NOT_FOUND;
 import static com.gaethering.gaetheringserver.domain.pet.exception.errorcode.PetErrorCode.REPRESENTATIVE_PET_NOT_FOUND;
 import static com.gaethering.gaetheringserver.member.util.ApiDocumentUtils.getDocumentRequest;
 import static com.gaethering.gaetheringserver.member.util.ApiDocumentUtils.getDocumentResponse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -19,6 +22,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -26,18 +30,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gaethering.gaetheringserver.config.SecurityConfig;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatHistoryResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListInfo;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomMemberInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomSearchCondition;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomRequest;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.WalkingTimeInfo;
 import com.gaethering.gaetheringserver.domain.chat.exception.ChatRoomNotFoundException;
+import com.gaethering.gaetheringserver.domain.chat.exception.InvalidLocationException;
 import com.gaethering.gaetheringserver.domain.chat.service.ChatService;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.jwt.JwtAuthenticationFilter;
 import com.gaethering.gaetheringserver.domain.pet.exception.RepresentativePetNotFoundException;
-import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -260,45 +268,73 @@ class ChatControllerTest {
     }
 
     @Test
-    public void getChatHistorySuccess() {
+    @WithMockUser
+    public void getChatHistorySuccess() throws Exception {
         //given
+        List<ChatMessageResponse> messageResponses = new ArrayList<>();
+        for (long i = 3; i >= 1; i--) {
+            messageResponses.add(new ChatMessageResponse(i, i, "content" + i, LocalDateTime.now()));
+        }
+        given(chatService.getChatHistory(anyString(), anyInt(), anyLong()))
+            .willReturn(ChatHistoryResponse.builder()
+                .messages(messageResponses)
+                .nextCursor(1L)
+                .build());
 
         //when
-
         //then
+        mockMvc.perform(get("/api/chat/room/{roomKey}/history", 1)
+                .pathInfo("/api/chat/room/{roomKey}/history")
+                .param("size", "3")
+                .param("lastMessageId", "4")
+                .contentType(APPLICATION_JSON)
+                .header("Authorization", "accessToken"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.messages[0].messageId").value(3))
+            .andExpect(jsonPath("$.messages[0].memberId").value(String.valueOf(messageResponses.get(0).getMemberId())))
+            .andExpect(jsonPath("$.messages[1].memberId").value(String.valueOf(messageResponses.get(1).getMemberId())))
+            .andExpect(jsonPath("$.messages[2].memberId").value(String.valueOf(messageResponses.get(2).getMemberId())))
+            .andExpect(jsonPath("$.nextCursor").value(1))
 
+            .andDo(print())
+            .andDo(document("chat/get-chat-history/success",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                pathParameters(parameterWithName("roomKey").description("조회할 채팅방 키값")),
+                requestParameters(
+                    parameterWithName("size").description("한 번에 가져올 메시지 수"),
+                    parameterWithName("lastMessageId").description("이전 조회의 마지막 메시지 id (첫 조회 시 Long 최댓값)")),
+                requestHeaders(
+                    headerWithName("Authorization").description("Access Token"))
+            ));
     }
 
     @Test
     @WithMockUser
     public void getChatHistoryChatRoomNotFoundFailure() throws Exception {
         //given
-        List<ChatMessageResponse> messageResponses = new ArrayList<>();
-        for (int i = 1; i <= 3; i++) {
-            ChatMessageResponse messageResponse = ChatMessageResponse.builder().memberId((long) i)
-                .content("content" + i)
-                .createdAt(Timestamp.valueOf(LocalDateTime.now())).build();
-            messageResponses.add(messageResponse);
-        }
-        given(chatService.getChatHistory(anyString()))
-            .willReturn(messageResponses);
+        given(chatService.getChatHistory(anyString(), anyInt(), anyLong()))
+            .willThrow(new ChatRoomNotFoundException());
 
         //when
         //then
         mockMvc.perform(get("/api/chat/room/{roomKey}/history", 1)
                 .pathInfo("/api/chat/room/{roomKey}/history")
+                .param("size", "3")
+                .param("lastMessageId", "4")
                 .contentType(APPLICATION_JSON)
                 .header("Authorization", "accessToken"))
-            .andExpect(status().isOk())
-            .andExpect(jsonPath("$[0].memberId").value(String.valueOf(messageResponses.get(0).getMemberId())))
-            .andExpect(jsonPath("$[1].memberId").value(String.valueOf(messageResponses.get(1).getMemberId())))
-            .andExpect(jsonPath("$[2].memberId").value(String.valueOf(messageResponses.get(2).getMemberId())))
-
+            .andExpect(status().is4xxClientError())
+            .andExpect(jsonPath("$.code").value(CHAT_ROOM_NOT_FOUND.getCode()))
+            .andExpect(jsonPath("$.message").value(CHAT_ROOM_NOT_FOUND.getMessage()))
             .andDo(print())
-            .andDo(document("chat/get-chat-history/success",
+            .andDo(document("chat/get-chat-history/failure/chat-room-not-found",
                 getDocumentRequest(),
                 getDocumentResponse(),
                 pathParameters(parameterWithName("roomKey").description("조회할 채팅방 키값")),
+                requestParameters(
+                    parameterWithName("size").description("한 번에 가져올 메시지 수"),
+                    parameterWithName("lastMessageId").description("이전 조회의 마지막 메시지 id (첫 조회 시 Long 최댓값)")),
                 requestHeaders(
                     headerWithName("Authorization").description("Access Token"))
             ));
@@ -381,4 +417,86 @@ class ChatControllerTest {
             ));
     }
 
-}
\ No newline at end of file
+    @Test
+    @WithMockUser
+    @DisplayName("근처 채팅방 목록 조회 성공")
+    public void getLocalChatRooms_Success() throws Exception {
+        //given
+        List<ChatRoomListInfo> chatRooms = new ArrayList<>();
+        for (long i = 3; i >= 2; i--) {
+            chatRooms.add(ChatRoomListInfo.builder()
+                .chatRoomId(i)
+                .name("채팅방" + i)
+                .roomKey(UUID.randomUUID().toString())
+                .description("설명" + i)
+                .maxParticipant(5)
+                .nowParticipant(2)
+                .walkingTimeInfos(walkingTimeInfos)
+                .build());
+        }
+        given(chatService.getLocalChatRooms(anyString(), anyInt(), anyLong(),
+            any(LocalChatRoomSearchCondition.class)))
+            .willReturn(LocalChatRoomListResponse.builder()
+                .chatRooms(chatRooms)
+                .nextCursor(2L)
+                .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/api/chat/room/local/list")
+                .param("size", "2")
+                .param("lastChatRoomId", String.valueOf(Long.MAX_VALUE))
+                .param("dayOfWeek", "월")
+                .param("time", "19:00")
+                .param("latitude", "37.5665")
+                .param("longitude", "126.9780")
+                .header("Authorization", "accessToken"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.chatRooms[0].name").value("채팅방3"))
+            .andExpect(jsonPath("$.chatRooms[0].chatRoomId").doesNotExist())
+            .andExpect(jsonPath("$.nextCursor").value(2))
+            .andDo(print())
+            .andDo(document("chat/get-local-chatrooms/success",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestParameters(
+                    parameterWithName("size").description("한 번에 가져올 채팅방 수"),
+                    parameterWithName("lastChatRoomId").description("이전 조회의 nextCursor (첫 조회 시 Long 최댓값)"),
+                    parameterWithName("dayOfWeek").description("산책 요일 (선택)").optional(),
+                    parameterWithName("time").description("산책 시간 (선택)").optional(),
+                    parameterWithName("latitude").description("현재 위치 위도 (선택)").optional(),
+                    parameterWithName("longitude").description("현재 위치 경도 (선택)").optional()),
+                requestHeaders(
+                    headerWithName("Authorization").description("Access Token"))
+            ));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("근처 채팅방 목록 조회 실패 - 잘못된 위치")
+    public void getLocalChatRooms_ExceptionThrown_InvalidLocation() throws Exception {
+        //given
+        given(chatService.getLocalChatRooms(anyString(), anyInt(), anyLong(),
+            any(LocalChatRoomSearchCondition.class)))
+            .willThrow(new InvalidLocationException());
+
+        //when
+        //then
+        mockMvc.perform(get("/api/chat/room/local/list")
+                .param("size", "2")
+                .param("lastChatRoomId", String.valueOf(Long.MAX_VALUE))
+                .param("latitude", "100")
+                .param("longitude", "126.9780")
+                .header("Authorization", "accessToken"))
+            .andExpect(status().is4xxClientError())
+            .andExpect(jsonPath("$.code").value(INVALID_LOCATION.getCode()))
+            .andExpect(jsonPath("$.message").value(INVALID_LOCATION.getMessage()))
+            .andDo(print())
+            .andDo(document("chat/get-local-chatrooms/failure/invalid-location",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestHeaders(
+                    headerWithName("Authorization").description("Access Token"))
+            ));
+    }
+}
@@ -0,0 +1,165 @@
+package com.gaethering.gaetheringserver.domain.chat.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gaethering.gaetheringserver.config.JpaConfig;
+import com.gaethering.gaetheringserver.config.QuerydslConfig;
+import com.gaethering.gaetheringserver.domain.chat.buffer.PendingChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
+import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, QuerydslConfig.class})
+@Transactional
+public class ChatMessageRepositoryTest {
+
+    private static final int MESSAGE_COUNT = 20;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager em;
+
+    private ChatRoom chatRoom;
+    private Member member;
+    private List<ChatMessage> messages;
+
+    @BeforeEach
+    public void setUp() {
+        member = memberRepository.save(Member.builder()
+            .email("member1@test.com")
+            .nickname("닉네임1")
+            .build());
+        chatRoom = chatRoomRepository.save(ChatRoom.builder()
+            .roomKey("roomKey1")
+            .name("산책방")
+            .maxParticipantCount(5)
+            .build());
+        ChatRoom otherRoom = chatRoomRepository.save(ChatRoom.builder()
+            .roomKey("roomKey2")
+            .name("다른 산책방")
+            .maxParticipantCount(5)
+            .build());
+
+        messages = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messages.add(chatMessageRepository.save(ChatMessage.builder()
+                .id(id++)
+                .content("메시지" + i)
+                .member(member)
+                .chatRoom(chatRoom)
+                .build()));
+            chatMessageRepository.save(ChatMessage.builder()
+                .id(id++)
+                .content("다른 방 메시지" + i)
+                .member(member)
+                .chatRoom(otherRoom)
+                .build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void findChatHistory() {
+        //given
+        long lastMessageId = Long.MAX_VALUE;
+
+        //when
+        List<ChatMessageResponse> result = chatMessageRepository.findChatHistory(
+            chatRoom.getId(), lastMessageId, 5);
+
+        //then
+        assertThat(result).hasSize(5);
+        for (int k = 0; k < result.size(); k++) {
+            int i = MESSAGE_COUNT - 1 - k;
+            ChatMessageResponse response = result.get(k);
+            assertThat(response.getMessageId()).isEqualTo(messages.get(i).getId());
+            assertThat(response.getMemberId()).isEqualTo(member.getId());
+            assertThat(response.getContent()).isEqualTo("메시지" + i);
+            assertThat(response.getCreatedAt()).isNotNull();
+        }
+    }
+
+    @Test
+    public void findChatHistory_withCursor() {
+        //given
+        long lastMessageId = messages.get(3).getId();
+
+        //when
+        List<ChatMessageResponse> result = chatMessageRepository.findChatHistory(
+            chatRoom.getId(), lastMessageId, 10);
+
+        //then
+        assertThat(result).extracting(ChatMessageResponse::getMessageId)
+            .containsExactly(messages.get(2).getId(), messages.get(1).getId(),
+                messages.get(0).getId());
+    }
+
+    @Test
+    public void findChatHistory_withoutMemberLoad() {
+        //given
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<ChatMessageResponse> result = chatMessageRepository.findChatHistory(
+            chatRoom.getId(), Long.MAX_VALUE, MESSAGE_COUNT);
+
+        //then
+        assertThat(result).hasSize(MESSAGE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void saveAllInBatch() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 12, 0);
+        List<PendingChatMessage> pending = new ArrayList<>();
+        for (long id = 1000; id < 1010; id++) {
+            pending.add(PendingChatMessage.builder()
+                .id(id)
+                .chatRoomId(chatRoom.getId())
+                .memberId(member.getId())
+                .content("배치" + id)
+                .createdAt(createdAt)
+                .build());
+        }
+
+        //when
+        chatMessageRepository.saveAllInBatch(pending);
+        List<ChatMessageResponse> result = chatMessageRepository.findChatHistory(
+            chatRoom.getId(), Long.MAX_VALUE, 3);
+
+        //then
+        assertThat(chatMessageRepository.count()).isEqualTo(MESSAGE_COUNT * 2 + pending.size());
+        assertThat(result).extracting(ChatMessageResponse::getMessageId)
+            .containsExactly(1009L, 1008L, 1007L);
+        assertThat(result.get(0).getContent()).isEqualTo("배치1009");
+        assertThat(result.get(0).getMemberId()).isEqualTo(member.getId());
+        assertThat(result.get(0).getCreatedAt().toLocalDateTime()).isEqualTo(createdAt);
+    }
+}
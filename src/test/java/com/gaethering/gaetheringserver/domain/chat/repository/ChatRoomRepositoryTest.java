@@ -0,0 +1,325 @@
+package com.gaethering.gaetheringserver.domain.chat.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gaethering.gaetheringserver.config.JpaConfig;
+import com.gaethering.gaetheringserver.config.QuerydslConfig;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomMemberInfo;
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatroomMember;
+import com.gaethering.gaetheringserver.domain.chat.entity.WalkingTime;
+import com.gaethering.gaetheringserver.domain.chat.util.GeoHash;
+import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import com.gaethering.gaetheringserver.domain.pet.entity.Pet;
+import com.gaethering.gaetheringserver.domain.pet.repository.PetRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, QuerydslConfig.class})
+@Transactional
+public class ChatRoomRepositoryTest {
+
+    private static final int ROOM_COUNT = 12;
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LNG = 126.9780;
+    private static final double BUSAN_LAT = 35.1796;
+    private static final double BUSAN_LNG = 129.0756;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+    @Autowired
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+    @Autowired
+    private WalkingTimeRepository walkingTimeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private EntityManager em;
+
+    private List<Member> members;
+    private List<ChatRoom> seoulRooms;
+    private ChatRoom busanRoom;
+
+    @BeforeEach
+    public void setUp() {
+        members = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Member member = memberRepository.save(Member.builder()
+                .email("member" + i + "@test.com")
+                .nickname("닉네임" + i)
+                .build());
+            members.add(member);
+
+            petRepository.save(Pet.builder()
+                .name("대표" + i)
+                .imageUrl("represent" + i)
+                .isRepresentative(true)
+                .member(member)
+                .build());
+            petRepository.save(Pet.builder()
+                .name("반려견" + i)
+                .imageUrl("other" + i)
+                .member(member)
+                .build());
+        }
+
+        seoulRooms = new ArrayList<>();
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            // 서울 시청 근처(약 30m 간격)
+            ChatRoom room = saveRoom("서울방" + i, SEOUL_LAT + i * 0.0003, SEOUL_LNG, i % 3 + 1);
+            seoulRooms.add(room);
+
+            walkingTimeRepository.save(WalkingTime.builder()
+                .dayOfWeek(i % 2 == 0 ? "월" : "화")
+                .time("19:00")
+                .chatRoom(room)
+                .build());
+            walkingTimeRepository.save(WalkingTime.builder()
+                .dayOfWeek("토")
+                .time("09:00")
+                .chatRoom(room)
+                .build());
+
+            for (int j = 0; j <= i % 3; j++) {
+                chatRoomMemberRepository.save(ChatroomMember.builder()
+                    .chatRoom(room)
+                    .member(members.get(j))
+                    .isOwner(j == 0)
+                    .build());
+            }
+        }
+        busanRoom = saveRoom("부산방", BUSAN_LAT, BUSAN_LNG, 0);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void findLocalChatRooms() {
+        //given
+        List<String> prefixes = GeoHash.neighbors(SEOUL_LAT, SEOUL_LNG, 6);
+
+        //when
+        List<ChatRoomListInfo> result = chatRoomRepository.findLocalChatRooms(
+            prefixes, null, null, Long.MAX_VALUE, 5);
+
+        //then
+        assertThat(result).hasSize(5);
+        for (int k = 0; k < result.size(); k++) {
+            int i = ROOM_COUNT - 1 - k;
+            ChatRoomListInfo info = result.get(k);
+            assertThat(info.getChatRoomId()).isEqualTo(seoulRooms.get(i).getId());
+            assertThat(info.getName()).isEqualTo("서울방" + i);
+            assertThat(info.getNowParticipant()).isEqualTo(i % 3 + 1);
+            assertThat(info.getWalkingTimeInfos()).hasSize(2);
+        }
+    }
+
+    @Test
+    public void findLocalChatRooms_excludesFarRooms() {
+        //given
+        List<String> prefixes = GeoHash.neighbors(BUSAN_LAT, BUSAN_LNG, 6);
+
+        //when
+        List<ChatRoomListInfo> result = chatRoomRepository.findLocalChatRooms(
+            prefixes, null, null, Long.MAX_VALUE, 10);
+
+        //then
+        assertThat(result).extracting(ChatRoomListInfo::getChatRoomId)
+            .containsExactly(busanRoom.getId());
+        assertThat(result.get(0).getNowParticipant()).isZero();
+        assertThat(result.get(0).getWalkingTimeInfos()).isEmpty();
+    }
+
+    @Test
+    public void findLocalChatRooms_withCursorAndWalkingTime() {
+        //given
+        long lastChatRoomId = seoulRooms.get(6).getId();
+
+        //when
+        List<ChatRoomListInfo> result = chatRoomRepository.findLocalChatRooms(
+            List.of(), "월", "19:00", lastChatRoomId, 10);
+
+        //then
+        assertThat(result).extracting(ChatRoomListInfo::getChatRoomId)
+            .containsExactly(seoulRooms.get(4).getId(), seoulRooms.get(2).getId(),
+                seoulRooms.get(0).getId());
+    }
+
+    @Test
+    public void findLocalChatRooms_fixedQueryCount() {
+        //given
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<ChatRoomListInfo> result = chatRoomRepository.findLocalChatRooms(
+            List.of(), null, null, Long.MAX_VALUE, ROOM_COUNT + 1);
+
+        //then
+        assertThat(result).hasSize(ROOM_COUNT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void findChatRoomsByMemberId() {
+        //given
+        Long memberId = members.get(1).getId();
+
+        //when
+        List<ChatRoomListInfo> result = chatRoomRepository.findChatRoomsByMemberId(memberId);
+
+        //then
+        assertThat(result).extracting(ChatRoomListInfo::getChatRoomId)
+            .containsExactly(seoulRooms.get(11).getId(), seoulRooms.get(10).getId(),
+                seoulRooms.get(8).getId(), seoulRooms.get(7).getId(),
+                seoulRooms.get(5).getId(), seoulRooms.get(4).getId(),
+                seoulRooms.get(2).getId(), seoulRooms.get(1).getId());
+        // 조회한 회원만이 아니라 방 전체 참여자 수
+        assertThat(result).extracting(ChatRoomListInfo::getNowParticipant)
+            .containsExactly(3, 2, 3, 2, 3, 2, 3, 2);
+        assertThat(result).allSatisfy(info -> assertThat(info.getWalkingTimeInfos()).hasSize(2));
+    }
+
+    @Test
+    public void findChatRoomsByMemberId_fixedQueryCount() {
+        //given
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<ChatRoomListInfo> result = chatRoomRepository.findChatRoomsByMemberId(
+            members.get(0).getId());
+
+        //then
+        assertThat(result).hasSize(ROOM_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void findChatRoomInfo() {
+        //given
+        ChatRoom room = seoulRooms.get(2);
+
+        //when
+        Optional<ChatRoomInfo> result = chatRoomRepository.findChatRoomInfo(room.getRoomKey());
+
+        //then
+        assertThat(result).isPresent();
+        ChatRoomInfo info = result.get();
+        assertThat(info.getName()).isEqualTo(room.getName());
+        assertThat(info.getMaxParticipant()).isEqualTo(5);
+        assertThat(info.getWalkingTimeInfos()).hasSize(2);
+        assertThat(info.getChatRoomMemberInfos()).extracting(ChatRoomMemberInfo::getId)
+            .containsExactly(members.get(0).getId(), members.get(1).getId(),
+                members.get(2).getId());
+        assertThat(info.getChatRoomMemberInfos()).extracting(ChatRoomMemberInfo::getNickname)
+            .containsExactly("닉네임0", "닉네임1", "닉네임2");
+        assertThat(info.getChatRoomMemberInfos())
+            .extracting(ChatRoomMemberInfo::getRepresentPetImageUrl)
+            .containsExactly("represent0", "represent1", "represent2");
+    }
+
+    @Test
+    public void findChatRoomInfo_notFound() {
+        //when
+        Optional<ChatRoomInfo> result = chatRoomRepository.findChatRoomInfo("없는방");
+
+        //then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void findChatRoomInfo_fixedQueryCount() {
+        //given
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Optional<ChatRoomInfo> result = chatRoomRepository.findChatRoomInfo(
+            seoulRooms.get(2).getRoomKey());
+
+        //then
+        assertThat(result.get().getChatRoomMemberInfos()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void reserveSeat() {
+        //given
+        ChatRoom room = seoulRooms.get(2);
+
+        //when
+        int first = chatRoomRepository.reserveSeat(room.getId());
+        int second = chatRoomRepository.reserveSeat(room.getId());
+        int third = chatRoomRepository.reserveSeat(room.getId());
+
+        //then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(chatRoomRepository.findById(room.getId()).get().getCurrentParticipantCount())
+            .isEqualTo(5);
+    }
+
+    @Test
+    public void reconcileParticipantCounts() {
+        //given
+        // 참여자 수 컬럼이 생기기 전에 만들어진 방은 0 으로 시작한다.
+        ChatRoom legacyRoom = saveRoom("기존방", SEOUL_LAT, SEOUL_LNG, 0);
+        for (int j = 0; j < 2; j++) {
+            chatRoomMemberRepository.save(ChatroomMember.builder()
+                .chatRoom(legacyRoom)
+                .member(members.get(j))
+                .isOwner(j == 0)
+                .build());
+        }
+        em.flush();
+        em.clear();
+
+        //when
+        List<Long> drifted = chatRoomRepository.findChatRoomIdsWithCountDrift(0, ROOM_COUNT);
+        drifted.forEach(chatRoomRepository::reconcileParticipantCountByChatRoomId);
+        em.clear();
+
+        //then
+        assertThat(drifted).containsExactly(legacyRoom.getId());
+        assertThat(chatRoomRepository.findChatRoomIdsWithCountDrift(0, ROOM_COUNT)).isEmpty();
+        assertThat(chatRoomRepository.findById(legacyRoom.getId()).orElseThrow()
+            .getCurrentParticipantCount()).isEqualTo(2);
+    }
+
+    private ChatRoom saveRoom(String name, double latitude, double longitude,
+        int participantCount) {
+        return chatRoomRepository.save(ChatRoom.builder()
+            .roomKey(name)
+            .name(name)
+            .maxParticipantCount(5)
+            .currentParticipantCount(participantCount)
+            .latitude(latitude)
+            .longitude(longitude)
+            .geohash(GeoHash.encode(latitude, longitude, ChatRoom.GEOHASH_PRECISION))
+            .build());
+    }
+}
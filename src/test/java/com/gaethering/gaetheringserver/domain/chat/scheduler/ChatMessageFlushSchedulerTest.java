@@ -0,0 +1,104 @@
+package com.gaethering.gaetheringserver.domain.chat.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+import com.gaethering.gaetheringserver.domain.chat.buffer.ChatMessageWriteBuffer;
+import com.gaethering.gaetheringserver.domain.chat.buffer.PendingChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageFlushSchedulerTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageWriteBuffer writeBuffer;
+    private ChatMessageFlushScheduler flushScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writeBuffer = new ChatMessageWriteBuffer(10, meterRegistry);
+        flushScheduler = new ChatMessageFlushScheduler(writeBuffer, chatMessageRepository,
+            transactionTemplate, 5, meterRegistry);
+
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void flush_splitsBatchAndDiscardsRowThatKeepsFailing() {
+        //given
+        for (long id = 1; id <= 5; id++) {
+            writeBuffer.offer(message(id));
+        }
+        List<Long> persisted = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<PendingChatMessage> messages = invocation.getArgument(0);
+            if (messages.stream().anyMatch(message -> message.getId() == 3L)) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            messages.forEach(message -> persisted.add(message.getId()));
+            return null;
+        }).given(chatMessageRepository).saveAllInBatch(any());
+
+        //when
+        flushScheduler.flush();
+
+        //then
+        assertThat(persisted).containsExactly(1L, 2L, 4L, 5L);
+        assertThat(writeBuffer.isEmpty()).isTrue();
+        assertThat(meterRegistry.counter("chat.message.dead-letter").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.message.persisted").count()).isEqualTo(4);
+    }
+
+    @Test
+    void flush_restoresBatchOnTransientFailure() {
+        //given
+        for (long id = 1; id <= 7; id++) {
+            writeBuffer.offer(message(id));
+        }
+        willThrow(new QueryTimeoutException("timeout"))
+            .given(chatMessageRepository).saveAllInBatch(any());
+
+        //when
+        flushScheduler.flush();
+
+        //then
+        assertThat(writeBuffer.size()).isEqualTo(7);
+        assertThat(meterRegistry.counter("chat.message.flush.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.message.dead-letter").count()).isZero();
+    }
+
+    private static PendingChatMessage message(long id) {
+        return PendingChatMessage.builder()
+            .id(id)
+            .chatRoomId(1L)
+            .memberId(1L)
+            .content("message" + id)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.gaethering.gaetheringserver.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.gaethering.gaetheringserver.config.JpaConfig;
+import com.gaethering.gaetheringserver.config.QuerydslConfig;
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessagePublisher;
+import com.gaethering.gaetheringserver.domain.chat.buffer.ChatMessageWriteBuffer;
+import com.gaethering.gaetheringserver.domain.chat.buffer.PendingChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.cache.ChatRoomEntry;
+import com.gaethering.gaetheringserver.domain.chat.cache.ChatRoomRegistry;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageRequest;
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
+import com.gaethering.gaetheringserver.domain.chat.exception.ChatRoomOverCrowdException;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomMemberRepository;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomRepository;
+import com.gaethering.gaetheringserver.domain.chat.util.ChatMessageIdGenerator;
+import com.gaethering.gaetheringserver.domain.member.entity.Member;
+import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 스레드가 동시에 입장해도 정원을 넘지 않는지 실제 트랜잭션으로 확인한다.
+ */
+@DataJpaTest
+@Import({JpaConfig.class, QuerydslConfig.class, ChatMessageServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ChatMessageServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int MEMBER_COUNT = 64;
+    private static final int MAX_PARTICIPANT_COUNT = 10;
+
+    @Autowired
+    private ChatMessageService chatMessageService;
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+    @Autowired
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockBean
+    private ChatMessagePublisher chatMessagePublisher;
+    @MockBean
+    private ChatMessageWriteBuffer writeBuffer;
+    @MockBean
+    private ChatMessageIdGenerator idGenerator;
+    @MockBean
+    private ChatRoomRegistry chatRoomRegistry;
+
+    private ChatRoom chatRoom;
+    private List<Member> members;
+
+    @BeforeEach
+    public void setUp() {
+        chatRoom = chatRoomRepository.save(ChatRoom.builder()
+            .roomKey("concurrencyRoom")
+            .name("동시 입장방")
+            .maxParticipantCount(MAX_PARTICIPANT_COUNT)
+            .build());
+        members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(memberRepository.save(Member.builder()
+                .email("concurrency" + i + "@test.com")
+                .nickname("동시" + i)
+                .build()));
+        }
+
+        // 레지스트리는 항상 아무도 참여하지 않은 방으로 응답해 모든 요청이 입장 경로를 타게 한다.
+        given(chatRoomRegistry.get(anyString())).willReturn(Optional.of(
+            new ChatRoomEntry(chatRoom.getId(), chatRoom.getRoomKey(), MAX_PARTICIPANT_COUNT,
+                List.of())));
+        given(writeBuffer.offer(any(PendingChatMessage.class))).willReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        chatRoomMemberRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void enter_neverExceedsMaxParticipantCount() throws Exception {
+        //given
+        AtomicInteger entered = new AtomicInteger();
+        AtomicInteger overCrowded = new AtomicInteger();
+        List<Runnable> tasks = new ArrayList<>();
+        for (Member member : members) {
+            tasks.add(() -> {
+                try {
+                    chatMessageService.enter(enterRequest(member), chatRoom.getRoomKey());
+                    entered.incrementAndGet();
+                } catch (ChatRoomOverCrowdException e) {
+                    overCrowded.incrementAndGet();
+                }
+            });
+        }
+
+        //when
+        runConcurrently(tasks);
+
+        //then
+        assertThat(entered.get()).isEqualTo(MAX_PARTICIPANT_COUNT);
+        assertThat(overCrowded.get()).isEqualTo(MEMBER_COUNT - MAX_PARTICIPANT_COUNT);
+        assertThat(chatRoomMemberRepository.count()).isEqualTo(MAX_PARTICIPANT_COUNT);
+        assertThat(chatRoomRepository.findById(chatRoom.getId()).get()
+            .getCurrentParticipantCount()).isEqualTo(MAX_PARTICIPANT_COUNT);
+    }
+
+    @Test
+    public void enter_sameMemberTakesOneSeat() throws Exception {
+        //given
+        Member member = members.get(0);
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            tasks.add(() -> {
+                try {
+                    chatMessageService.enter(enterRequest(member), chatRoom.getRoomKey());
+                } catch (RuntimeException ignored) {
+                    // 동시에 들어온 같은 회원의 입장은 유니크 제약으로 실패하고 확보한 자리도 롤백된다.
+                }
+            });
+        }
+
+        //when
+        runConcurrently(tasks);
+
+        //then
+        assertThat(chatRoomMemberRepository.count()).isEqualTo(1);
+        assertThat(chatRoomRepository.findById(chatRoom.getId()).get()
+            .getCurrentParticipantCount()).isEqualTo(1);
+    }
+
+    private static ChatMessageRequest enterRequest(Member member) {
+        return ChatMessageRequest.builder()
+            .memberId(member.getId())
+            .content("enter")
+            .build();
+    }
+
+    private static void runConcurrently(List<Runnable> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,31 +2,54 @@ package com.gaethering.gaetheringserver.domain.chat.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.gaethering.gaetheringserver.domain.chat.broker.ChatMessagePublisher;
+import com.gaethering.gaetheringserver.domain.chat.buffer.ChatMessageWriteBuffer;
+import com.gaethering.gaetheringserver.domain.chat.buffer.PendingChatMessage;
+import com.gaethering.gaetheringserver.domain.chat.cache.ChatRoomEntry;
+import com.gaethering.gaetheringserver.domain.chat.cache.ChatRoomRegistry;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageRequest;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomParticipant;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
+import com.gaethering.gaetheringserver.domain.chat.entity.ChatroomMember;
 import com.gaethering.gaetheringserver.domain.chat.exception.ChatRoomNotFoundException;
+import com.gaethering.gaetheringserver.domain.chat.exception.ChatRoomOverCrowdException;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatMessageRepository;
+import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomMemberRepository;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomRepository;
+import com.gaethering.gaetheringserver.domain.chat.util.ChatMessageIdGenerator;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class ChatMessageServiceImplTest {
 
+    private static final Long ROOM_ID = 3L;
+
     @Mock
     private ChatRoomRepository chatRoomRepository;
 
@@ -37,7 +60,19 @@ class ChatMessageServiceImplTest {
     private ChatMessageRepository chatMessageRepository;
 
     @Mock
-    private RabbitTemplate messagingTemplate;
+    private ChatMessagePublisher chatMessagePublisher;
+
+    @Mock
+    private ChatMessageWriteBuffer writeBuffer;
+
+    @Mock
+    private ChatMessageIdGenerator idGenerator;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private ChatRoomRegistry chatRoomRegistry;
 
     @InjectMocks
     private ChatMessageServiceImpl chatMessageService;
@@ -48,8 +83,10 @@ class ChatMessageServiceImplTest {
         ChatMessageRequest request = ChatMessageRequest.builder()
             .memberId(1L)
             .content("test").build();
-        given(memberRepository.findById(anyLong()))
-            .willReturn(Optional.empty());
+        given(chatRoomRegistry.get(anyString()))
+            .willReturn(Optional.of(roomEntry(List.of())));
+        given(memberRepository.existsById(anyLong()))
+            .willReturn(false);
 
         //when
         //then
@@ -62,9 +99,7 @@ class ChatMessageServiceImplTest {
         ChatMessageRequest request = ChatMessageRequest.builder()
             .memberId(1L)
             .content("test").build();
-        given(memberRepository.findById(anyLong()))
-            .willReturn(Optional.of(Member.builder().build()));
-        given(chatRoomRepository.findByRoomKey(anyString()))
+        given(chatRoomRegistry.get(anyString()))
             .willReturn(Optional.empty());
 
         //when
@@ -78,18 +113,173 @@ class ChatMessageServiceImplTest {
         ChatMessageRequest request = ChatMessageRequest.builder()
             .memberId(1L)
             .content("test").build();
-        Member member = Member.builder().build();
-        ChatRoom chatRoom = ChatRoom.builder().chatMessages(new ArrayList<>()).build();
-        given(memberRepository.findById(anyLong()))
-            .willReturn(Optional.of(member));
-        given(chatRoomRepository.findByRoomKey(anyString()))
-            .willReturn(Optional.of(chatRoom));
+        given(chatRoomRegistry.get(anyString()))
+            .willReturn(Optional.of(roomEntry(List.of(new ChatRoomParticipant(1L, "닉네임")))));
+        given(idGenerator.nextId()).willReturn(100L);
+        given(writeBuffer.offer(any(PendingChatMessage.class))).willReturn(true);
 
         //when
         ChatMessageResponse result = chatMessageService.send(request, "roomKEy");
 
         //then
+        assertThat(result.getMessageId()).isEqualTo(100L);
         assertThat(result.getMemberId()).isEqualTo(request.getMemberId());
         assertThat(result.getContent()).isEqualTo(request.getContent());
+
+        ArgumentCaptor<PendingChatMessage> captor = ArgumentCaptor.forClass(PendingChatMessage.class);
+        InOrder inOrder = inOrder(writeBuffer, chatMessagePublisher);
+        inOrder.verify(writeBuffer).offer(captor.capture());
+        inOrder.verify(chatMessagePublisher).publish(eq("roomKEy"), eq(result));
+        assertThat(captor.getValue().getId()).isEqualTo(100L);
+        assertThat(captor.getValue().getChatRoomId()).isEqualTo(ROOM_ID);
+        assertThat(captor.getValue().getMemberId()).isEqualTo(request.getMemberId());
+        verify(chatMessageRepository, never()).saveAllInBatch(any());
+        verifyNoInteractions(memberRepository, chatRoomRepository, chatRoomMemberRepository);
+    }
+
+    @Test
+    public void sendBufferFullWritesDirectly() {
+        //given
+        ChatMessageRequest request = ChatMessageRequest.builder()
+            .memberId(1L)
+            .content("test").build();
+        given(chatRoomRegistry.get(anyString()))
+            .willReturn(Optional.of(roomEntry(List.of(new ChatRoomParticipant(1L, "닉네임")))));
+        given(idGenerator.nextId()).willReturn(100L);
+        given(writeBuffer.offer(any(PendingChatMessage.class))).willReturn(false);
+
+        //when
+        chatMessageService.send(request, "roomKey");
+
+        //then
+        ArgumentCaptor<List<PendingChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageRepository).saveAllInBatch(captor.capture());
+        assertThat(captor.getValue()).extracting(PendingChatMessage::getId).containsExactly(100L);
+    }
+
+    @Test
+    public void sendDirectWriteFailureIsNotPublished() {
+        //given
+        ChatMessageRequest request = ChatMessageRequest.builder()
+            .memberId(1L)
+            .content("test").build();
+        given(chatRoomRegistry.get(anyString()))
+            .willReturn(Optional.of(roomEntry(List.of(new ChatRoomParticipant(1L, "닉네임")))));
+        given(idGenerator.nextId()).willReturn(100L);
+        given(writeBuffer.offer(any(PendingChatMessage.class))).willReturn(false);
+        willThrow(new DataIntegrityViolationException("fk"))
+            .given(chatMessageRepository).saveAllInBatch(any());
+
+        //when
+        //then
+        assertThrows(DataIntegrityViolationException.class,
+            () -> chatMessageService.send(request, "roomKey"));
+        verifyNoInteractions(chatMessagePublisher);
+    }
+
+    @Test
+    public void enterParticipantWithoutDbRead() {
+        //given
+        ChatMessageRequest request = ChatMessageRequest.builder()
+            .memberId(1L)
+            .content("enter").build();
+        given(chatRoomRegistry.get(anyString()))
+            .willReturn(Optional.of(roomEntry(List.of(new ChatRoomParticipant(1L, "닉네임")))));
+        given(idGenerator.nextId()).willReturn(100L);
+        given(writeBuffer.offer(any(PendingChatMessage.class))).willReturn(true);
+
+        //when
+        ChatMessageResponse result = chatMessageService.enter(request, "roomKey");
+
+        //then
+        assertThat(result.getContent()).isEqualTo("닉네임님이 입장하였습니다.");
+        verifyNoInteractions(memberRepository, chatRoomRepository, chatRoomMemberRepository);
+        verify(chatRoomRegistry, never()).invalidate(anyString());
+    }
+
+    @Test
+    public void enterNewMemberJoinsAndInvalidates() {
+        //given
+        ChatMessageRequest request = ChatMessageRequest.builder()
+            .memberId(2L)
+            .content("enter").build();
+        Member member = Member.builder().id(2L).nickname("새회원").build();
+        ChatRoom chatRoom = ChatRoom.builder().id(ROOM_ID).roomKey("roomKey")
+            .maxParticipantCount(2).build();
+        given(chatRoomRegistry.get(anyString()))
+            .willReturn(Optional.of(roomEntry(List.of(new ChatRoomParticipant(1L, "닉네임")))));
+        given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
+        given(chatRoomRepository.findByRoomKey(anyString())).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member))
+            .willReturn(Optional.empty());
+        given(chatRoomRepository.reserveSeat(ROOM_ID)).willReturn(1);
+        given(idGenerator.nextId()).willReturn(100L);
+        given(writeBuffer.offer(any(PendingChatMessage.class))).willReturn(true);
+
+        //when
+        ChatMessageResponse result = chatMessageService.enter(request, "roomKey");
+
+        //then
+        assertThat(result.getContent()).isEqualTo("새회원님이 입장하였습니다.");
+        verify(chatRoomMemberRepository).save(any(ChatroomMember.class));
+        verify(chatRoomRegistry).invalidate("roomKey");
+    }
+
+    @Test
+    public void enterMessageIsSentAfterCommit() {
+        //given
+        ChatMessageRequest request = ChatMessageRequest.builder()
+            .memberId(1L)
+            .content("enter").build();
+        given(chatRoomRegistry.get(anyString()))
+            .willReturn(Optional.of(roomEntry(List.of(new ChatRoomParticipant(1L, "닉네임")))));
+        given(idGenerator.nextId()).willReturn(100L);
+        given(writeBuffer.offer(any(PendingChatMessage.class))).willReturn(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            ChatMessageResponse result = chatMessageService.enter(request, "roomKey");
+
+            //then
+            verifyNoInteractions(writeBuffer, chatMessagePublisher);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+            InOrder inOrder = inOrder(writeBuffer, chatMessagePublisher);
+            inOrder.verify(writeBuffer).offer(any(PendingChatMessage.class));
+            inOrder.verify(chatMessagePublisher).publish("roomKey", result);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void enterOverCrowdFailure() {
+        //given
+        ChatMessageRequest request = ChatMessageRequest.builder()
+            .memberId(2L)
+            .content("enter").build();
+        Member member = Member.builder().id(2L).nickname("새회원").build();
+        ChatRoom chatRoom = ChatRoom.builder().id(ROOM_ID).roomKey("roomKey")
+            .maxParticipantCount(1).build();
+        given(chatRoomRegistry.get(anyString()))
+            .willReturn(Optional.of(roomEntry(List.of(new ChatRoomParticipant(1L, "닉네임")))));
+        given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
+        given(chatRoomRepository.findByRoomKey(anyString())).willReturn(Optional.of(chatRoom));
+        given(chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member))
+            .willReturn(Optional.empty());
+        given(chatRoomRepository.reserveSeat(ROOM_ID)).willReturn(0);
+
+        //when
+        //then
+        assertThrows(ChatRoomOverCrowdException.class,
+            () -> chatMessageService.enter(request, "roomKey"));
+        verify(chatRoomMemberRepository, never()).save(any(ChatroomMember.class));
+        verifyNoInteractions(chatMessagePublisher, writeBuffer);
+    }
+
+    private static ChatRoomEntry roomEntry(List<ChatRoomParticipant> participants) {
+        return new ChatRoomEntry(ROOM_ID, "roomKey", 5, participants);
     }
-}
\ No newline at end of file
+}
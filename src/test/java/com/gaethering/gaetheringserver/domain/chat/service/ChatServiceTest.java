@@ -3,21 +3,30 @@ package com.gaethering.gaetheringserver.domain.chat.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.gaethering.gaetheringserver.core.repository.support.KeysetPage;
+import com.gaethering.gaetheringserver.domain.chat.cache.ChatRoomRegistry;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatHistoryResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatMessageResponse;
 import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.ChatRoomMemberInfo;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomListResponse;
+import com.gaethering.gaetheringserver.domain.chat.dto.LocalChatRoomSearchCondition;
 import com.gaethering.gaetheringserver.domain.chat.dto.MakeChatRoomRequest;
 import com.gaethering.gaetheringserver.domain.chat.dto.WalkingTimeInfo;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatMessage;
 import com.gaethering.gaetheringserver.domain.chat.entity.ChatRoom;
-import com.gaethering.gaetheringserver.domain.chat.entity.ChatroomMember;
 import com.gaethering.gaetheringserver.domain.chat.entity.WalkingTime;
 import com.gaethering.gaetheringserver.domain.chat.exception.ChatRoomNotFoundException;
+import com.gaethering.gaetheringserver.domain.chat.exception.InvalidLocationException;
 import com.gaethering.gaetheringserver.domain.chat.exception.errorcode.ChatErrorCode;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatMessageRepository;
 import com.gaethering.gaetheringserver.domain.chat.repository.ChatRoomMemberRepository;
@@ -27,7 +36,6 @@ import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.errorcode.MemberErrorCode;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
-import com.gaethering.gaetheringserver.domain.pet.entity.Pet;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -59,6 +67,9 @@ class ChatServiceTest {
     @Mock
     private WalkingTimeRepository walkingTimeRepository;
 
+    @Mock
+    private ChatRoomRegistry chatRoomRegistry;
+
     @InjectMocks
     private ChatServiceImpl chatService;
 
@@ -83,6 +94,8 @@ class ChatServiceTest {
 
         //then
         verify(chatRoomRepository, times(1)).save(chatRoomCaptor.capture());
+        verify(chatRoomRegistry).invalidate(chatRoomCaptor.getValue().getRoomKey());
+        assertThat(chatRoomCaptor.getValue().getCurrentParticipantCount()).isEqualTo(1);
     }
 
     @Test
@@ -106,7 +119,7 @@ class ChatServiceTest {
     @Test
     public void getChaRoomInformationChatRoomNotFoundFailure() {
         //given
-        given(chatRoomRepository.findByRoomKey(anyString()))
+        given(chatRoomRepository.findChatRoomInfo(anyString()))
             .willReturn(Optional.empty());
 
         //when
@@ -118,45 +131,54 @@ class ChatServiceTest {
     @Test
     public void getChatRoomInformationSuccess() {
         //given
-        Pet pet = Pet.builder().imageUrl("url").isRepresentative(true).build();
-        Member member = Member.builder().id(1L).nickname("nickname").pets(new ArrayList<>())
-            .build();
-        ChatroomMember chatroomMember = ChatroomMember.builder().member(member).build();
-        member.addPet(pet);
-        WalkingTime walkingTime = WalkingTime.builder().dayOfWeek("수").time("12 : 00").build();
-        ChatRoom chatRoom = ChatRoom.builder()
+        ChatRoomMemberInfo memberInfo = ChatRoomMemberInfo.builder()
+            .id(1L).nickname("nickname").representPetImageUrl("url").build();
+        WalkingTimeInfo walkingTimeInfo = WalkingTimeInfo.builder()
+            .dayOfWeek("수").time("12 : 00").build();
+        ChatRoomInfo chatRoomInfo = ChatRoomInfo.builder()
             .name("chat1")
             .roomKey("key")
             .description("description")
-            .maxParticipantCount(10)
-            .chatroomMembers(new ArrayList<>())
-            .walkingTimes(new ArrayList<>()).build();
-        chatRoom.addChatroomMember(chatroomMember);
-        chatRoom.addWalkingTime(walkingTime);
+            .maxParticipant(10)
+            .walkingTimeInfos(List.of(walkingTimeInfo))
+            .chatRoomMemberInfos(List.of(memberInfo))
+            .build();
 
-        given(chatRoomRepository.findByRoomKey(anyString()))
-            .willReturn(Optional.of(chatRoom));
+        given(chatRoomRepository.findChatRoomInfo("key"))
+            .willReturn(Optional.of(chatRoomInfo));
+
+        //when
+        ChatRoomInfo chaRoomInformation = chatService.getChaRoomInformation("key");
+
+        //then
+        assertThat(chaRoomInformation.getRoomKey()).isEqualTo("key");
+        assertThat(chaRoomInformation.getName()).isEqualTo("chat1");
+        assertThat(chaRoomInformation.getMaxParticipant()).isEqualTo(10);
+        assertThat(chaRoomInformation.getWalkingTimeInfos()).containsExactly(walkingTimeInfo);
+        assertThat(chaRoomInformation.getChatRoomMemberInfos()).containsExactly(memberInfo);
+    }
+
+    @Test
+    @DisplayName("내 채팅방 목록 조회 성공")
+    void getMyChatRooms_Success() {
+        //given
+        Member member = Member.builder()
+            .id(1L)
+            .email("email@gmail.com")
+            .build();
+        List<ChatRoomListInfo> chatRooms = List.of(
+            ChatRoomListInfo.builder().chatRoomId(2L).roomKey("key2").nowParticipant(3).build(),
+            ChatRoomListInfo.builder().chatRoomId(1L).roomKey("key1").nowParticipant(1).build());
+
+        given(memberRepository.findByEmail(anyString())).willReturn(Optional.of(member));
+        given(chatRoomRepository.findChatRoomsByMemberId(1L)).willReturn(chatRooms);
 
         //when
-        ChatRoomInfo chaRoomInformation = chatService.getChaRoomInformation(anyString());
+        ChatRoomListResponse response = chatService.getMyChatRooms("email@gmail.com");
 
         //then
-        assertThat(chaRoomInformation.getRoomKey()).isEqualTo(chatRoom.getRoomKey());
-        assertThat(chaRoomInformation.getName()).isEqualTo(chatRoom.getName());
-        assertThat(chaRoomInformation.getDescription()).isEqualTo(chatRoom.getDescription());
-        assertThat(chaRoomInformation.getMaxParticipant()).isEqualTo(
-            chatRoom.getMaxParticipantCount());
-        assertThat(chaRoomInformation.getWalkingTimeInfos().get(0).getDayOfWeek()).isEqualTo(
-            walkingTime.getDayOfWeek());
-        assertThat(chaRoomInformation.getWalkingTimeInfos().get(0).getTime()).isEqualTo(
-            walkingTime.getTime());
-        assertThat(chaRoomInformation.getChatRoomMemberInfos().get(0).getId()).isEqualTo(
-            member.getId());
-        assertThat(chaRoomInformation.getChatRoomMemberInfos().get(0).getNickname()).isEqualTo(
-            member.getNickname());
-        assertThat(
-            chaRoomInformation.getChatRoomMemberInfos().get(0).getRepresentPetImageUrl()).isEqualTo(
-            pet.getImageUrl());
+        assertThat(response.getNumberOfChatRooms()).isEqualTo(2);
+        assertThat(response.getChatRooms()).isEqualTo(chatRooms);
     }
 
     @Test
@@ -168,37 +190,79 @@ class ChatServiceTest {
         //when
         //then
         assertThrows(ChatRoomNotFoundException.class,
-            () -> chatService.getChatHistory(anyString()));
+            () -> chatService.getChatHistory("roomKey", 2, Long.MAX_VALUE));
     }
 
     @Test
     public void getCharHistorySuccess() {
         //given
-        Member member = Member.builder().id(1L).build();
-        ChatMessage message1 = ChatMessage.builder().content("content1").member(member)
-            .createdAt(LocalDateTime.MAX)
-            .build();
-        ChatMessage message2 = ChatMessage.builder().content("content2").member(member)
-            .createdAt(LocalDateTime.MIN)
-            .build();
-        ChatRoom chatRoom = ChatRoom.builder()
-            .chatMessages(new ArrayList<>()).build();
-        chatRoom.addChatMessage(message1);
-        chatRoom.addChatMessage(message2);
+        ChatRoom chatRoom = ChatRoom.builder().id(1L).build();
+        List<ChatMessageResponse> messages = new ArrayList<>();
+        for (long id = 5; id >= 3; id--) {
+            messages.add(new ChatMessageResponse(id, 1L, "content" + id, LocalDateTime.now()));
+        }
+
+        given(chatRoomRepository.findByRoomKey(anyString()))
+            .willReturn(Optional.of(chatRoom));
+        given(chatMessageRepository.findChatHistory(chatRoom.getId(), Long.MAX_VALUE, 3))
+            .willReturn(messages);
+
+        //when
+        ChatHistoryResponse chatHistory = chatService.getChatHistory("roomKey", 2, Long.MAX_VALUE);
+
+        //then
+        assertThat(chatHistory.getMessages()).hasSize(2);
+        assertThat(chatHistory.getMessages().get(0).getMessageId()).isEqualTo(5L);
+        assertThat(chatHistory.getMessages().get(1).getMessageId()).isEqualTo(4L);
+        assertThat(chatHistory.getNextCursor()).isEqualTo(4L);
+    }
+
+    @Test
+    public void getCharHistoryLastScroll() {
+        //given
+        ChatRoom chatRoom = ChatRoom.builder().id(1L).build();
+        List<ChatMessageResponse> messages = List.of(
+            new ChatMessageResponse(2L, 1L, "content2", LocalDateTime.now()),
+            new ChatMessageResponse(1L, 1L, "content1", LocalDateTime.now()));
+
+        given(chatRoomRepository.findByRoomKey(anyString()))
+            .willReturn(Optional.of(chatRoom));
+        given(chatMessageRepository.findChatHistory(chatRoom.getId(), 3L, 3))
+            .willReturn(messages);
+
+        //when
+        ChatHistoryResponse chatHistory = chatService.getChatHistory("roomKey", 2, 3L);
+
+        //then
+        assertThat(chatHistory.getMessages()).hasSize(2);
+        assertThat(chatHistory.getNextCursor()).isEqualTo(-1L);
+    }
 
+    @Test
+    @DisplayName("채팅 내역 조회 성공_페이지 크기를 [1, MAX_SIZE] 로 맞춤")
+    void getChatHistory_ClampedSize() {
+        //given
+        ChatRoom chatRoom = ChatRoom.builder().id(1L).build();
         given(chatRoomRepository.findByRoomKey(anyString()))
             .willReturn(Optional.of(chatRoom));
+        given(chatMessageRepository.findChatHistory(chatRoom.getId(), Long.MAX_VALUE, 2))
+            .willReturn(List.of(
+                new ChatMessageResponse(5L, 1L, "content5", LocalDateTime.now()),
+                new ChatMessageResponse(4L, 1L, "content4", LocalDateTime.now())));
+        given(chatMessageRepository.findChatHistory(chatRoom.getId(), Long.MAX_VALUE,
+            KeysetPage.MAX_SIZE + 1))
+            .willReturn(List.of());
 
         //when
-        List<ChatMessageResponse> chatHistory = chatService.getChatHistory(anyString());
+        ChatHistoryResponse zero = chatService.getChatHistory("roomKey", 0, Long.MAX_VALUE);
+        ChatHistoryResponse oversized = chatService.getChatHistory("roomKey", 100000,
+            Long.MAX_VALUE);
 
         //then
-        assertThat(chatHistory.get(0).getMemberId()).isEqualTo(member.getId());
-        assertThat(chatHistory.get(0).getContent()).isEqualTo(message1.getContent());
-        assertThat(chatHistory.get(1).getMemberId()).isEqualTo(member.getId());
-        assertThat(chatHistory.get(1).getContent()).isEqualTo(message2.getContent());
-        assertThat(chatHistory.get(0).getCreatedAt().compareTo(chatHistory.get(1).getCreatedAt())
-            < 0).isTrue();
+        assertThat(zero.getMessages()).hasSize(1);
+        assertThat(zero.getNextCursor()).isEqualTo(5L);
+        assertThat(oversized.getMessages()).isEmpty();
+        assertThat(oversized.getNextCursor()).isEqualTo(-1L);
     }
 
     @Test
@@ -250,6 +314,7 @@ class ChatServiceTest {
         //then
         verify(chatMessageRepository).deleteAllByChatRoom(eq(chatRoom));
         verify(walkingTimeRepository).deleteAllByChatRoom(eq(chatRoom));
+        verify(chatRoomRegistry).invalidate(chatRoom.getRoomKey());
         verify(chatRoomRepository, times(1)).delete(captor.capture());
     }
 
@@ -312,4 +377,98 @@ class ChatServiceTest {
             .build();
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("근처 채팅방 조회 성공_위치와 산책 시간 조건")
+    void getLocalChatRooms_Success() {
+        //given
+        given(memberRepository.findByEmail(anyString()))
+            .willReturn(Optional.of(Member.builder().id(1L).build()));
+        List<ChatRoomListInfo> rooms = List.of(
+            ChatRoomListInfo.builder().chatRoomId(3L).name("방3").build(),
+            ChatRoomListInfo.builder().chatRoomId(2L).name("방2").build(),
+            ChatRoomListInfo.builder().chatRoomId(1L).name("방1").build());
+        given(chatRoomRepository.findLocalChatRooms(anyList(), eq("월"), eq("19:00"),
+            eq(Long.MAX_VALUE), eq(3)))
+            .willReturn(rooms);
+        LocalChatRoomSearchCondition condition = LocalChatRoomSearchCondition.builder()
+            .dayOfWeek("월")
+            .time("19:00")
+            .latitude(37.5665)
+            .longitude(126.9780)
+            .build();
+
+        //when
+        LocalChatRoomListResponse response = chatService.getLocalChatRooms("email@gmail.com", 2,
+            Long.MAX_VALUE, condition);
+
+        //then
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatRoomRepository).findLocalChatRooms(captor.capture(), eq("월"), eq("19:00"),
+            eq(Long.MAX_VALUE), eq(3));
+        assertThat(captor.getValue()).hasSize(9).contains("wydm9q");
+        assertThat(response.getChatRooms()).hasSize(2);
+        assertThat(response.getNextCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("근처 채팅방 조회 성공_위치 없이 조회")
+    void getLocalChatRooms_WithoutLocation() {
+        //given
+        given(memberRepository.findByEmail(anyString()))
+            .willReturn(Optional.of(Member.builder().id(1L).build()));
+        given(chatRoomRepository.findLocalChatRooms(List.of(), null, null, 10L, 3))
+            .willReturn(List.of(ChatRoomListInfo.builder().chatRoomId(9L).build()));
+
+        //when
+        LocalChatRoomListResponse response = chatService.getLocalChatRooms("email@gmail.com", 2,
+            10L, new LocalChatRoomSearchCondition());
+
+        //then
+        assertThat(response.getChatRooms()).hasSize(1);
+        assertThat(response.getNextCursor()).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("근처 채팅방 조회 성공_페이지 크기를 [1, MAX_SIZE] 로 맞춤")
+    void getLocalChatRooms_ClampedSize() {
+        //given
+        given(memberRepository.findByEmail(anyString()))
+            .willReturn(Optional.of(Member.builder().id(1L).build()));
+        given(chatRoomRepository.findLocalChatRooms(List.of(), null, null, 10L, 2))
+            .willReturn(List.of(
+                ChatRoomListInfo.builder().chatRoomId(9L).build(),
+                ChatRoomListInfo.builder().chatRoomId(8L).build()));
+        given(chatRoomRepository.findLocalChatRooms(List.of(), null, null, 10L,
+            KeysetPage.MAX_SIZE + 1))
+            .willReturn(List.of());
+
+        //when
+        LocalChatRoomListResponse negative = chatService.getLocalChatRooms("email@gmail.com", -1,
+            10L, new LocalChatRoomSearchCondition());
+        LocalChatRoomListResponse oversized = chatService.getLocalChatRooms("email@gmail.com",
+            100000, 10L, new LocalChatRoomSearchCondition());
+
+        //then
+        assertThat(negative.getChatRooms()).hasSize(1);
+        assertThat(negative.getNextCursor()).isEqualTo(9L);
+        assertThat(oversized.getChatRooms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("근처 채팅방 조회 실패_잘못된 위치")
+    void getLocalChatRooms_ExceptionThrown_InvalidLocation() {
+        //given
+        given(memberRepository.findByEmail(anyString()))
+            .willReturn(Optional.of(Member.builder().id(1L).build()));
+        LocalChatRoomSearchCondition condition = LocalChatRoomSearchCondition.builder()
+            .latitude(100.0)
+            .longitude(126.9780)
+            .build();
+
+        //when
+        //then
+        assertThrows(InvalidLocationException.class,
+            () -> chatService.getLocalChatRooms("email@gmail.com", 2, Long.MAX_VALUE, condition));
+    }
+}
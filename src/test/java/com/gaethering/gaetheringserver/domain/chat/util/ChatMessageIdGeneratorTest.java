@@ -0,0 +1,96 @@
+package com.gaethering.gaetheringserver.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageIdGeneratorTest {
+
+    @Test
+    void nextId_increasesWithinSameMillis() {
+        //given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(1, () -> 1700000000000L);
+
+        //when
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        //then
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    void nextId_keepsIncreasingWhenClockMovesBackward() {
+        //given
+        AtomicLong clock = new AtomicLong(1700000000000L);
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(1, clock::get);
+        long before = generator.nextId();
+
+        //when
+        clock.addAndGet(-5000);
+        long after = generator.nextId();
+
+        //then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void nextId_borrowsNextMillisWhenSequenceOverflows() {
+        //given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(0, () -> 1700000000000L);
+        long previous = generator.nextId();
+
+        //when
+        //then
+        for (int i = 0; i < 10000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void nextId_differsByNode() {
+        //given
+        ChatMessageIdGenerator node1 = new ChatMessageIdGenerator(1, () -> 1700000000000L);
+        ChatMessageIdGenerator node2 = new ChatMessageIdGenerator(2, () -> 1700000000000L);
+
+        //when
+        //then
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+    }
+
+    @Test
+    void nextId_uniqueAcrossThreads() throws InterruptedException {
+        //given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(0);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(ids).hasSize(80000);
+    }
+
+    @Test
+    void invalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new ChatMessageIdGenerator(1024));
+    }
+}
@@ -0,0 +1,50 @@
+package com.gaethering.gaetheringserver.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+    @Test
+    void encode_knownValue() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(37.5665, 126.9780, 6)).isEqualTo("wydm9q");
+    }
+
+    @Test
+    void encode_prefixOfLongerHash() {
+        String hash = GeoHash.encode(37.5665, 126.9780, 9);
+
+        assertThat(hash).startsWith(GeoHash.encode(37.5665, 126.9780, 6));
+    }
+
+    @Test
+    void neighbors_containsOwnCellAndAdjacentCells() {
+        //given
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+
+        //when
+        List<String> neighbors = GeoHash.neighbors(latitude, longitude, 6);
+
+        //then
+        assertThat(neighbors).hasSize(9);
+        assertThat(neighbors).contains(GeoHash.encode(latitude, longitude, 6));
+        assertThat(neighbors).contains(GeoHash.encode(latitude + 0.005, longitude, 6));
+        assertThat(neighbors).contains(GeoHash.encode(latitude, longitude - 0.01, 6));
+    }
+
+    @Test
+    void neighbors_nearPoleSkipsOutOfRangeRows() {
+        assertThat(GeoHash.neighbors(89.999, 0, 6)).hasSize(6);
+    }
+
+    @Test
+    void invalidCoordinate() {
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(91, 0, 6));
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.neighbors(0, 181, 6));
+    }
+}
@@ -0,0 +1,235 @@
+package com.gaethering.gaetheringserver.domain.email.dispatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gaethering.gaetheringserver.config.JpaConfig;
+import com.gaethering.gaetheringserver.config.QuerydslConfig;
+import com.gaethering.gaetheringserver.domain.email.MailQueue;
+import com.gaethering.gaetheringserver.domain.email.entity.MailOutbox;
+import com.gaethering.gaetheringserver.domain.email.repository.MailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import({JpaConfig.class, QuerydslConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<MailDispatcher> dispatchers = new ArrayList<>();
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (MailDispatcher dispatcher : dispatchers) {
+            dispatcher.shutdown();
+        }
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    public void committedMailIsSentAfterCommit() throws MessagingException {
+        //given
+        MailQueue mailQueue = new MailQueue(mailOutboxRepository,
+            dispatcher(pool(ServerSetupTest.SMTP.getPort()), 5, 1000));
+
+        //when
+        transactionTemplate.executeWithoutResult(
+            status -> mailQueue.enqueue("user@gaethering.com", "Gaethering 인증코드", "code"));
+
+        //then
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo("Gaethering 인증코드");
+        assertThat(received.getAllRecipients()[0].toString()).isEqualTo("user@gaethering.com");
+        await(() -> mailOutboxRepository.count() == 0);
+    }
+
+    @Test
+    public void rolledBackMailIsNotSent() throws InterruptedException {
+        //given
+        MailQueue mailQueue = new MailQueue(mailOutboxRepository,
+            dispatcher(pool(ServerSetupTest.SMTP.getPort()), 5, 1000));
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            mailQueue.enqueue("user@gaethering.com", "Gaethering 인증코드", "code");
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(mailOutboxRepository.count()).isZero();
+        Thread.sleep(200);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    public void smtpConnectionIsReused() throws MessagingException {
+        //given
+        SmtpTransportPool pool = pool(ServerSetupTest.SMTP.getPort());
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            MimeMessage message = pool.createMimeMessage();
+            message.setRecipients(MimeMessage.RecipientType.TO, "user" + i + "@gaethering.com");
+            message.setSubject("subject" + i);
+            message.setText("text" + i);
+            pool.send(message);
+        }
+
+        //then
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(meterRegistry.counter("mail.smtp.connections.opened").count()).isEqualTo(1);
+        pool.shutdown();
+    }
+
+    @Test
+    public void mailsOverDomainRateAreDeferred() {
+        //given
+        MailDispatcher dispatcher = dispatcher(pool(ServerSetupTest.SMTP.getPort()), 5, 1000,
+            new MailDomainRateLimiter(1));
+        MailQueue mailQueue = new MailQueue(mailOutboxRepository, dispatcher);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            mailQueue.enqueue("first@gaethering.com", "subject", "text");
+            mailQueue.enqueue("second@gaethering.com", "subject", "text");
+            mailQueue.enqueue("other@example.com", "subject", "text");
+        });
+
+        //then
+        assertThat(greenMail.waitForIncomingEmail(5000, 2)).isTrue();
+        // 보낸 메일도 지워지기 전까지는 lease 로 next_attempt_at 이 미뤄져 있으므로 지워질 때까지 기다린다.
+        await(() -> {
+            List<MailOutbox> remaining = mailOutboxRepository.findAll();
+            return remaining.size() == 1 && remaining.stream()
+                .allMatch(mail -> mail.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        });
+        List<MailOutbox> deferred = mailOutboxRepository.findAll();
+        assertThat(deferred).hasSize(1);
+        assertThat(deferred.get(0).getRecipientDomain()).isEqualTo("gaethering.com");
+        assertThat(deferred.get(0).getAttempts()).isZero();
+
+        await(() -> {
+            dispatcher.poll();
+            return greenMail.getReceivedMessages().length == 3;
+        });
+    }
+
+    @Test
+    public void failedMailIsRetriedWithBackoff() {
+        //given
+        MailDispatcher dispatcher = dispatcher(pool(closedPort()), 5, 1000);
+        Long id = save("user@gaethering.com");
+        LocalDateTime before = LocalDateTime.now();
+
+        //when
+        dispatcher.send(id);
+
+        //then
+        MailOutbox mail = mailOutboxRepository.findById(id).orElseThrow();
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(1));
+        assertThat(meterRegistry.counter("mail.dispatch.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void mailIsDroppedAfterMaxAttempts() {
+        //given
+        MailDispatcher dispatcher = dispatcher(pool(closedPort()), 2, 0);
+        Long id = save("user@gaethering.com");
+
+        //when
+        dispatcher.send(id);
+        dispatcher.send(id);
+
+        //then
+        assertThat(mailOutboxRepository.findById(id)).isEmpty();
+        assertThat(meterRegistry.counter("mail.dispatch.dropped").count()).isEqualTo(1);
+    }
+
+    private Long save(String recipient) {
+        return mailOutboxRepository.save(MailOutbox.builder()
+            .recipient(recipient)
+            .subject("subject")
+            .text("text")
+            .nextAttemptAt(LocalDateTime.now())
+            .build()).getId();
+    }
+
+    private MailDispatcher dispatcher(SmtpTransportPool pool, int maxAttempts,
+        long retryBackoff) {
+        return dispatcher(pool, maxAttempts, retryBackoff, new MailDomainRateLimiter(100));
+    }
+
+    private MailDispatcher dispatcher(SmtpTransportPool pool, int maxAttempts, long retryBackoff,
+        MailDomainRateLimiter rateLimiter) {
+        MailDispatcher dispatcher = new MailDispatcher(mailOutboxRepository, pool, rateLimiter,
+            transactionTemplate, 2, 10, 60_000, maxAttempts, retryBackoff, meterRegistry);
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    private SmtpTransportPool pool(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(port);
+        return new SmtpTransportPool(mailSender, 2, 100, 30_000, meterRegistry);
+    }
+
+    private static int closedPort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
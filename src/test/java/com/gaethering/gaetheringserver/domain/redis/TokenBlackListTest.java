@@ -0,0 +1,213 @@
+package com.gaethering.gaetheringserver.domain.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlackListTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenBlackList tokenBlackList;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlackList = new TokenBlackList(redisTemplate, listenerContainer, 0);
+    }
+
+    @Test
+    @DisplayName("블랙리스트 추가 시 Redis 저장, 전파 후 로컬에서 바로 조회됨")
+    void add() {
+        verify(listenerContainer).addMessageListener(eq(tokenBlackList), any(ChannelTopic.class));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        String hash = TokenBlackList.hash("token");
+
+        tokenBlackList.add("token", 60000);
+
+        verify(valueOperations).set("blacklist:" + hash, "logout", Duration.ofMillis(60000));
+        verify(redisTemplate).convertAndSend(eq(TokenBlackList.CHANNEL), startsWith(hash + ":"));
+        assertThat(tokenBlackList.contains("token")).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 로컬에 없는 토큰을 Redis 에서 확인")
+    void contains_notSynced() {
+        given(redisTemplate.hasKey("blacklist:" + TokenBlackList.hash("token")))
+            .willReturn(true);
+
+        assertThat(tokenBlackList.isSynced()).isFalse();
+        assertThat(tokenBlackList.contains("token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("legacy-window 동안은 토큰 원문으로 저장된 예전 키도 확인")
+    void contains_legacyKey() {
+        tokenBlackList.shutdown();
+        tokenBlackList = new TokenBlackList(redisTemplate, listenerContainer, 60000);
+        givenRedisKeys();
+        given(listenerContainer.isListening()).willReturn(true);
+        tokenBlackList.resync();
+        given(redisTemplate.hasKey("old-token")).willReturn(true);
+        given(redisTemplate.hasKey("other-token")).willReturn(false);
+
+        assertThat(tokenBlackList.isSynced()).isTrue();
+        assertThat(tokenBlackList.contains("old-token")).isTrue();
+        assertThat(tokenBlackList.contains("other-token")).isFalse();
+        verify(redisTemplate, never()).hasKey(startsWith("blacklist:"));
+    }
+
+    @Test
+    @DisplayName("동기화 후에는 로컬에 없는 토큰을 Redis 조회 없이 통과")
+    void resync() {
+        String hash = TokenBlackList.hash("logout-token");
+        givenRedisKeys("blacklist:" + hash);
+        given(redisTemplate.getExpire("blacklist:" + hash, TimeUnit.MILLISECONDS))
+            .willReturn(60000L);
+        given(listenerContainer.isListening()).willReturn(true);
+
+        tokenBlackList.resync();
+
+        assertThat(tokenBlackList.isSynced()).isTrue();
+        assertThat(tokenBlackList.contains("logout-token")).isTrue();
+        assertThat(tokenBlackList.contains("other-token")).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("구독이 끊겨 있으면 동기화 후에도 Redis 에서 확인")
+    void contains_notListening() {
+        givenRedisKeys();
+        tokenBlackList.resync();
+        given(listenerContainer.isListening()).willReturn(false);
+        given(redisTemplate.hasKey("blacklist:" + TokenBlackList.hash("token")))
+            .willReturn(false);
+
+        assertThat(tokenBlackList.contains("token")).isFalse();
+        verify(redisTemplate).hasKey("blacklist:" + TokenBlackList.hash("token"));
+    }
+
+    @Test
+    @DisplayName("구독이 끊겼다 다시 맺어지면 resync 를 마칠 때까지 Redis 에서 확인")
+    void resubscribe() throws InterruptedException {
+        givenRedisKeys();
+        tokenBlackList.resync();
+
+        tokenBlackList.onChannelUnsubscribed(TokenBlackList.CHANNEL.getBytes(StandardCharsets.UTF_8), 0);
+        given(redisTemplate.hasKey("blacklist:" + TokenBlackList.hash("token")))
+            .willReturn(true);
+
+        assertThat(tokenBlackList.isSynced()).isFalse();
+        assertThat(tokenBlackList.contains("token")).isTrue();
+
+        given(listenerContainer.isListening()).willReturn(true);
+        tokenBlackList.onChannelSubscribed(TokenBlackList.CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        verify(redisTemplate, timeout(1000).times(2)).scan(any(ScanOptions.class));
+        for (int i = 0; i < 100 && !tokenBlackList.isSynced(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(tokenBlackList.isSynced()).isTrue();
+    }
+
+    @Test
+    @DisplayName("resync 도중 구독이 바뀌면 동기화된 것으로 보지 않음")
+    @SuppressWarnings("unchecked")
+    void resync_subscriptionChanged() {
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willAnswer(invocation -> {
+            tokenBlackList.onChannelUnsubscribed(
+                TokenBlackList.CHANNEL.getBytes(StandardCharsets.UTF_8), 0);
+            return false;
+        });
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+
+        tokenBlackList.resync();
+
+        assertThat(tokenBlackList.isSynced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 동기화 실패 시 Redis 조회로 돌아감")
+    void resync_failure() {
+        givenRedisKeys();
+        tokenBlackList.resync();
+        given(redisTemplate.scan(any(ScanOptions.class)))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        tokenBlackList.resync();
+
+        assertThat(tokenBlackList.isSynced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 전파된 항목을 로컬에 반영")
+    void onMessage() {
+        String hash = TokenBlackList.hash("token");
+        String body = hash + ":" + (System.currentTimeMillis() + 60000);
+
+        tokenBlackList.onMessage(
+            new DefaultMessage(TokenBlackList.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(tokenBlackList.contains("token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목은 로컬에서 사라짐")
+    void expired() throws InterruptedException {
+        givenRedisKeys();
+        tokenBlackList.resync();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        given(listenerContainer.isListening()).willReturn(true);
+
+        tokenBlackList.add("token", 10);
+        Thread.sleep(50);
+
+        assertThat(tokenBlackList.contains("token")).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRedisKeys(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        if (keys.length == 0) {
+            given(cursor.hasNext()).willReturn(false);
+        } else {
+            given(cursor.hasNext()).willReturn(true, false);
+            given(cursor.next()).willReturn(keys[0]);
+        }
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+    }
+}
@@ -26,7 +26,7 @@ public class AwsS3MockConfig {
     @Value("${test-port}")
     private int testPort;
 
-    @Bean
+    @Bean(destroyMethod = "stop")
     public S3Mock s3Mock() {
         return new S3Mock.Builder().withPort(testPort).withInMemoryBackend().build();
     }
@@ -5,6 +5,7 @@ import static com.gaethering.gaetheringserver.domain.member.exception.errorcode.
 import static com.gaethering.gaetheringserver.member.util.ApiDocumentUtils.getDocumentRequest;
 import static com.gaethering.gaetheringserver.member.util.ApiDocumentUtils.getDocumentResponse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -16,11 +17,13 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowsGetResponse;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.service.follow.FollowService;
 import java.util.List;
@@ -96,7 +99,7 @@ class FollowControllerTest {
     @DisplayName("팔로워 목록 - 회원을 못 찾았을 때")
     public void getFollowersMemberNotFoundFailure() throws Exception {
         //given
-        given(followService.getFollowers(anyLong()))
+        given(followService.getFollowers(anyLong(), anyInt(), anyLong()))
             .willThrow(new MemberNotFoundException());
 
         //when
@@ -109,15 +112,14 @@ class FollowControllerTest {
     @WithMockUser
     public void getFollowersSuccess() throws Exception {
         //given
-        List<FollowResponse> followResponses = createFollowResponses();
-        given(followService.getFollowers(anyLong()))
-            .willReturn(followResponses);
+        FollowsGetResponse response = createFollowsGetResponse();
+        given(followService.getFollowers(anyLong(), anyInt(), anyLong()))
+            .willReturn(response);
 
         //when
         //then
         checkPerform("/api/members/{memberId}/follower", "follow/get-followers/success",
-            followResponses.get(0),
-            followResponses.get(1));
+            response);
     }
 
     @Test
@@ -125,7 +127,7 @@ class FollowControllerTest {
     @DisplayName("팔로잉 목록 - 회원을 못 찾았을 때")
     public void getFolloweesMemberNotFoundFailure() throws Exception {
         //given
-        given(followService.getFollowees(anyLong()))
+        given(followService.getFollowees(anyLong(), anyInt(), anyLong()))
             .willThrow(new MemberNotFoundException());
 
         //when
@@ -138,14 +140,14 @@ class FollowControllerTest {
     @WithMockUser
     public void getFollowingsSuccess() throws Exception {
         //given
-        List<FollowResponse> followResponses = createFollowResponses();
-        given(followService.getFollowees(anyLong()))
-            .willReturn(followResponses);
+        FollowsGetResponse response = createFollowsGetResponse();
+        given(followService.getFollowees(anyLong(), anyInt(), anyLong()))
+            .willReturn(response);
 
         //when
         //then
         checkPerform("/api/members/{memberId}/following", "follow/get-followings/success",
-            followResponses.get(0), followResponses.get(1));
+            response);
     }
 
     @Test
@@ -223,17 +225,24 @@ class FollowControllerTest {
             ));
     }
 
-    private void checkPerform(String url, String identifier, FollowResponse followResponse1,
-        FollowResponse followResponse2) throws Exception {
+    private void checkPerform(String url, String identifier, FollowsGetResponse response)
+        throws Exception {
+        FollowResponse followResponse1 = response.getFollows().get(0);
+        FollowResponse followResponse2 = response.getFollows().get(1);
         mockMvc.perform(get(url, 1)
-                .header("Authorization", "accessToken"))
+                .header("Authorization", "accessToken")
+                .param("size", "2")
+                .param("lastFollowId", "9223372036854775807"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$[0].id").value(followResponse1.getId()))
-            .andExpect(jsonPath("$[0].name").value(followResponse1.getName()))
-            .andExpect(jsonPath("$[0].nickname").value(followResponse1.getNickname()))
-            .andExpect(jsonPath("$[1].id").value(followResponse2.getId()))
-            .andExpect(jsonPath("$[1].name").value(followResponse2.getName()))
-            .andExpect(jsonPath("$[1].nickname").value(followResponse2.getNickname()))
+            .andExpect(jsonPath("$.follows[0].id").value(followResponse1.getId()))
+            .andExpect(jsonPath("$.follows[0].name").value(followResponse1.getName()))
+            .andExpect(jsonPath("$.follows[0].nickname").value(followResponse1.getNickname()))
+            .andExpect(jsonPath("$.follows[0].followId").doesNotExist())
+            .andExpect(jsonPath("$.follows[1].id").value(followResponse2.getId()))
+            .andExpect(jsonPath("$.follows[1].name").value(followResponse2.getName()))
+            .andExpect(jsonPath("$.follows[1].nickname").value(followResponse2.getNickname()))
+            .andExpect(jsonPath("$.totalFollowsCnt").value(response.getTotalFollowsCnt()))
+            .andExpect(jsonPath("$.nextCursor").value(response.getNextCursor()))
 
             .andDo(print())
             .andDo(document(identifier,
@@ -241,6 +250,11 @@ class FollowControllerTest {
                 getDocumentResponse(),
                 pathParameters(
                     parameterWithName("memberId").description("회원 Id")),
+                requestParameters(
+                    parameterWithName("size").description("한 번에 보여줄 회원 수 - 기본 20, 최대 100")
+                        .optional(),
+                    parameterWithName("lastFollowId").description(
+                        "이전 응답의 nextCursor - 처음 조회할 경우 생략하거나 Long 타입의 최대값").optional()),
                 requestHeaders(
                     headerWithName("Authorization").description("Access Token"))
             ));
@@ -263,13 +277,19 @@ class FollowControllerTest {
             ));
     }
 
-    private List<FollowResponse> createFollowResponses() {
-        FollowResponse followResponse1 = FollowResponse.builder().id(1L).name("name1")
+    private FollowsGetResponse createFollowsGetResponse() {
+        FollowResponse followResponse1 = FollowResponse.builder().followId(12L).id(1L)
+            .name("name1")
             .nickname("nickname1")
             .build();
-        FollowResponse followResponse2 = FollowResponse.builder().id(2L).name("name2")
+        FollowResponse followResponse2 = FollowResponse.builder().followId(11L).id(2L)
+            .name("name2")
             .nickname("nickname2")
             .build();
-        return List.of(followResponse1, followResponse2);
+        return FollowsGetResponse.builder()
+            .follows(List.of(followResponse1, followResponse2))
+            .totalFollowsCnt(3)
+            .nextCursor(11L)
+            .build();
     }
 }
\ No newline at end of file
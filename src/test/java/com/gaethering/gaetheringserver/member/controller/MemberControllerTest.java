@@ -8,6 +8,7 @@ import static com.gaethering.gaetheringserver.domain.member.exception.errorcode.
 import static com.gaethering.gaetheringserver.member.util.ApiDocumentUtils.getDocumentRequest;
 import static com.gaethering.gaetheringserver.member.util.ApiDocumentUtils.getDocumentResponse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -22,6 +23,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.partWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.relaxedRequestParts;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -615,41 +617,45 @@ class MemberControllerTest {
     public void getMyPosts() throws Exception {
         //given
         PostInfo post1 = PostInfo.builder()
-            .postId(1L)
-            .title("제목1")
+            .postId(7L)
+            .title("제목7")
             .createdAt(LocalDateTime.now())
             .build();
 
         PostInfo post2 = PostInfo.builder()
-            .postId(1L)
-            .title("제목1")
+            .postId(5L)
+            .title("제목5")
             .createdAt(LocalDateTime.now())
             .build();
 
         PostInfo post3 = PostInfo.builder()
-            .postId(1L)
-            .title("제목1")
+            .postId(2L)
+            .title("제목2")
             .createdAt(LocalDateTime.now())
             .build();
 
         List<PostInfo> posts = List.of(post1, post2, post3);
 
         MyPostsResponse response = MyPostsResponse.builder()
-            .postCount(posts.size())
+            .postCount(10)
             .posts(posts)
+            .nextCursor(2L)
             .build();
 
         //when
-        given(memberService.getMyPosts(anyString()))
+        given(memberService.getMyPosts(anyString(), anyInt(), anyLong()))
             .willReturn(response);
 
         //then
         mockMvc.perform(
                 get("/api/mypage/posts")
+                    .param("size", "3")
+                    .param("lastPostId", "9223372036854775807")
                     .contentType(MediaType.APPLICATION_JSON)
                     .header("Authorization", "accessToken"))
             .andDo(print()).andExpect(status().isOk())
             .andExpect(jsonPath("$.postCount").value(response.getPostCount()))
+            .andExpect(jsonPath("$.nextCursor").value(response.getNextCursor()))
             .andExpect(jsonPath("$.posts[0].postId").value(post1.getPostId()))
             .andExpect(jsonPath("$.posts[0].title").value(post1.getTitle()))
             .andExpect(jsonPath("$.posts[1].postId").value(post2.getPostId()))
@@ -659,6 +665,11 @@ class MemberControllerTest {
             .andDo(document("mypage/get-my-posts/success",
                 getDocumentRequest(),
                 getDocumentResponse(),
+                requestParameters(
+                    parameterWithName("size").description("한 번에 보여줄 게시물의 개수 - 기본 20, 최대 100")
+                        .optional(),
+                    parameterWithName("lastPostId").description(
+                        "이전 응답의 nextCursor - 처음 조회할 경우 생략하거나 Long 타입의 최대값").optional()),
                 requestHeaders(
                     headerWithName("Authorization").description("Access Token")
                 )
@@ -670,7 +681,7 @@ class MemberControllerTest {
     @WithMockUser
     public void getMyPosts_ExceptionThrown_MemberNotFound() throws Exception {
         //given
-        given(memberService.getMyPosts(anyString()))
+        given(memberService.getMyPosts(anyString(), anyInt(), anyLong()))
             .willThrow(new MemberNotFoundException());
 
         //when
@@ -0,0 +1,166 @@
+package com.gaethering.gaetheringserver.member.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.gaethering.gaetheringserver.domain.member.exception.auth.DormantUserException;
+import com.gaethering.gaetheringserver.domain.member.exception.auth.InActiveUserException;
+import com.gaethering.gaetheringserver.domain.member.jwt.JwtProvider;
+import com.gaethering.gaetheringserver.domain.member.jwt.MemberStatusCache;
+import com.gaethering.gaetheringserver.domain.member.jwt.ValidatedToken;
+import com.gaethering.gaetheringserver.domain.member.type.MemberStatus;
+import com.gaethering.gaetheringserver.domain.redis.RedisService;
+import com.gaethering.gaetheringserver.domain.redis.TokenBlackList;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JwtProviderTest {
+
+    private static final String EMAIL = "test@test.com";
+
+    @Mock
+    private RedisService redisService;
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private MemberStatusCache memberStatusCache;
+    @Mock
+    private TokenBlackList tokenBlackList;
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(redisService, userDetailsService, memberStatusCache,
+            tokenBlackList);
+        ReflectionTestUtils.setField(jwtProvider, "key", "test-secret");
+        ReflectionTestUtils.setField(jwtProvider, "accessTokenValid", 600000L);
+        ReflectionTestUtils.setField(jwtProvider, "refreshTokenValid", 600000L);
+        ReflectionTestUtils.invokeMethod(jwtProvider, "init");
+    }
+
+    @Test
+    @DisplayName("토큰 클레임으로 인증 정보 생성 - 회원 조회 없음")
+    void getAuthentication_fromClaims() {
+        given(memberStatusCache.getStatus(EMAIL)).willReturn(Optional.of(MemberStatus.ACTIVE));
+        String token = jwtProvider.createAccessToken(EMAIL, "ROLE_ADMIN", 600000L);
+
+        Authentication authentication = jwtProvider.getAuthentication(validate(token));
+
+        assertThat(validate(token).getClaim("status")).isNull();
+        assertThat(authentication.getName()).isEqualTo(EMAIL);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_ADMIN");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("휴면 회원의 토큰은 인증 실패")
+    void getAuthentication_dormant() {
+        given(memberStatusCache.getStatus(EMAIL)).willReturn(Optional.of(MemberStatus.DORMANT));
+        String token = jwtProvider.createAccessToken(EMAIL, "ROLE_USER", 600000L);
+
+        assertThrows(DormantUserException.class, () -> jwtProvider.getAuthentication(validate(token)));
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원의 토큰은 인증 실패")
+    void getAuthentication_inactive() {
+        given(memberStatusCache.getStatus(EMAIL)).willReturn(Optional.of(MemberStatus.INACTIVE));
+        String token = jwtProvider.createAccessToken(EMAIL, "ROLE_USER", 600000L);
+
+        assertThrows(InActiveUserException.class, () -> jwtProvider.getAuthentication(validate(token)));
+    }
+
+    @Test
+    @DisplayName("role 클레임이 없는 이전 토큰은 회원 조회로 인증 정보 생성")
+    void getAuthentication_legacyToken() {
+        given(userDetailsService.loadUserByUsername(EMAIL)).willReturn(new User(EMAIL, "password",
+            Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"))));
+        Date now = new Date();
+        String token = Jwts.builder()
+            .setClaims(Jwts.claims().setSubject(EMAIL))
+            .setIssuedAt(now)
+            .setExpiration(new Date(now.getTime() + 600000L))
+            .signWith(SignatureAlgorithm.HS256, "test-secret".getBytes())
+            .compact();
+
+        Authentication authentication = jwtProvider.getAuthentication(validate(token));
+
+        assertThat(authentication.getName()).isEqualTo(EMAIL);
+        verify(memberStatusCache, never()).getStatus(anyString());
+    }
+
+    @Test
+    @DisplayName("재발급 토큰에 회원 권한이 담김")
+    void reissueAccessToken() {
+        given(userDetailsService.loadUserByUsername(EMAIL)).willReturn(new User(EMAIL, "password",
+            Collections.singleton(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        given(memberStatusCache.getStatus(EMAIL)).willReturn(Optional.of(MemberStatus.ACTIVE));
+
+        String accessToken = jwtProvider.reissueAccessToken(EMAIL).getAccessToken();
+
+        assertThat(jwtProvider.getAuthentication(validate(accessToken)).getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 결과에 클레임과 남은 만료 시간이 담김")
+    void validateToken() {
+        String token = jwtProvider.createAccessToken(EMAIL, "ROLE_USER", 600000L);
+
+        Optional<ValidatedToken> validatedToken = jwtProvider.validateToken(token);
+
+        assertThat(validatedToken).isPresent();
+        assertThat(validatedToken.get().getToken()).isEqualTo(token);
+        assertThat(validatedToken.get().getEmail()).isEqualTo(EMAIL);
+        assertThat(validatedToken.get().getRemainingMillis()).isBetween(1L, 600000L);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 검증 실패")
+    void validateToken_invalidSignature() {
+        Date now = new Date();
+        String token = Jwts.builder()
+            .setSubject(EMAIL)
+            .setExpiration(new Date(now.getTime() + 600000L))
+            .signWith(SignatureAlgorithm.HS256, "other-secret".getBytes())
+            .compact();
+
+        assertThat(jwtProvider.validateToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("블랙리스트에 등록된 토큰은 검증 실패")
+    void validateToken_blackList() {
+        String token = jwtProvider.createAccessToken(EMAIL, "ROLE_USER", 600000L);
+        given(tokenBlackList.contains(token)).willReturn(true);
+
+        assertThat(jwtProvider.validateToken(token)).isEmpty();
+    }
+
+    private ValidatedToken validate(String token) {
+        return jwtProvider.validateToken(token).orElseThrow();
+    }
+}
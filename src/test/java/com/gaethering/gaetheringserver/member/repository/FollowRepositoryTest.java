@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.gaethering.gaetheringserver.config.JpaConfig;
 import com.gaethering.gaetheringserver.config.QuerydslConfig;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
 import com.gaethering.gaetheringserver.domain.member.entity.Follow;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.repository.follow.FollowRepository;
@@ -127,4 +128,92 @@ public class FollowRepositoryTest {
         assertThat(followRepository.findByFollowee(followee)).isEmpty();
         assertThat(followRepository.findByFollower(follower)).isEmpty();
     }
+
+    @Test
+    public void findFollowersByCursor() {
+        //given
+        Member followee = members.get(0);
+        Member member3 = memberRepository.save(Member.builder()
+            .email("member3@test.com")
+            .nickname("member3")
+            .build());
+        Follow follow3 = followRepository.save(Follow.builder()
+            .follower(member3)
+            .followee(followee)
+            .build());
+        em.flush();
+        em.clear();
+
+        //when
+        List<FollowResponse> first = followRepository.findFollowers(followee.getId(),
+            Long.MAX_VALUE, 1);
+        List<FollowResponse> second = followRepository.findFollowers(followee.getId(),
+            first.get(0).getFollowId(), 10);
+
+        //then
+        assertThat(first).hasSize(1);
+        assertThat(first.get(0).getFollowId()).isEqualTo(follow3.getId());
+        assertThat(first.get(0).getId()).isEqualTo(member3.getId());
+        assertThat(first.get(0).getNickname()).isEqualTo("member3");
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0).getId()).isEqualTo(members.get(1).getId());
+    }
+
+    @Test
+    public void findFollowees() {
+        //given
+        Member follower = members.get(0);
+        Member followee = members.get(1);
+
+        //when
+        List<FollowResponse> result = followRepository.findFollowees(follower.getId(),
+            Long.MAX_VALUE, 10);
+
+        //then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(followee.getId());
+    }
+
+    @Test
+    public void updateFollowCounts() {
+        //given
+        Member member1 = members.get(0);
+
+        //when
+        memberRepository.increaseFollowerCount(member1.getId());
+        memberRepository.increaseFollowerCount(member1.getId());
+        memberRepository.increaseFollowingCount(member1.getId());
+        long decreased = memberRepository.decreaseFollowerCount(member1.getId(), 1);
+        long notDecreased = memberRepository.decreaseFollowingCount(member1.getId(), 2);
+        em.clear();
+
+        //then
+        Member result = memberRepository.findById(member1.getId()).orElseThrow();
+        assertThat(decreased).isEqualTo(1);
+        assertThat(notDecreased).isZero();
+        assertThat(result.getFollowerCnt()).isEqualTo(1);
+        assertThat(result.getFollowingCnt()).isEqualTo(1);
+    }
+
+    @Test
+    public void reconcileCounts() {
+        //given
+        Member member1 = members.get(0);
+        Member member2 = members.get(1);
+        memberRepository.increaseFollowerCount(member2.getId());
+        memberRepository.increasePostCount(member2.getId());
+
+        //when
+        List<Long> drifted = memberRepository.findMemberIdsWithCountDrift(0, 10);
+        drifted.forEach(memberRepository::reconcileCountsByMemberId);
+        em.clear();
+
+        //then
+        assertThat(drifted).containsExactly(member1.getId(), member2.getId());
+        assertThat(memberRepository.findMemberIdsWithCountDrift(0, 10)).isEmpty();
+        Member result = memberRepository.findById(member2.getId()).orElseThrow();
+        assertThat(result.getFollowerCnt()).isEqualTo(1);
+        assertThat(result.getFollowingCnt()).isEqualTo(1);
+        assertThat(result.getPostCnt()).isZero();
+    }
 }
@@ -9,6 +9,7 @@ import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.entity.MemberProfile;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberProfileRepository;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
+import com.gaethering.gaetheringserver.domain.member.type.MemberStatus;
 import com.gaethering.gaetheringserver.domain.pet.entity.Pet;
 import com.gaethering.gaetheringserver.domain.pet.repository.PetRepository;
 import java.util.ArrayList;
@@ -58,6 +59,7 @@ public class MemberRepositoryTest {
             .build();
         member = Member.builder()
             .email("member1@test.com")
+            .status(MemberStatus.ACTIVE)
             .memberProfile(memberProfile)
             .pets(new ArrayList<>())
             .build();
@@ -99,6 +101,19 @@ public class MemberRepositoryTest {
         assertPets(testMember);
     }
 
+    @Test
+    public void findStatusByEmail() {
+        //given
+        String email = member.getEmail();
+
+        //when
+        Optional<MemberStatus> status = memberRepository.findStatusByEmail(email);
+
+        //then
+        assertThat(status).contains(MemberStatus.ACTIVE);
+        assertThat(memberRepository.findStatusByEmail("wrongEmail")).isEmpty();
+    }
+
     @Test
     public void findByIdFailure() {
         //given
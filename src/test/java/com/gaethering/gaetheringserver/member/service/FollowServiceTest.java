@@ -5,9 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.gaethering.gaetheringserver.domain.board.timeline.HomeTimeline;
 import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowResponse;
-import com.gaethering.gaetheringserver.domain.member.entity.Follow;
+import com.gaethering.gaetheringserver.domain.member.dto.follow.FollowsGetResponse;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
 import com.gaethering.gaetheringserver.domain.member.repository.follow.FollowRepository;
@@ -31,6 +34,8 @@ class FollowServiceTest {
     private FollowRepository followRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private HomeTimeline homeTimeline;
     @InjectMocks
     private FollowServiceImpl followService;
     private List<Member> members;
@@ -86,6 +91,9 @@ class FollowServiceTest {
 
         //then
         assertThat(result).isTrue();
+        verify(memberRepository).increaseFollowingCount(follower.getId());
+        verify(memberRepository).increaseFollowerCount(followee.getId());
+        verify(homeTimeline).invalidate(follower.getId());
     }
 
     @Test
@@ -98,30 +106,54 @@ class FollowServiceTest {
         //when
         //then
         assertThrows(MemberNotFoundException.class,
-            () -> followService.getFollowers(anyLong()));
+            () -> followService.getFollowers(1L, 10, Long.MAX_VALUE));
     }
 
     @Test
     public void getFollowerSuccess() {
         //given
-        Member followee = members.get(0);
-        Member follower = members.get(1);
-        Follow follow = Follow.builder()
-            .followee(followee)
-            .follower(follower).build();
+        Member followee = Member.builder().id(1L).followerCnt(3).build();
+        List<FollowResponse> follows = List.of(
+            FollowResponse.builder().followId(30L).id(4L).name("name4").nickname("nick4").build(),
+            FollowResponse.builder().followId(20L).id(3L).name("name3").nickname("nick3").build(),
+            FollowResponse.builder().followId(10L).id(2L).name("name2").nickname("nick2").build());
         given(memberRepository.findById(anyLong()))
             .willReturn(Optional.of(followee));
-        given(followRepository.findByFollowee(followee))
-            .willReturn(List.of(follow));
+        given(followRepository.findFollowers(followee.getId(), Long.MAX_VALUE, 3))
+            .willReturn(follows);
 
         //when
-        List<FollowResponse> followResponse = followService.getFollowers(followee.getId());
+        FollowsGetResponse response = followService.getFollowers(followee.getId(), 2,
+            Long.MAX_VALUE);
 
         //then
-        assertThat(followResponse.size()).isEqualTo(1);
-        assertThat(followResponse.get(0).getId()).isEqualTo(follower.getId());
-        assertThat(followResponse.get(0).getName()).isEqualTo(follower.getName());
-        assertThat(followResponse.get(0).getNickname()).isEqualTo(follower.getNickname());
+        assertThat(response.getFollows()).hasSize(2);
+        assertThat(response.getFollows().get(0).getId()).isEqualTo(4L);
+        assertThat(response.getFollows().get(1).getId()).isEqualTo(3L);
+        assertThat(response.getTotalFollowsCnt()).isEqualTo(3);
+        assertThat(response.getNextCursor()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 1보다 작을 때")
+    public void getFollowerNonPositiveSize() {
+        //given
+        Member followee = Member.builder().id(1L).followerCnt(2).build();
+        List<FollowResponse> follows = List.of(
+            FollowResponse.builder().followId(20L).id(3L).name("name3").nickname("nick3").build(),
+            FollowResponse.builder().followId(10L).id(2L).name("name2").nickname("nick2").build());
+        given(memberRepository.findById(anyLong()))
+            .willReturn(Optional.of(followee));
+        given(followRepository.findFollowers(followee.getId(), Long.MAX_VALUE, 2))
+            .willReturn(follows);
+
+        //when
+        FollowsGetResponse response = followService.getFollowers(followee.getId(), 0,
+            Long.MAX_VALUE);
+
+        //then
+        assertThat(response.getFollows()).hasSize(1);
+        assertThat(response.getNextCursor()).isEqualTo(20L);
     }
 
     @Test
@@ -134,30 +166,31 @@ class FollowServiceTest {
         //when
         //then
         assertThrows(MemberNotFoundException.class,
-            () -> followService.getFollowees(anyLong()));
+            () -> followService.getFollowees(1L, 10, Long.MAX_VALUE));
     }
 
     @Test
     public void getFolloweeSuccess() {
         //given
-        Member follower = members.get(0);
-        Member followee = members.get(1);
-        Follow follow = Follow.builder()
-            .followee(followee)
-            .follower(follower).build();
+        Member follower = Member.builder().id(1L).followingCnt(1).build();
+        List<FollowResponse> follows = List.of(
+            FollowResponse.builder().followId(10L).id(2L).name("name2").nickname("nick2").build());
         given(memberRepository.findById(anyLong()))
             .willReturn(Optional.of(follower));
-        given(followRepository.findByFollower(follower))
-            .willReturn(List.of(follow));
+        given(followRepository.findFollowees(follower.getId(), Long.MAX_VALUE, 3))
+            .willReturn(follows);
 
         //when
-        List<FollowResponse> followResponse = followService.getFollowees(follower.getId());
+        FollowsGetResponse response = followService.getFollowees(follower.getId(), 2,
+            Long.MAX_VALUE);
 
         //then
-        assertThat(followResponse.size()).isEqualTo(1);
-        assertThat(followResponse.get(0).getId()).isEqualTo(followee.getId());
-        assertThat(followResponse.get(0).getName()).isEqualTo(followee.getName());
-        assertThat(followResponse.get(0).getNickname()).isEqualTo(followee.getNickname());
+        assertThat(response.getFollows()).hasSize(1);
+        assertThat(response.getFollows().get(0).getId()).isEqualTo(2L);
+        assertThat(response.getFollows().get(0).getName()).isEqualTo("name2");
+        assertThat(response.getFollows().get(0).getNickname()).isEqualTo("nick2");
+        assertThat(response.getTotalFollowsCnt()).isEqualTo(1);
+        assertThat(response.getNextCursor()).isEqualTo(-1L);
     }
 
     @Test
@@ -207,6 +240,7 @@ class FollowServiceTest {
 
         //then
         assertThat(result).isFalse();
+        verify(memberRepository, never()).decreaseFollowerCount(followee.getId(), 0);
     }
 
     @Test
@@ -226,5 +260,8 @@ class FollowServiceTest {
 
         //then
         assertThat(result).isTrue();
+        verify(memberRepository).decreaseFollowingCount(follower.getId(), 1);
+        verify(memberRepository).decreaseFollowerCount(followee.getId(), 1);
+        verify(homeTimeline).invalidate(follower.getId());
     }
 }
\ No newline at end of file
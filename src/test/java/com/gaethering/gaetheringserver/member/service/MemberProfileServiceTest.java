@@ -2,7 +2,6 @@ package com.gaethering.gaetheringserver.member.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -14,7 +13,6 @@ import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.entity.MemberProfile;
 import com.gaethering.gaetheringserver.domain.member.exception.errorcode.MemberErrorCode;
 import com.gaethering.gaetheringserver.domain.member.exception.member.MemberNotFoundException;
-import com.gaethering.gaetheringserver.domain.member.repository.follow.FollowRepository;
 import com.gaethering.gaetheringserver.domain.member.repository.member.MemberRepository;
 import com.gaethering.gaetheringserver.domain.member.service.member.MemberProfileServiceImpl;
 import com.gaethering.gaetheringserver.domain.pet.entity.Pet;
@@ -32,8 +30,6 @@ class MemberProfileServiceTest {
 
     @Mock
     private MemberRepository memberRepository;
-    @Mock
-    private FollowRepository followRepository;
     @InjectMocks
     private MemberProfileServiceImpl memberProfileService;
 
@@ -65,6 +61,8 @@ class MemberProfileServiceTest {
             .email("member1@test.com")
             .memberProfile(memberProfile)
             .pets(pets)
+            .followerCnt(3L)
+            .followingCnt(30L)
             .build();
     }
 
@@ -88,10 +86,6 @@ class MemberProfileServiceTest {
         Long followingCount = 30L;
         given(memberRepository.findByEmail(anyString()))
             .willReturn(Optional.of(member));
-        given(followRepository.countByFollowee(any(member.getClass())))
-            .willReturn(followerCount);
-        given(followRepository.countByFollower(any(member.getClass())))
-            .willReturn(followingCount);
 
         //when
         OwnProfileResponse profile = memberProfileService.getOwnProfile(anyString());
@@ -120,10 +114,6 @@ class MemberProfileServiceTest {
         Long followingCount = 30L;
         given(memberRepository.findById(anyLong()))
             .willReturn(Optional.of(member));
-        given(followRepository.countByFollowee(any(member.getClass())))
-            .willReturn(followerCount);
-        given(followRepository.countByFollower(any(member.getClass())))
-            .willReturn(followingCount);
 
         //when
         OtherProfileResponse profile = memberProfileService.getOtherProfile(anyLong());
@@ -10,11 +10,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.gaethering.gaetheringserver.domain.aws.s3.S3Service;
-import com.gaethering.gaetheringserver.domain.board.entity.Category;
-import com.gaethering.gaetheringserver.domain.board.entity.Post;
 import com.gaethering.gaetheringserver.domain.board.repository.PostRepository;
 import com.gaethering.gaetheringserver.domain.member.dto.auth.LoginInfoResponse;
 import com.gaethering.gaetheringserver.domain.member.dto.mypage.MyPostsResponse;
+import com.gaethering.gaetheringserver.domain.member.dto.mypage.PostInfo;
 import com.gaethering.gaetheringserver.domain.member.dto.signup.SignUpRequest;
 import com.gaethering.gaetheringserver.domain.member.dto.signup.SignUpResponse;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
@@ -241,43 +240,86 @@ class MemberServiceTest {
     void getMyPosts_Success() {
         //given
         Member member = Member.builder()
+            .id(1L)
             .email("test@test.com")
             .nickname("내캉")
+            .postCnt(5)
             .build();
 
-        Post post1 = Post.builder()
-            .title("제목1")
-            .category(Category.builder()
-                .id(1L)
-                .categoryName("카테고리")
-                .build())
-            .member(member)
+        List<PostInfo> posts = List.of(
+            PostInfo.builder().postId(5L).title("제목5").build(),
+            PostInfo.builder().postId(4L).title("제목4").build(),
+            PostInfo.builder().postId(3L).title("제목3").build());
+
+        given(memberRepository.findByEmail(anyString()))
+            .willReturn(Optional.of(member));
+
+        given(postRepository.findPostInfosByMemberId(1L, Long.MAX_VALUE, 3))
+            .willReturn(posts);
+
+        //when
+        MyPostsResponse response = memberService.getMyPosts("test@test.com", 2,
+            Long.MAX_VALUE);
+
+        //then
+        assertEquals(5, response.getPostCount());
+        assertEquals(2, response.getPosts().size());
+        assertEquals(5L, response.getPosts().get(0).getPostId());
+        assertEquals("제목5", response.getPosts().get(0).getTitle());
+        assertEquals(4L, response.getPosts().get(1).getPostId());
+        assertEquals(4L, response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("내가 쓴 글 조회 성공_마지막 페이지")
+    void getMyPosts_Success_LastPage() {
+        //given
+        Member member = Member.builder()
+            .id(1L)
+            .email("test@test.com")
+            .postCnt(1)
             .build();
 
-        Post post2 = Post.builder()
-            .title("제목2")
-            .category(Category.builder()
-                .id(1L)
-                .categoryName("카테고리")
-                .build())
-            .member(member)
+        given(memberRepository.findByEmail(anyString()))
+            .willReturn(Optional.of(member));
+
+        given(postRepository.findPostInfosByMemberId(1L, 10L, 101))
+            .willReturn(List.of(PostInfo.builder().postId(3L).title("제목3").build()));
+
+        //when
+        MyPostsResponse response = memberService.getMyPosts("test@test.com", 1000, 10L);
+
+        //then
+        assertEquals(1, response.getPosts().size());
+        assertEquals(-1L, response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("내가 쓴 글 조회 성공_페이지 크기가 1보다 작은 경우")
+    void getMyPosts_Success_NonPositiveSize() {
+        //given
+        Member member = Member.builder()
+            .id(1L)
+            .email("test@test.com")
+            .postCnt(3)
             .build();
 
         given(memberRepository.findByEmail(anyString()))
             .willReturn(Optional.of(member));
 
-        given(postRepository.findAllByMember(any()))
-            .willReturn(List.of(post1, post2));
+        given(postRepository.findPostInfosByMemberId(1L, Long.MAX_VALUE, 2))
+            .willReturn(List.of(
+                PostInfo.builder().postId(5L).title("제목5").build(),
+                PostInfo.builder().postId(4L).title("제목4").build()));
 
         //when
-        MyPostsResponse response = memberService.getMyPosts("test@test.com");
+        MyPostsResponse zero = memberService.getMyPosts("test@test.com", 0, Long.MAX_VALUE);
+        MyPostsResponse negative = memberService.getMyPosts("test@test.com", -5, Long.MAX_VALUE);
 
         //then
-        assertEquals(2, response.getPostCount());
-        assertEquals(post1.getId(), response.getPosts().get(0).getPostId());
-        assertEquals(post1.getTitle(), response.getPosts().get(0).getTitle());
-        assertEquals(post2.getId(), response.getPosts().get(1).getPostId());
-        assertEquals(post2.getTitle(), response.getPosts().get(1).getTitle());
+        assertEquals(1, zero.getPosts().size());
+        assertEquals(5L, zero.getNextCursor());
+        assertEquals(1, negative.getPosts().size());
     }
 
     @Test
@@ -290,7 +332,7 @@ class MemberServiceTest {
         //when
         MemberNotFoundException exception = assertThrows(
             MemberNotFoundException.class,
-            () -> memberService.getMyPosts("test@test.com"));
+            () -> memberService.getMyPosts("test@test.com", 20, Long.MAX_VALUE));
 
         //then
         assertEquals(MemberErrorCode.MEMBER_NOT_FOUND, exception.getErrorCode());
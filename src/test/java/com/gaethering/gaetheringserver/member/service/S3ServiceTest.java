@@ -2,12 +2,30 @@ package com.gaethering.gaetheringserver.member.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.S3Object;
+import com.gaethering.gaetheringserver.domain.aws.s3.ImageRendition;
+import com.gaethering.gaetheringserver.domain.aws.s3.S3PartBufferPool;
 import com.gaethering.gaetheringserver.domain.aws.s3.S3ServiceImpl;
+import com.gaethering.gaetheringserver.domain.pet.exception.FailedUploadImageException;
+import com.gaethering.gaetheringserver.domain.pet.exception.ImageSizeExceededException;
 import com.gaethering.gaetheringserver.domain.pet.exception.InvalidImageTypeException;
 import com.gaethering.gaetheringserver.domain.pet.exception.errorcode.PetErrorCode;
 import com.gaethering.gaetheringserver.member.config.AwsS3MockConfig;
-import io.findify.s3mock.S3Mock;
-import org.junit.jupiter.api.AfterEach;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.imageio.ImageIO;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,26 +34,31 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.multipart.MultipartFile;
 
 @Import(AwsS3MockConfig.class)
-@SpringBootTest
+@SpringBootTest(properties = {
+    "cloud.aws.s3.upload.part-size=1KB",
+    "cloud.aws.s3.upload.buffers=4",
+    "spring.servlet.multipart.max-file-size=8KB"})
 @ActiveProfiles("test")
 public class S3ServiceTest {
 
     @Autowired
-    private S3Mock s3Mock;
+    private S3ServiceImpl s3Service;
 
     @Autowired
-    private S3ServiceImpl s3Service;
+    private S3PartBufferPool bufferPool;
+
+    @Autowired
+    private AmazonS3 amazonS3;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
 
     @Value("${test-path}")
     private String testPath;
 
-    @AfterEach
-    public void shutdownMockS3() {
-        s3Mock.stop();
-    }
-
     @Test
     void uploadPetImageFailure_fileExtension() {
         // given
@@ -72,4 +95,248 @@ public class S3ServiceTest {
         assertThat(urlPath.substring(0, urlPath.lastIndexOf("/") + 1)).isEqualTo(path);
     }
 
+    @Test
+    void uploadImagesSuccess() {
+        // given
+        List<MultipartFile> files = IntStream.range(0, 10)
+            .mapToObj(i -> new MockMultipartFile("images", "image" + i + ".png", "image/png",
+                ("image" + i).getBytes()))
+            .collect(Collectors.toList());
+
+        // when
+        List<String> urls = s3Service.uploadImages(files, "upload-dir");
+
+        // then
+        assertThat(urls).hasSize(10).doesNotHaveDuplicates();
+        for (int i = 0; i < urls.size(); i++) {
+            String key = "upload-dir/" + urls.get(i).substring(urls.get(i).lastIndexOf("/") + 1);
+            assertThat(amazonS3.getObjectAsString(bucket, key)).isEqualTo("image" + i);
+        }
+    }
+
+    @Test
+    void uploadImagesFailure_removesUploadedImages() {
+        // given
+        List<MultipartFile> files = List.of(
+            new MockMultipartFile("images", "first.png", "image/png", "first".getBytes()),
+            new MockMultipartFile("images", "broken.png", "image/png", "broken".getBytes()) {
+                @Override
+                public InputStream getInputStream() throws IOException {
+                    throw new IOException("client aborted");
+                }
+            },
+            new MockMultipartFile("images", "third.png", "image/png", "third".getBytes()));
+
+        // when
+        FailedUploadImageException exception = Assertions.assertThrows(
+            FailedUploadImageException.class,
+            () -> s3Service.uploadImages(files, "failed-dir"));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PetErrorCode.FAILED_UPLOAD_IMAGE);
+        assertThat(amazonS3.listObjects(bucket, "failed-dir/").getObjectSummaries()).isEmpty();
+    }
+
+    @Test
+    void uploadImagesFailure_fileExtensionUploadsNothing() {
+        // given
+        List<MultipartFile> files = List.of(
+            new MockMultipartFile("images", "first.png", "image/png", "first".getBytes()),
+            new MockMultipartFile("images", "second.txt", "text/plain", "second".getBytes()));
+
+        // when
+        Assertions.assertThrows(InvalidImageTypeException.class,
+            () -> s3Service.uploadImages(files, "invalid-dir"));
+
+        // then
+        assertThat(amazonS3.listObjects(bucket, "invalid-dir/").getObjectSummaries()).isEmpty();
+    }
+
+    @Test
+    void uploadImageStreamSuccess_singlePart() {
+        // given
+        byte[] image = bytes(700);
+
+        // when
+        String url = s3Service.uploadImageStream(new ByteArrayInputStream(image), "image/png",
+            "stream-dir");
+
+        // then
+        assertThat(url).startsWith(testPath + "/test-bucket/stream-dir/").endsWith(".png");
+        assertThat(readObject(url, "stream-dir")).isEqualTo(image);
+        assertThat(bufferPool.getAvailableBuffers()).isEqualTo(4);
+    }
+
+    @Test
+    void uploadImageStreamSuccess_multipart() {
+        // given
+        byte[] image = bytes(3 * 1024 + 500);
+
+        // when
+        String url = s3Service.uploadImageStream(new ByteArrayInputStream(image), "image/jpeg",
+            "stream-dir");
+
+        // then
+        assertThat(readObject(url, "stream-dir")).isEqualTo(image);
+        assertThat(bufferPool.getAvailableBuffers()).isEqualTo(4);
+    }
+
+    @Test
+    void uploadImageStreamFailure_brokenStream() {
+        // given
+        InputStream broken = new SequenceInputStream(new ByteArrayInputStream(bytes(2048)),
+            new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("client aborted");
+                }
+            });
+
+        // when
+        FailedUploadImageException exception = Assertions.assertThrows(
+            FailedUploadImageException.class,
+            () -> s3Service.uploadImageStream(broken, "image/png", "broken-stream-dir"));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PetErrorCode.FAILED_UPLOAD_IMAGE);
+        assertThat(amazonS3.listObjects(bucket, "broken-stream-dir/").getObjectSummaries())
+            .isEmpty();
+        assertThat(bufferPool.getAvailableBuffers()).isEqualTo(4);
+    }
+
+    @Test
+    void uploadImageStreamFailure_sizeExceeded() {
+        // when
+        ImageSizeExceededException exception = Assertions.assertThrows(
+            ImageSizeExceededException.class,
+            () -> s3Service.uploadImageStream(new ByteArrayInputStream(bytes(9 * 1024)),
+                "image/png", "large-stream-dir"));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(PetErrorCode.IMAGE_SIZE_EXCEEDED);
+        assertThat(amazonS3.listObjects(bucket, "large-stream-dir/").getObjectSummaries())
+            .isEmpty();
+        assertThat(bufferPool.getAvailableBuffers()).isEqualTo(4);
+    }
+
+    @Test
+    void uploadImageStreamFailure_contentType() {
+        Assertions.assertThrows(InvalidImageTypeException.class,
+            () -> s3Service.uploadImageStream(new ByteArrayInputStream(bytes(10)), "text/plain",
+                "stream-dir"));
+    }
+
+    @Test
+    void uploadImageSuccess_storesRenditions() throws IOException {
+        // given
+        MockMultipartFile file = new MockMultipartFile("test", "test.png", "image/png",
+            png(1600, 1200));
+
+        // when
+        String url = s3Service.uploadImage(file, "rendition-dir");
+
+        // then
+        BufferedImage thumb = ImageIO.read(new ByteArrayInputStream(
+            readObject(ImageRendition.THUMB.of(url), "rendition-dir")));
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(
+            readObject(ImageRendition.MEDIUM.of(url), "rendition-dir")));
+        assertThat(thumb.getWidth()).isEqualTo(320);
+        assertThat(thumb.getHeight()).isEqualTo(240);
+        assertThat(medium.getWidth()).isEqualTo(1080);
+        assertThat(medium.getHeight()).isEqualTo(810);
+    }
+
+    @Test
+    void uploadImageSuccess_notDecodableImageIsCopiedAsRendition() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("test", "test.png", "image/png",
+            "test".getBytes());
+
+        // when
+        String url = s3Service.uploadImage(file, "copy-dir");
+
+        // then
+        for (ImageRendition rendition : ImageRendition.values()) {
+            assertThat(readObject(rendition.of(url), "copy-dir")).isEqualTo("test".getBytes());
+        }
+    }
+
+    @Test
+    void uploadImageStreamSuccess_storesRenditions() throws IOException {
+        // given
+        byte[] image = png(800, 400);
+
+        // when
+        String url = s3Service.uploadImageStream(new ByteArrayInputStream(image), "image/png",
+            "stream-rendition-dir");
+
+        // then
+        assertThat(readObject(url, "stream-rendition-dir")).isEqualTo(image);
+        BufferedImage thumb = ImageIO.read(new ByteArrayInputStream(
+            readObject(ImageRendition.THUMB.of(url), "stream-rendition-dir")));
+        assertThat(thumb.getWidth()).isEqualTo(320);
+        assertThat(thumb.getHeight()).isEqualTo(160);
+        assertThat(bufferPool.getAvailableBuffers()).isEqualTo(4);
+    }
+
+    @Test
+    void removeImageSuccess_removesRenditions() {
+        // given
+        String url = s3Service.uploadImage(new MockMultipartFile("test", "test.png", "image/png",
+            png(400, 300)), "remove-dir");
+
+        // when
+        s3Service.removeImage(url, "remove-dir");
+
+        // then
+        assertThat(amazonS3.listObjects(bucket, "remove-dir/").getObjectSummaries()).isEmpty();
+    }
+
+    @Test
+    void removeObjectsSuccess_removesOriginalsAndRenditions() {
+        // given
+        List<String> keys = IntStream.range(0, 3)
+            .mapToObj(i -> s3Service.uploadImage(new MockMultipartFile("test", "test.png",
+                "image/png", png(100, 100)), "outbox-dir"))
+            .map(url -> "outbox-dir/" + url.substring(url.lastIndexOf("/") + 1))
+            .collect(Collectors.toList());
+
+        // when
+        List<String> failed = s3Service.removeObjects(keys);
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(amazonS3.listObjects(bucket, "outbox-dir/").getObjectSummaries()).isEmpty();
+    }
+
+    private byte[] readObject(String url, String dir) {
+        try (S3Object object = amazonS3.getObject(bucket,
+            dir + "/" + url.substring(url.lastIndexOf("/") + 1))) {
+            return object.getObjectContent().readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] png(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
 }
@@ -7,11 +7,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.gaethering.gaetheringserver.core.type.Gender;
+import com.gaethering.gaetheringserver.domain.aws.s3.S3DeletionQueue;
 import com.gaethering.gaetheringserver.domain.aws.s3.S3Service;
 import com.gaethering.gaetheringserver.domain.member.entity.Member;
 import com.gaethering.gaetheringserver.domain.member.exception.errorcode.MemberErrorCode;
@@ -51,6 +52,8 @@ class PetServiceTest {
     @Mock
     S3Service s3Service;
     @Mock
+    S3DeletionQueue s3DeletionQueue;
+    @Mock
     private PetRepository petRepository;
     @Mock
     private MemberRepository memberRepository;
@@ -194,7 +197,6 @@ class PetServiceTest {
         MockMultipartFile file = new MockMultipartFile("test", filename, contentType,
             "test".getBytes());
 
-        willDoNothing().given(s3Service).removeImage(anyString(), anyString());
         given(s3Service.uploadImage(any(), anyString())).willReturn(file.getName());
 
         // when
@@ -202,6 +204,8 @@ class PetServiceTest {
 
         // then
         assertThat(petImageUpdateResponse.getImageUrl()).isEqualTo(file.getName());
+        verify(s3DeletionQueue).enqueue("test", "pet-profile");
+        verify(s3Service, never()).removeImage(anyString(), anyString());
     }
 
     @Test
@@ -418,13 +422,13 @@ class PetServiceTest {
 
         given(memberRepository.findByEmail(anyString()))
             .willReturn(Optional.of(member));
-        willDoNothing().given(s3Service).removeImage(anyString(), anyString());
 
         // when
         boolean result = petService.deletePetProfile("test@test.com", 2L);
 
         // then
         assertThat(result).isTrue();
+        verify(s3DeletionQueue).enqueue("test", "pet-profile");
     }
 
     @Test